@@ -0,0 +1,235 @@
+package com.inghubs.brokage_service.benchmark;
+
+import com.inghubs.brokage_service.BrokageServiceApplication;
+import com.inghubs.brokage_service.dto.request.CreateOrderRequest;
+import com.inghubs.brokage_service.dto.response.AssetResponse;
+import com.inghubs.brokage_service.dto.response.OrderResponse;
+import com.inghubs.brokage_service.model.enums.OrderSide;
+import com.inghubs.brokage_service.service.AssetService;
+import com.inghubs.brokage_service.service.OrderService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Order service hot paths against an embedded H2 database, without the HTTP and security layers.
+ * <ul>
+ *   <li>threadsPerCustomer: benchmark threads sharing one customer, i.e. queueing on the same TRY row lock</li>
+ *   <li>assetCount: assets held by each customer besides TRY</li>
+ *   <li>historySize: matched/canceled orders already on each customer's account</li>
+ *   <li>pendingBatch: PENDING orders each thread has queued for the cancel and match benchmarks</li>
+ * </ul>
+ * Run with {@code ./mvnw -Pbenchmarks test-compile exec:exec}; results are written to target/jmh-result.json.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Threads(4)
+public class OrderServiceBenchmark {
+
+    private static final BigDecimal ONE = new BigDecimal("1.00");
+    private static final BigDecimal TRY_BALANCE = new BigDecimal("1000000000000.00");
+
+    @State(Scope.Benchmark)
+    public static class Application {
+
+        @Param({"1", "4"})
+        public int threadsPerCustomer;
+
+        @Param({"3", "50"})
+        public int assetCount;
+
+        @Param({"0", "10000"})
+        public int historySize;
+
+        ConfigurableApplicationContext context;
+        OrderService orderService;
+        AssetService assetService;
+        List<Long> customerIds;
+
+        @Setup(Level.Trial)
+        public void setUp(BenchmarkParams params) {
+            context = new SpringApplicationBuilder(BrokageServiceApplication.class)
+                    .web(WebApplicationType.NONE)
+                    .properties(
+                            "spring.datasource.url=jdbc:h2:mem:bench_" + UUID.randomUUID() + ";LOCK_TIMEOUT=30000",
+                            "spring.datasource.hikari.maximum-pool-size=" + (params.getThreads() + 4),
+                            "spring.jpa.show-sql=false",
+                            "logging.level.root=WARN")
+                    .run();
+            orderService = context.getBean(OrderService.class);
+            assetService = context.getBean(AssetService.class);
+            int customers = (params.getThreads() + threadsPerCustomer - 1) / threadsPerCustomer;
+            customerIds = seed(context.getBean(JdbcTemplate.class), customers);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+
+        private List<Long> seed(JdbcTemplate jdbcTemplate, int customers) {
+            List<Object[]> customerRows = new ArrayList<>();
+            for (int i = 0; i < customers; i++) {
+                customerRows.add(new Object[]{"bench" + i, "bench", "bench" + i + "@example.com", "CUSTOMER"});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO customers (username, password, email, role) VALUES (?, ?, ?, ?)", customerRows);
+            List<Long> ids = jdbcTemplate.queryForList(
+                    "SELECT id FROM customers WHERE username LIKE 'bench%' ORDER BY id", Long.class);
+
+            List<Object[]> assetRows = new ArrayList<>();
+            List<Object[]> orderRows = new ArrayList<>();
+            Timestamp historyDate = Timestamp.valueOf(LocalDateTime.now().minusDays(30));
+            for (Long customerId : ids) {
+                assetRows.add(new Object[]{customerId, "TRY", TRY_BALANCE, TRY_BALANCE});
+                for (int a = 0; a < assetCount; a++) {
+                    assetRows.add(new Object[]{customerId, "ASSET" + a, TRY_BALANCE, TRY_BALANCE});
+                }
+                for (int o = 0; o < historySize; o++) {
+                    boolean canceled = o % 3 == 0;
+                    orderRows.add(new Object[]{customerId, "ASSET" + (o % assetCount), o % 2 == 0 ? "BUY" : "SELL",
+                            ONE, ONE, canceled ? BigDecimal.ZERO : ONE, canceled ? "CANCELED" : "MATCHED", historyDate});
+                }
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO assets (customer_id, asset_name, size, usable_size) VALUES (?, ?, ?, ?)", assetRows);
+            jdbcTemplate.batchUpdate("INSERT INTO orders (customer_id, asset_name, order_side, size, price, filled_size, status, create_date) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", orderRows);
+            return ids;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Caller {
+
+        Long customerId;
+        CreateOrderRequest buyRequest;
+
+        @Setup(Level.Trial)
+        public void setUp(Application application, ThreadParams thread) {
+            customerId = application.customerIds.get(thread.getThreadIndex() / application.threadsPerCustomer);
+            buyRequest = new CreateOrderRequest();
+            buyRequest.setCustomerId(customerId);
+            buyRequest.setAssetName("ASSET0");
+            buyRequest.setOrderSide(OrderSide.BUY);
+            buyRequest.setSize(ONE);
+            buyRequest.setPrice(ONE);
+        }
+    }
+
+    /**
+     * PENDING orders for the cancel and match benchmarks. The queue is topped up with one JDBC batch
+     * before each iteration, so neither the inserts nor a per-invocation setup hook land in the timed
+     * region. Each batch also takes the TRY reservation that createOrder would have taken.
+     */
+    @State(Scope.Thread)
+    public static class PendingOrders {
+
+        @Param({"100000"})
+        public int pendingBatch;
+
+        private final ArrayDeque<Long> orderIds = new ArrayDeque<>();
+
+        @Setup(Level.Iteration)
+        public void refill(Application application, Caller caller) {
+            int missing = pendingBatch - orderIds.size();
+            if (missing > 0) {
+                JdbcTemplate jdbcTemplate = application.context.getBean(JdbcTemplate.class);
+                orderIds.addAll(insertPending(jdbcTemplate, caller.customerId, missing));
+                // each order is a BUY of 1.00 at 1.00
+                BigDecimal reserved = ONE.multiply(ONE).multiply(BigDecimal.valueOf(missing));
+                jdbcTemplate.update("UPDATE assets SET usable_size = usable_size - ? WHERE customer_id = ? AND asset_name = 'TRY'",
+                        reserved, caller.customerId);
+            }
+        }
+
+        Long next() {
+            Long orderId = orderIds.poll();
+            if (orderId == null) {
+                throw new IllegalStateException("All " + pendingBatch + " pending orders were used in one iteration; raise -p pendingBatch");
+            }
+            return orderId;
+        }
+
+        private static List<Long> insertPending(JdbcTemplate jdbcTemplate, Long customerId, int count) {
+            return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+                List<Long> ids = new ArrayList<>(count);
+                try (PreparedStatement insert = connection.prepareStatement(
+                        "INSERT INTO orders (customer_id, asset_name, order_side, order_type, size, price, filled_size, status, create_date) "
+                                + "VALUES (?, 'ASSET0', 'BUY', 'LIMIT', ?, ?, 0, 'PENDING', ?)", Statement.RETURN_GENERATED_KEYS)) {
+                    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                    for (int i = 0; i < count; i++) {
+                        insert.setLong(1, customerId);
+                        insert.setBigDecimal(2, ONE);
+                        insert.setBigDecimal(3, ONE);
+                        insert.setTimestamp(4, now);
+                        insert.addBatch();
+                    }
+                    insert.executeBatch();
+                    try (ResultSet keys = insert.getGeneratedKeys()) {
+                        while (keys.next()) {
+                            ids.add(keys.getLong(1));
+                        }
+                    }
+                }
+                return ids;
+            });
+        }
+    }
+
+    @Benchmark
+    public OrderResponse createOrder(Application application, Caller caller) {
+        return application.orderService.createOrder(caller.buyRequest, caller.customerId, false);
+    }
+
+    @Benchmark
+    public void deleteOrder(Application application, Caller caller, PendingOrders pending) {
+        application.orderService.deleteOrder(pending.next(), caller.customerId, false);
+    }
+
+    @Benchmark
+    public OrderResponse matchOrder(Application application, PendingOrders pending) {
+        return application.orderService.matchOrder(pending.next());
+    }
+
+    @Benchmark
+    public List<AssetResponse> listAssets(Application application, Caller caller) {
+        return application.assetService.listAssets(caller.customerId, null, caller.customerId, false);
+    }
+
+    @Benchmark
+    public List<OrderResponse> listOrders(Application application, Caller caller) {
+        return application.orderService.listOrders(caller.customerId, null, null, null, caller.customerId, false);
+    }
+}
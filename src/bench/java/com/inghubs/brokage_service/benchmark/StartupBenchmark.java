@@ -0,0 +1,197 @@
+package com.inghubs.brokage_service.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Launches the packaged application as a fresh JVM per run and measures the time from process start
+ * to the first successful POST /api/orders, which is when a new pod can actually take order traffic.
+ * Expects the layout produced by {@code ./mvnw -Pproduction package} in target/application.
+ * <p>
+ * Arguments: {@code --runs=5 --app-dir=target/application --variant=label=<jvm options> ...}; without
+ * --variant the plain jar, the production profile and production with AOT and CDS are compared.
+ */
+public class StartupBenchmark {
+
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern STARTED = Pattern.compile("Started \\w+ in ([0-9.]+) seconds");
+    private static final long TIMEOUT_NANOS = TimeUnit.MINUTES.toNanos(2);
+
+    public static void main(String[] args) throws Exception {
+        int runs = Integer.parseInt(stringArg(args, "runs", "5"));
+        Path appDir = Path.of(stringArg(args, "app-dir", "target/application")).toAbsolutePath();
+        Path jar = findJar(appDir);
+        Map<String, String> variants = variants(args);
+        Path logDir = Files.createDirectories(Path.of("target", "startup"));
+
+        System.out.printf("Java %s, %s, %d runs per variant%n", Runtime.version(), jar.getFileName(), runs);
+        List<Result> results = new ArrayList<>();
+        for (Map.Entry<String, String> variant : variants.entrySet()) {
+            for (int run = 1; run <= runs; run++) {
+                Result result = launch(variant.getKey(), variant.getValue(), appDir, jar,
+                        logDir.resolve(variant.getKey() + "-" + run + ".log").toFile());
+                System.out.println(result);
+                results.add(result);
+            }
+        }
+
+        System.out.println();
+        System.out.println(String.format("%-10s %14s %18s %16s", "variant", "started s", "first order ms", "order call ms")
+                + "   (medians)");
+        for (String label : variants.keySet()) {
+            List<Result> ofVariant = results.stream().filter(r -> r.label().equals(label)).toList();
+            System.out.printf("%-10s %14.2f %18.0f %16.1f%n", label,
+                    median(ofVariant.stream().mapToDouble(Result::springStartedSeconds).toArray()),
+                    median(ofVariant.stream().mapToDouble(Result::firstOrderMillis).toArray()),
+                    median(ofVariant.stream().mapToDouble(Result::orderCallMillis).toArray()));
+        }
+    }
+
+    private static Result launch(String label, String jvmOptions, Path appDir, Path jar, File log) throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if (!jvmOptions.isBlank()) {
+            command.addAll(Arrays.asList(jvmOptions.trim().split("\\s+")));
+        }
+        command.addAll(List.of("-jar", jar.toString(), "--server.port=" + port));
+
+        HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        String baseUrl = "http://localhost:" + port;
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(appDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+        try {
+            String token = null;
+            while (System.nanoTime() - start < TIMEOUT_NANOS) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(label + " exited with " + process.exitValue() + ", see " + log);
+                }
+                if (token == null) {
+                    token = login(http, baseUrl);
+                }
+                if (token != null) {
+                    long orderStart = System.nanoTime();
+                    if (createOrder(http, baseUrl, token)) {
+                        long end = System.nanoTime();
+                        return new Result(label, (end - start) / 1e6, (end - orderStart) / 1e6, springStarted(log));
+                    }
+                }
+                Thread.sleep(5);
+            }
+            throw new IllegalStateException(label + " did not accept an order within 2 minutes, see " + log);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static String login(HttpClient http, String baseUrl) {
+        try {
+            HttpResponse<String> response = http.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"customer1\",\"password\":\"customer123\"}"))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            Matcher matcher = TOKEN.matcher(response.body());
+            return response.statusCode() == 200 && matcher.find() ? matcher.group(1) : null;
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean createOrder(HttpClient http, String baseUrl, String token) throws InterruptedException {
+        try {
+            return http.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/orders"))
+                    .header("Authorization", "Bearer " + token)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"customerId\":2,\"assetName\":\"AAPL\",\"orderSide\":\"BUY\",\"size\":1,\"price\":1}"))
+                    .build(), HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static double springStarted(File log) throws IOException {
+        Matcher matcher = STARTED.matcher(Files.readString(log.toPath()));
+        return matcher.find() ? Double.parseDouble(matcher.group(1)) : Double.NaN;
+    }
+
+    private static Path findJar(Path appDir) throws IOException {
+        try (var files = Files.list(appDir)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".jar"))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("No jar in " + appDir + ", run ./mvnw -Pproduction package first"));
+        }
+    }
+
+    private static Map<String, String> variants(String[] args) {
+        Map<String, String> variants = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--variant=")) {
+                String spec = arg.substring("--variant=".length());
+                int separator = spec.indexOf('=');
+                variants.put(spec.substring(0, separator), spec.substring(separator + 1));
+            }
+        }
+        if (variants.isEmpty()) {
+            variants.put("jar", "");
+            variants.put("lazy", "-Dspring.profiles.active=production");
+            variants.put("aot+cds", "-XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true " +
+                    "-Dspring.profiles.active=production");
+        }
+        return variants;
+    }
+
+    private static String stringArg(String[] args, String name, String defaultValue) {
+        String prefix = "--" + name + "=";
+        for (String arg : args) {
+            if (arg.startsWith(prefix)) {
+                return arg.substring(prefix.length());
+            }
+        }
+        return defaultValue;
+    }
+
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted.length == 0 ? Double.NaN : sorted[sorted.length / 2];
+    }
+
+    private record Result(String label, double firstOrderMillis, double orderCallMillis, double springStartedSeconds) {
+
+        @Override
+        public String toString() {
+            return String.format("%-10s started in %.2f s, first order accepted after %.0f ms (order call %.1f ms)",
+                    label, springStartedSeconds, firstOrderMillis, orderCallMillis);
+        }
+    }
+}
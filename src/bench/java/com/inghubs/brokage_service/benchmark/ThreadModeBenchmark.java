@@ -0,0 +1,232 @@
+package com.inghubs.brokage_service.benchmark;
+
+import com.inghubs.brokage_service.BrokageServiceApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Boots the application once with platform request threads and once with virtual threads and drives
+ * both with the same closed-loop load: many concurrent clients mixing asset reads with order
+ * create/cancel pairs that queue on the PESSIMISTIC_WRITE lock of the customer's TRY row.
+ * <p>
+ * Arguments: {@code --concurrency=2000 --duration=30 --warmup=10 --read-ratio=0.8 --platform-threads=200
+ * --username=customer1 --password=customer123 --customer-id=2}; the account must own the customer id.
+ */
+public class ThreadModeBenchmark {
+
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern ORDER_ID = Pattern.compile("\"data\"\\s*:\\s*\\{\\s*\"id\"\\s*:\\s*(\\d+)");
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = intArg(args, "concurrency", 2000);
+        int durationSeconds = intArg(args, "duration", 30);
+        int warmupSeconds = intArg(args, "warmup", 10);
+        double readRatio = Double.parseDouble(stringArg(args, "read-ratio", "0.8"));
+        int platformThreads = intArg(args, "platform-threads", 200);
+        Account account = new Account(stringArg(args, "username", "customer1"), stringArg(args, "password", "customer123"),
+                Long.parseLong(stringArg(args, "customer-id", "2")));
+
+        System.out.printf("Java %s, %d clients, %ds measured after %ds warm-up, read ratio %.2f%n",
+                Runtime.version(), concurrency, durationSeconds, warmupSeconds, readRatio);
+
+        Result platform = run("platform", false, platformThreads, account, concurrency, warmupSeconds, durationSeconds, readRatio);
+        Result virtual = run("virtual", true, platformThreads, account, concurrency, warmupSeconds, durationSeconds, readRatio);
+
+        System.out.println();
+        System.out.println(Result.HEADER);
+        System.out.println(platform);
+        System.out.println(virtual);
+        System.out.printf("virtual/platform throughput ratio: %.2f%n", virtual.throughput() / platform.throughput());
+    }
+
+    private static Result run(String mode, boolean virtualThreads, int platformThreads, Account account, int concurrency,
+                              int warmupSeconds, int durationSeconds, double readRatio) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BrokageServiceApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "server.tomcat.threads.max=" + platformThreads,
+                        "server.tomcat.max-connections=20000",
+                        "spring.datasource.hikari.maximum-pool-size=50",
+                        "spring.jpa.show-sql=false",
+                        // measures the thread model, not the per-customer order limit
+                        "rate-limit.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            Client client = new Client("http://localhost:" + port, account.customerId(), clients);
+            String token = client.login(account.username(), account.password());
+
+            runPhase(client, token, concurrency, warmupSeconds, readRatio, clients);
+            Result result = runPhase(client, token, concurrency, durationSeconds, readRatio, clients);
+            return result.withMode(mode);
+        } finally {
+            context.close();
+        }
+    }
+
+    private static Result runPhase(Client client, String token, int concurrency, int seconds,
+                                   double readRatio, ExecutorService clients) throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        LongAdder errors = new LongAdder();
+        List<Future<long[]>> workers = new ArrayList<>(concurrency);
+        long start = System.nanoTime();
+        for (int i = 0; i < concurrency; i++) {
+            workers.add(clients.submit(() -> {
+                long[] latencies = new long[1024];
+                int count = 0;
+                while (running.get()) {
+                    long t0 = System.nanoTime();
+                    boolean ok;
+                    if (ThreadLocalRandom.current().nextDouble() < readRatio) {
+                        ok = client.listAssets(token);
+                    } else {
+                        ok = client.createAndCancel(token);
+                    }
+                    if (!ok) {
+                        errors.increment();
+                        continue;
+                    }
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+                    latencies[count++] = System.nanoTime() - t0;
+                }
+                return Arrays.copyOf(latencies, count);
+            }));
+        }
+        Thread.sleep(seconds * 1000L);
+        running.set(false);
+        long elapsed = System.nanoTime() - start;
+
+        List<long[]> samples = new ArrayList<>(concurrency);
+        for (Future<long[]> worker : workers) {
+            samples.add(worker.get());
+        }
+        return Result.of(samples, errors.sum(), elapsed);
+    }
+
+    private static int intArg(String[] args, String name, int defaultValue) {
+        return Integer.parseInt(stringArg(args, name, String.valueOf(defaultValue)));
+    }
+
+    private static String stringArg(String[] args, String name, String defaultValue) {
+        String prefix = "--" + name + "=";
+        for (String arg : args) {
+            if (arg.startsWith(prefix)) {
+                return arg.substring(prefix.length());
+            }
+        }
+        return defaultValue;
+    }
+
+    private record Account(String username, String password, long customerId) {
+    }
+
+    private record Client(String baseUrl, long customerId, HttpClient http) {
+
+        Client(String baseUrl, long customerId, ExecutorService executor) {
+            this(baseUrl, customerId, HttpClient.newBuilder()
+                    .executor(executor)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build());
+        }
+
+        String login(String username, String password) throws Exception {
+            HttpResponse<String> response = http.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}"))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            Matcher matcher = TOKEN.matcher(response.body());
+            if (!matcher.find()) {
+                throw new IllegalStateException("Login failed: " + response.body());
+            }
+            return matcher.group(1);
+        }
+
+        boolean listAssets(String token) {
+            return send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/assets?customerId=" + customerId))
+                    .header("Authorization", "Bearer " + token)
+                    .GET().build()) != null;
+        }
+
+        boolean createAndCancel(String token) {
+            String body = send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/orders"))
+                    .header("Authorization", "Bearer " + token)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"customerId\":" + customerId + ",\"assetName\":\"AAPL\",\"orderSide\":\"BUY\",\"size\":1,\"price\":1}"))
+                    .build());
+            if (body == null) {
+                return false;
+            }
+            Matcher matcher = ORDER_ID.matcher(body);
+            if (!matcher.find()) {
+                return false;
+            }
+            return send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/orders/" + matcher.group(1)))
+                    .header("Authorization", "Bearer " + token)
+                    .DELETE().build()) != null;
+        }
+
+        private String send(HttpRequest request) {
+            try {
+                HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+                return response.statusCode() == 200 ? response.body() : null;
+            } catch (Exception e) {
+                return null;
+            }
+        }
+    }
+
+    private record Result(String mode, long operations, long errors, double throughput,
+                          double p50Millis, double p99Millis, double maxMillis) {
+
+        static final String HEADER = String.format("%-9s %12s %8s %12s %9s %9s %9s",
+                "mode", "ops", "errors", "ops/s", "p50 ms", "p99 ms", "max ms");
+
+        static Result of(List<long[]> samples, long errors, long elapsedNanos) {
+            long[] all = samples.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+            double throughput = all.length / (elapsedNanos / 1e9);
+            return new Result(null, all.length, errors, throughput,
+                    percentile(all, 0.50), percentile(all, 0.99), all.length == 0 ? 0 : all[all.length - 1] / 1e6);
+        }
+
+        Result withMode(String mode) {
+            return new Result(mode, operations, errors, throughput, p50Millis, p99Millis, maxMillis);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)] / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-9s %12d %8d %12.1f %9.2f %9.2f %9.2f",
+                    mode, operations, errors, throughput, p50Millis, p99Millis, maxMillis);
+        }
+    }
+}
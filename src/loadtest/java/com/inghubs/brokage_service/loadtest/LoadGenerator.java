@@ -0,0 +1,498 @@
+package com.inghubs.brokage_service.loadtest;
+
+import com.inghubs.brokage_service.BrokageServiceApplication;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Open-model HTTP load test. Boots the application on a random port, seeds synthetic customers, logs
+ * every one of them in through /api/auth/login and then issues requests at a fixed arrival rate.
+ * Customers are picked from a Zipf distribution so a few hot accounts take most of the traffic and
+ * queue on their own TRY row lock.
+ * <p>
+ * Latency is measured from the time a request was scheduled to be sent, not from when it was actually
+ * sent, so a stalled server is charged for the requests that queued up behind the stall
+ * (coordinated-omission correction). The uncorrected service time is reported next to it.
+ * <p>
+ * Arguments: {@code --rate=500 --duration=60 --warmup=10 --customers=1000 --zipf=1.1
+ * --mix=create:35,list-assets:30,list-orders:15,cancel:12,match:8 --max-in-flight=2000 --rate-limit=false}
+ */
+public class LoadGenerator {
+
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern ORDER_ID = Pattern.compile("\"data\"\\s*:\\s*\\{\\s*\"id\"\\s*:\\s*(\\d+)");
+    private static final String PASSWORD = "load123";
+    private static final String[] SYMBOLS = {"AAPL", "GOOGL", "MSFT", "AMZN", "TSLA"};
+    private static final BigDecimal BALANCE = new BigDecimal("1000000000.00");
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    enum Operation {
+        CREATE("create"), LIST_ASSETS("list-assets"), LIST_ORDERS("list-orders"), CANCEL("cancel"), MATCH("match");
+
+        private final String argName;
+
+        Operation(String argName) {
+            this.argName = argName;
+        }
+
+        static Operation fromArg(String name) {
+            for (Operation operation : values()) {
+                if (operation.argName.equals(name)) {
+                    return operation;
+                }
+            }
+            throw new IllegalArgumentException("Unknown operation in --mix: " + name);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int rate = intArg(args, "rate", 500);
+        int durationSeconds = intArg(args, "duration", 60);
+        int warmupSeconds = intArg(args, "warmup", 10);
+        int customers = intArg(args, "customers", 1000);
+        double zipfExponent = Double.parseDouble(stringArg(args, "zipf", "1.1"));
+        Mix mix = Mix.parse(stringArg(args, "mix", "create:35,list-assets:30,list-orders:15,cancel:12,match:8"));
+        int maxInFlight = intArg(args, "max-in-flight", 2000);
+        boolean rateLimit = Boolean.parseBoolean(stringArg(args, "rate-limit", "false"));
+
+        System.out.printf("Java %s, %d req/s for %ds after %ds warm-up, %d customers, zipf s=%.2f, mix %s%n",
+                Runtime.version(), rate, durationSeconds, warmupSeconds, customers, zipfExponent, mix);
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BrokageServiceApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=true",
+                        "server.tomcat.max-connections=20000",
+                        "spring.datasource.hikari.maximum-pool-size=50",
+                        "spring.jpa.show-sql=false",
+                        "rate-limit.enabled=" + rateLimit,
+                        "logging.level.root=WARN")
+                .run();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            List<Long> customerIds = seed(context, customers);
+            Client client = new Client("http://localhost:" + port, clients);
+
+            System.out.printf("Logging in %d customers%n", customerIds.size());
+            Account[] accounts = login(client, customerIds, clients);
+            String adminToken = client.login("admin", "admin123");
+            Workload workload = new Workload(client, accounts, adminToken, mix, new Zipf(accounts.length, zipfExponent));
+
+            run(workload, rate, warmupSeconds, maxInFlight, clients);
+            Report report = run(workload, rate, durationSeconds, maxInFlight, clients);
+            report.print(System.out);
+        } finally {
+            context.close();
+        }
+    }
+
+    private static List<Long> seed(ConfigurableApplicationContext context, int customers) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        // one hash for every account; BCrypt per row would dominate start-up
+        String password = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        List<Object[]> customerRows = new ArrayList<>(customers);
+        for (int i = 0; i < customers; i++) {
+            customerRows.add(new Object[]{"load" + i, password, "load" + i + "@example.com", "CUSTOMER"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO customers (username, password, email, role) VALUES (?, ?, ?, ?)", customerRows);
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM customers WHERE username LIKE 'load%' ORDER BY id", Long.class);
+
+        List<Object[]> assetRows = new ArrayList<>(ids.size() * (SYMBOLS.length + 1));
+        for (Long id : ids) {
+            assetRows.add(new Object[]{id, "TRY", BALANCE, BALANCE});
+            for (String symbol : SYMBOLS) {
+                assetRows.add(new Object[]{id, symbol, BALANCE, BALANCE});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO assets (customer_id, asset_name, size, usable_size) VALUES (?, ?, ?, ?)", assetRows);
+        return ids;
+    }
+
+    private static Account[] login(Client client, List<Long> customerIds, ExecutorService clients) throws Exception {
+        List<Future<Account>> logins = new ArrayList<>(customerIds.size());
+        for (int i = 0; i < customerIds.size(); i++) {
+            long customerId = customerIds.get(i);
+            String username = "load" + i;
+            logins.add(clients.submit(() -> new Account(customerId, client.login(username, PASSWORD))));
+        }
+        Account[] accounts = new Account[logins.size()];
+        for (int i = 0; i < accounts.length; i++) {
+            accounts[i] = logins.get(i).get();
+        }
+        return accounts;
+    }
+
+    private static Report run(Workload workload, int rate, int seconds, int maxInFlight,
+                              ExecutorService clients) throws InterruptedException {
+        Map<Operation, Recorder> corrected = recorders();
+        Map<Operation, Recorder> uncorrected = recorders();
+        Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            errors.put(operation, new LongAdder());
+        }
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long dropped = 0;
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long total = (long) rate * seconds;
+        long start = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long intendedStart = start + i * intervalNanos;
+            long wait;
+            while ((wait = intendedStart - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (!inFlight.tryAcquire()) {
+                // the client is saturated; counted rather than silently delayed
+                dropped++;
+                continue;
+            }
+            Operation operation = workload.nextOperation();
+            clients.execute(() -> {
+                try {
+                    long sent = System.nanoTime();
+                    boolean ok = workload.execute(operation);
+                    long done = System.nanoTime();
+                    if (ok) {
+                        corrected.get(operation).recordValue(Math.min(done - intendedStart, HIGHEST_TRACKABLE_NANOS));
+                        uncorrected.get(operation).recordValue(Math.min(done - sent, HIGHEST_TRACKABLE_NANOS));
+                    } else {
+                        errors.get(operation).increment();
+                    }
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+        inFlight.acquire(maxInFlight);
+        inFlight.release(maxInFlight);
+        long elapsed = System.nanoTime() - start;
+        return Report.of(corrected, uncorrected, errors, dropped, elapsed);
+    }
+
+    private static Map<Operation, Recorder> recorders() {
+        Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(HIGHEST_TRACKABLE_NANOS, 3));
+        }
+        return recorders;
+    }
+
+    private static int intArg(String[] args, String name, int defaultValue) {
+        return Integer.parseInt(stringArg(args, name, String.valueOf(defaultValue)));
+    }
+
+    private static String stringArg(String[] args, String name, String defaultValue) {
+        String prefix = "--" + name + "=";
+        for (String arg : args) {
+            if (arg.startsWith(prefix)) {
+                return arg.substring(prefix.length());
+            }
+        }
+        return defaultValue;
+    }
+
+    private record Account(long customerId, String token) {
+    }
+
+    /**
+     * Picks the next operation and account and keeps a per-account pool of PENDING order ids for the
+     * cancel and match calls. When the pool is empty those calls fall back to creating an order.
+     */
+    private record Workload(Client client, Account[] accounts, String adminToken, Mix mix, Zipf zipf,
+                            List<Queue<Long>> pendingOrders) {
+
+        Workload(Client client, Account[] accounts, String adminToken, Mix mix, Zipf zipf) {
+            this(client, accounts, adminToken, mix, zipf, pendingPools(accounts.length));
+        }
+
+        private static List<Queue<Long>> pendingPools(int accounts) {
+            List<Queue<Long>> pools = new ArrayList<>(accounts);
+            for (int i = 0; i < accounts; i++) {
+                pools.add(new ConcurrentLinkedQueue<>());
+            }
+            return pools;
+        }
+
+        Operation nextOperation() {
+            return mix.next(ThreadLocalRandom.current());
+        }
+
+        boolean execute(Operation operation) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int index = zipf.next(random);
+            Account account = accounts[index];
+            Queue<Long> pending = pendingOrders.get(index);
+            return switch (operation) {
+                case LIST_ASSETS -> client.listAssets(account);
+                case LIST_ORDERS -> client.listOrders(account);
+                case CANCEL, MATCH -> {
+                    Long orderId = pending.poll();
+                    if (orderId == null) {
+                        yield create(account, pending, random);
+                    }
+                    yield operation == Operation.CANCEL
+                            ? client.cancel(account, orderId)
+                            : client.match(adminToken, orderId);
+                }
+                case CREATE -> create(account, pending, random);
+            };
+        }
+
+        private boolean create(Account account, Queue<Long> pending, ThreadLocalRandom random) {
+            String side = random.nextBoolean() ? "BUY" : "SELL";
+            String symbol = SYMBOLS[random.nextInt(SYMBOLS.length)];
+            Long orderId = client.create(account, symbol, side, 1 + random.nextInt(10), 1 + random.nextInt(500));
+            if (orderId == null) {
+                return false;
+            }
+            pending.add(orderId);
+            return true;
+        }
+    }
+
+    private record Mix(Operation[] operations, double[] cumulative) {
+
+        static Mix parse(String spec) {
+            List<Operation> operations = new ArrayList<>();
+            List<Double> weights = new ArrayList<>();
+            double sum = 0;
+            for (String entry : spec.split(",")) {
+                String[] parts = entry.trim().split(":");
+                operations.add(Operation.fromArg(parts[0]));
+                double weight = Double.parseDouble(parts[1]);
+                weights.add(weight);
+                sum += weight;
+            }
+            double[] cumulative = new double[weights.size()];
+            double running = 0;
+            for (int i = 0; i < cumulative.length; i++) {
+                running += weights.get(i) / sum;
+                cumulative[i] = running;
+            }
+            cumulative[cumulative.length - 1] = 1.0;
+            return new Mix(operations.toArray(new Operation[0]), cumulative);
+        }
+
+        Operation next(ThreadLocalRandom random) {
+            double u = random.nextDouble();
+            for (int i = 0; i < cumulative.length; i++) {
+                if (u < cumulative[i]) {
+                    return operations[i];
+                }
+            }
+            return operations[operations.length - 1];
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder();
+            double previous = 0;
+            for (int i = 0; i < operations.length; i++) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+                builder.append(operations[i].argName).append(':').append(Math.round((cumulative[i] - previous) * 100));
+                previous = cumulative[i];
+            }
+            return builder.toString();
+        }
+    }
+
+    /**
+     * Zipf over account ranks 0..n-1 by inverse CDF; rank 0 is the hottest account. An exponent of 0
+     * gives a uniform spread.
+     */
+    private record Zipf(double[] cumulative) {
+
+        Zipf(int n, double exponent) {
+            this(cdf(n, exponent));
+        }
+
+        private static double[] cdf(int n, double exponent) {
+            double[] cumulative = new double[n];
+            double sum = 0;
+            for (int k = 0; k < n; k++) {
+                sum += 1.0 / Math.pow(k + 1, exponent);
+                cumulative[k] = sum;
+            }
+            for (int k = 0; k < n; k++) {
+                cumulative[k] /= sum;
+            }
+            return cumulative;
+        }
+
+        int next(ThreadLocalRandom random) {
+            double u = random.nextDouble();
+            int low = 0;
+            int high = cumulative.length - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (cumulative[mid] < u) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    private record Client(String baseUrl, HttpClient http) {
+
+        Client(String baseUrl, ExecutorService executor) {
+            this(baseUrl, HttpClient.newBuilder()
+                    .executor(executor)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build());
+        }
+
+        String login(String username, String password) throws Exception {
+            HttpResponse<String> response = http.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}"))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            Matcher matcher = TOKEN.matcher(response.body());
+            if (!matcher.find()) {
+                throw new IllegalStateException("Login failed for " + username + ": " + response.body());
+            }
+            return matcher.group(1);
+        }
+
+        boolean listAssets(Account account) {
+            return send(get("/api/assets?customerId=" + account.customerId(), account.token())) != null;
+        }
+
+        boolean listOrders(Account account) {
+            return send(get("/api/orders?customerId=" + account.customerId() + "&status=PENDING", account.token())) != null;
+        }
+
+        Long create(Account account, String symbol, String side, int size, int price) {
+            String body = send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/orders"))
+                    .header("Authorization", "Bearer " + account.token())
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"customerId\":" + account.customerId() + ",\"assetName\":\"" + symbol +
+                                    "\",\"orderSide\":\"" + side + "\",\"size\":" + size + ",\"price\":" + price + "}"))
+                    .build());
+            if (body == null) {
+                return null;
+            }
+            Matcher matcher = ORDER_ID.matcher(body);
+            return matcher.find() ? Long.valueOf(matcher.group(1)) : null;
+        }
+
+        boolean cancel(Account account, long orderId) {
+            return send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/orders/" + orderId))
+                    .header("Authorization", "Bearer " + account.token())
+                    .DELETE().build()) != null;
+        }
+
+        boolean match(String adminToken, long orderId) {
+            return send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/orders/match"))
+                    .header("Authorization", "Bearer " + adminToken)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"orderId\":" + orderId + "}"))
+                    .build()) != null;
+        }
+
+        private HttpRequest get(String path, String token) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Authorization", "Bearer " + token)
+                    .GET().build();
+        }
+
+        private String send(HttpRequest request) {
+            try {
+                HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+                return response.statusCode() == 200 ? response.body() : null;
+            } catch (Exception e) {
+                return null;
+            }
+        }
+    }
+
+    private record Report(Map<Operation, Histogram> corrected, Map<Operation, Histogram> uncorrected,
+                          Map<Operation, Long> errors, long dropped, long elapsedNanos) {
+
+        private static final String HEADER = String.format("%-12s %10s %7s %10s %9s %9s %9s %9s %9s   %9s %9s",
+                "operation", "ok", "errors", "ok/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms",
+                "svc p50", "svc p99");
+
+        static Report of(Map<Operation, Recorder> corrected, Map<Operation, Recorder> uncorrected,
+                         Map<Operation, LongAdder> errors, long dropped, long elapsedNanos) {
+            Map<Operation, Histogram> correctedHistograms = new EnumMap<>(Operation.class);
+            Map<Operation, Histogram> uncorrectedHistograms = new EnumMap<>(Operation.class);
+            Map<Operation, Long> errorCounts = new EnumMap<>(Operation.class);
+            for (Operation operation : Operation.values()) {
+                correctedHistograms.put(operation, corrected.get(operation).getIntervalHistogram());
+                uncorrectedHistograms.put(operation, uncorrected.get(operation).getIntervalHistogram());
+                errorCounts.put(operation, errors.get(operation).sum());
+            }
+            return new Report(correctedHistograms, uncorrectedHistograms, errorCounts, dropped, elapsedNanos);
+        }
+
+        void print(PrintStream out) {
+            Histogram allCorrected = new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+            Histogram allUncorrected = new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+            long allErrors = 0;
+            out.println();
+            out.println(HEADER);
+            for (Operation operation : Operation.values()) {
+                Histogram histogram = corrected.get(operation);
+                if (histogram.getTotalCount() == 0 && errors.get(operation) == 0) {
+                    continue;
+                }
+                out.println(row(operation.argName, histogram, uncorrected.get(operation), errors.get(operation)));
+                allCorrected.add(histogram);
+                allUncorrected.add(uncorrected.get(operation));
+                allErrors += errors.get(operation);
+            }
+            out.println(row("total", allCorrected, allUncorrected, allErrors));
+            out.printf("%d requests dropped at the client because --max-in-flight was reached%n", dropped);
+        }
+
+        private String row(String name, Histogram histogram, Histogram serviceTime, long errorCount) {
+            return String.format("%-12s %10d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f   %9.2f %9.2f",
+                    name, histogram.getTotalCount(), errorCount, histogram.getTotalCount() / (elapsedNanos / 1e9),
+                    millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+                    histogram.getMaxValue() / 1e6,
+                    millis(serviceTime, 50), millis(serviceTime, 99));
+        }
+
+        private static double millis(Histogram histogram, double percentile) {
+            return histogram.getValueAtPercentile(percentile) / 1e6;
+        }
+    }
+}
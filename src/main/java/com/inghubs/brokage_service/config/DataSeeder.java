@@ -0,0 +1,236 @@
+package com.inghubs.brokage_service.config;
+
+import com.inghubs.brokage_service.model.enums.OrderSide;
+import com.inghubs.brokage_service.model.enums.OrderStatus;
+import com.inghubs.brokage_service.model.enums.UserRole;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loads the demo users on an empty database and, when seed.customers is set, synthetic customers,
+ * assets and order history behind them. Rows go in through batched JDBC with explicit ids so key
+ * ranges can be loaded in parallel; the identity columns are moved past the loaded ids afterwards.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class DataSeeder implements CommandLineRunner {
+
+    private static final String TRY_ASSET = "TRY";
+    private static final long DEMO_CUSTOMERS = 3;
+    private static final long DEMO_ASSETS = 5;
+    private static final int SYMBOL_POOL = 500;
+    private static final long HISTORY_SECONDS = 365L * 24 * 60 * 60;
+    private static final BigDecimal SYNTHETIC_TRY = new BigDecimal("1000000.00");
+    private static final BigDecimal SYNTHETIC_HOLDING = new BigDecimal("1000.00");
+
+    private static final String INSERT_CUSTOMER =
+            "INSERT INTO customers (id, username, password, email, role) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_ASSET =
+            "INSERT INTO assets (id, customer_id, asset_name, size, usable_size) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_ORDER =
+            "INSERT INTO orders (id, customer_id, asset_name, order_side, size, price, filled_size, status, create_date) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final SeedProperties seedProperties;
+
+    @Override
+    public void run(String... args) {
+        Long customers = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM customers", Long.class);
+        if (customers == null || customers == 0) {
+            log.info("Database is empty, initializing default data");
+            seedDemoData();
+            if (seedProperties.getCustomers() > 0) {
+                seedSyntheticData();
+            }
+            restartIdentity("customers");
+            restartIdentity("assets");
+            restartIdentity("orders");
+            log.info("Data initialization completed successfully");
+        }
+    }
+
+    private void seedDemoData() {
+        String customerPassword = passwordEncoder.encode("customer123");
+        jdbcTemplate.batchUpdate(INSERT_CUSTOMER, List.of(
+                new Object[]{1L, "admin", passwordEncoder.encode("admin123"), "admin@brokage.com", UserRole.ADMIN.name()},
+                new Object[]{2L, "customer1", customerPassword, "customer1@example.com", UserRole.CUSTOMER.name()},
+                new Object[]{3L, "customer2", customerPassword, "customer2@example.com", UserRole.CUSTOMER.name()}));
+        jdbcTemplate.batchUpdate(INSERT_ASSET, List.of(
+                new Object[]{1L, 2L, TRY_ASSET, new BigDecimal("100000.00"), new BigDecimal("100000.00")},
+                new Object[]{2L, 3L, TRY_ASSET, new BigDecimal("50000.00"), new BigDecimal("50000.00")},
+                new Object[]{3L, 2L, "AAPL", new BigDecimal("100.00"), new BigDecimal("100.00")},
+                new Object[]{4L, 2L, "GOOGL", new BigDecimal("50.00"), new BigDecimal("50.00")},
+                new Object[]{5L, 3L, "MSFT", new BigDecimal("75.00"), new BigDecimal("75.00")}));
+    }
+
+    private void seedSyntheticData() {
+        long customers = seedProperties.getCustomers();
+        int assetsPerCustomer = seedProperties.getAssetsPerCustomer();
+        long orders = seedProperties.getOrders();
+        if (orders > 0 && assetsPerCustomer < 2) {
+            throw new IllegalStateException("seed.orders requires seed.assetsPerCustomer of at least 2");
+        }
+        String passwordHash = seedProperties.getPasswordHash() != null
+                ? seedProperties.getPasswordHash()
+                : passwordEncoder.encode(seedProperties.getPassword());
+        log.info("Seeding {} customers with {} assets each and {} orders in {} partitions",
+                customers, assetsPerCustomer, orders, seedProperties.getPartitions());
+
+        load("customers", INSERT_CUSTOMER, customers, (ps, i) -> {
+            ps.setLong(1, DEMO_CUSTOMERS + 1 + i);
+            ps.setString(2, "user" + i);
+            ps.setString(3, passwordHash);
+            ps.setString(4, "user" + i + "@example.com");
+            ps.setString(5, UserRole.CUSTOMER.name());
+        });
+
+        load("assets", INSERT_ASSET, customers * assetsPerCustomer, (ps, i) -> {
+            long customer = i / assetsPerCustomer;
+            int slot = (int) (i % assetsPerCustomer);
+            BigDecimal size = slot == 0 ? SYNTHETIC_TRY : SYNTHETIC_HOLDING;
+            ps.setLong(1, DEMO_ASSETS + 1 + i);
+            ps.setLong(2, DEMO_CUSTOMERS + 1 + customer);
+            ps.setString(3, assetName(customer, slot, assetsPerCustomer));
+            ps.setBigDecimal(4, size);
+            ps.setBigDecimal(5, size);
+        });
+
+        LocalDateTime now = LocalDateTime.now();
+        load("orders", INSERT_ORDER, orders, (ps, i) -> {
+            long customer = i % customers;
+            int slot = 1 + (int) ((i / customers) % (assetsPerCustomer - 1));
+            ps.setLong(1, 1 + i);
+            ps.setLong(2, DEMO_CUSTOMERS + 1 + customer);
+            ps.setString(3, assetName(customer, slot, assetsPerCustomer));
+            ps.setString(4, (i & 1) == 0 ? OrderSide.BUY.name() : OrderSide.SELL.name());
+            BigDecimal size = BigDecimal.valueOf(1 + i % 10);
+            boolean canceled = i % 4 == 0;
+            ps.setBigDecimal(5, size);
+            ps.setBigDecimal(6, BigDecimal.valueOf(100 + (i * 31) % 50_000, 2));
+            ps.setBigDecimal(7, canceled ? BigDecimal.ZERO : size);
+            ps.setString(8, canceled ? OrderStatus.CANCELED.name() : OrderStatus.MATCHED.name());
+            ps.setTimestamp(9, Timestamp.valueOf(now.minusSeconds((i * 7919) % HISTORY_SECONDS)));
+        });
+    }
+
+    // slot 0 is TRY; the others are distinct symbols per customer drawn from a shared pool
+    private static String assetName(long customer, int slot, int assetsPerCustomer) {
+        if (slot == 0) {
+            return TRY_ASSET;
+        }
+        return String.format("SYM%03d", (customer + slot - 1) % Math.max(SYMBOL_POOL, assetsPerCustomer));
+    }
+
+    private void load(String table, String sql, long rows, RowWriter writer) {
+        if (rows == 0) {
+            return;
+        }
+        int partitions = (int) Math.max(1, Math.min(seedProperties.getPartitions(), rows));
+        long perPartition = (rows + partitions - 1) / partitions;
+        Progress progress = new Progress(table, rows, seedProperties.getProgressInterval());
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(partitions)) {
+            List<Future<?>> loads = new ArrayList<>(partitions);
+            for (long from = 0; from < rows; from += perPartition) {
+                long start = from;
+                long end = Math.min(rows, from + perPartition);
+                loads.add(executor.submit(() -> loadRange(sql, start, end, writer, progress)));
+            }
+            for (Future<?> partition : loads) {
+                partition.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Seeding " + table + " failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Seeding " + table + " was interrupted", e);
+        }
+        progress.finish();
+    }
+
+    private void loadRange(String sql, long start, long end, RowWriter writer, Progress progress) {
+        int batchSize = seedProperties.getBatchSize();
+        for (long batchStart = start; batchStart < end; batchStart += batchSize) {
+            long offset = batchStart;
+            int size = (int) Math.min(batchSize, end - batchStart);
+            jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    writer.write(ps, offset + i);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return size;
+                }
+            });
+            progress.add(size);
+        }
+    }
+
+    private void restartIdentity(String table) {
+        Long next = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table, Long.class);
+        jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(PreparedStatement ps, long row) throws SQLException;
+    }
+
+    private static final class Progress {
+
+        private final String table;
+        private final long total;
+        private final long interval;
+        private final long startNanos = System.nanoTime();
+        private final AtomicLong done = new AtomicLong();
+
+        private Progress(String table, long total, long interval) {
+            this.table = table;
+            this.total = total;
+            this.interval = Math.max(1, interval);
+        }
+
+        void add(long rows) {
+            long after = done.addAndGet(rows);
+            if ((after - rows) / interval != after / interval) {
+                log.info("Seeded {}/{} {} ({} rows/s)", after, total, table, rate(after));
+            }
+        }
+
+        void finish() {
+            log.info("Seeded {} {} in {} s ({} rows/s)", total, table,
+                    (System.nanoTime() - startNanos) / 1_000_000_000, rate(total));
+        }
+
+        private long rate(long rows) {
+            long elapsedNanos = Math.max(1, System.nanoTime() - startNanos);
+            return rows * 1_000_000_000L / elapsedNanos;
+        }
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Slf4j
@@ -28,6 +29,7 @@ public class JwtUtil {
     
     public String generateToken(String username, String role, Long customerId) {
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(username)
                 .claim("role", role)
                 .claim("customerId", customerId)
@@ -49,6 +51,10 @@ public class JwtUtil {
         return extractClaim(token, claims -> claims.get("customerId", Long.class));
     }
     
+    public String extractTokenId(String token) {
+        return extractClaim(token, Claims::getId);
+    }
+    
     public Date extractExpiration(String token) {
         return extractClaim(token, Claims::getExpiration);
     }
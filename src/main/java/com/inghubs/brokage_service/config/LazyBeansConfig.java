@@ -0,0 +1,57 @@
+package com.inghubs.brokage_service.config;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.MethodMetadata;
+
+import java.util.List;
+
+/**
+ * Makes beans that are not on the order path lazy, such as the API docs, so they stay out of startup.
+ * A bean matches startup.lazy-bean-prefixes on its class or, for @Bean methods, on the declaring
+ * configuration class. Under AOT the lazy flag is recorded in the generated bean definitions.
+ */
+@Configuration
+public class LazyBeansConfig {
+
+    @Bean
+    static BeanFactoryPostProcessor lazyNonCriticalBeans(Environment environment) {
+        List<String> prefixes = Binder.get(environment)
+                .bind("startup.lazy-bean-prefixes", Bindable.listOf(String.class))
+                .orElse(List.of());
+        return beanFactory -> {
+            if (prefixes.isEmpty()) {
+                return;
+            }
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                if (definition.getRole() != BeanDefinition.ROLE_INFRASTRUCTURE && matches(definition, prefixes)) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    private static boolean matches(BeanDefinition definition, List<String> prefixes) {
+        String type = definition.getBeanClassName();
+        if (type == null && definition instanceof AnnotatedBeanDefinition annotated) {
+            MethodMetadata factoryMethod = annotated.getFactoryMethodMetadata();
+            type = factoryMethod != null ? factoryMethod.getDeclaringClassName() : null;
+        }
+        if (type == null) {
+            return false;
+        }
+        for (String prefix : prefixes) {
+            if (type.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,50 @@
+package com.inghubs.brokage_service.config;
+
+import com.inghubs.brokage_service.model.enums.UserRole;
+import com.inghubs.brokage_service.service.OrderRateLimiter;
+import com.inghubs.brokage_service.util.SecurityUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Applies {@link OrderRateLimiter} to the order-entry endpoints (create, cancel, match); listing is not
+ * limited. Runs after authentication, so the caller's customer id and role are known.
+ */
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class OrderRateLimitInterceptor implements HandlerInterceptor {
+
+    private static final String ADMITTED = OrderRateLimitInterceptor.class.getName() + ".ADMITTED";
+
+    private final OrderRateLimiter orderRateLimiter;
+    private final SecurityUtil securityUtil;
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
+        if (!HttpMethod.POST.matches(request.getMethod()) && !HttpMethod.DELETE.matches(request.getMethod())
+                && !HttpMethod.PATCH.matches(request.getMethod())) {
+            return true;
+        }
+        UserRole role = securityUtil.isAdmin() ? UserRole.ADMIN : UserRole.CUSTOMER;
+        orderRateLimiter.checkRate(securityUtil.getAuthenticatedCustomerId(request), role);
+        orderRateLimiter.admit();
+        request.setAttribute(ADMITTED, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, Exception ex) {
+        if (request.getAttribute(ADMITTED) != null) {
+            request.removeAttribute(ADMITTED);
+            orderRateLimiter.release();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.inghubs.brokage_service.config;
+
+import com.inghubs.brokage_service.model.enums.UserRole;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Order transactions allowed to run concurrently across all customers; further requests get 429.
+     */
+    private int maxInFlight = 64;
+
+    /**
+     * Per-customer limits by role; a role without an entry is not rate limited.
+     */
+    private Map<UserRole, Limit> roles = new EnumMap<>(UserRole.class);
+
+    @Data
+    public static class Limit {
+        private double requestsPerSecond = 20;
+        private int burst = 40;
+    }
+}
@@ -0,0 +1,47 @@
+package com.inghubs.brokage_service.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "risk")
+public class RiskProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * Limits for every customer; an unset limit is not enforced.
+     */
+    private Limits defaults = new Limits();
+
+    /**
+     * Per-customer overrides by customer id; unset fields fall back to {@link #defaults}.
+     */
+    private Map<Long, Limits> customers = new HashMap<>();
+
+    @Data
+    public static class Limits {
+        /**
+         * Largest size * price of a single order, in TRY.
+         */
+        private BigDecimal maxOrderNotional;
+
+        private Integer maxOpenOrders;
+
+        /**
+         * Largest holding plus open BUY size per asset.
+         */
+        private BigDecimal maxPosition;
+
+        /**
+         * Notional of the orders a customer may enter per calendar day, in TRY.
+         */
+        private BigDecimal maxDailyVolume;
+    }
+}
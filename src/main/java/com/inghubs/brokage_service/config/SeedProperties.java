@@ -0,0 +1,49 @@
+package com.inghubs.brokage_service.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Synthetic data loaded after the demo users, e.g. {@code --seed.customers=1000000 --seed.assetsPerCustomer=10
+ * --seed.orders=50000000}. Nothing beyond the demo data is loaded with the defaults.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "seed")
+public class SeedProperties {
+
+    private long customers = 0;
+
+    /**
+     * Including TRY.
+     */
+    private int assetsPerCustomer = 5;
+
+    /**
+     * Historical MATCHED and CANCELED orders spread round-robin over the synthetic customers.
+     */
+    private long orders = 0;
+
+    /**
+     * Login password of every synthetic customer (username user{n}); hashed once.
+     */
+    private String password = "customer123";
+
+    /**
+     * Precomputed encoded password; when set, the seeder does not hash at all.
+     */
+    private String passwordHash;
+
+    private int batchSize = 10_000;
+
+    /**
+     * Key ranges loaded concurrently, each on its own connection.
+     */
+    private int partitions = 1;
+
+    /**
+     * Rows between progress log lines.
+     */
+    private long progressInterval = 1_000_000;
+}
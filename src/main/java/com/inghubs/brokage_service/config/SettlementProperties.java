@@ -0,0 +1,38 @@
+package com.inghubs.brokage_service.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * How fills reach the asset rows: IMMEDIATE applies each fill inside the matching transaction,
+ * DEFERRED only records the fill and leaves the asset updates to the settlement batch.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "settlement")
+public class SettlementProperties {
+
+    public enum Mode { IMMEDIATE, DEFERRED }
+
+    private Mode mode = Mode.IMMEDIATE;
+
+    /**
+     * Schedule of the settlement batch; "-" disables it.
+     */
+    private String cron = "0 0 23 * * *";
+
+    /**
+     * Customer id ranges settled in parallel.
+     */
+    private int partitions = 4;
+
+    /**
+     * Customer ids per chunk; each chunk is one transaction and one checkpoint.
+     */
+    private int chunkSize = 1000;
+
+    public boolean isDeferred() {
+        return mode == Mode.DEFERRED;
+    }
+}
@@ -0,0 +1,176 @@
+package com.inghubs.brokage_service.config;
+
+import com.inghubs.brokage_service.dto.request.CreateOrderRequest;
+import com.inghubs.brokage_service.metrics.AssetLockMonitor;
+import com.inghubs.brokage_service.metrics.OrderMetrics;
+import com.inghubs.brokage_service.model.entity.Asset;
+import com.inghubs.brokage_service.model.entity.Customer;
+import com.inghubs.brokage_service.model.enums.OrderSide;
+import com.inghubs.brokage_service.model.enums.OrderStatus;
+import com.inghubs.brokage_service.model.enums.UserRole;
+import com.inghubs.brokage_service.repository.AssetRepository;
+import com.inghubs.brokage_service.repository.CustomerRepository;
+import com.inghubs.brokage_service.service.AssetService;
+import com.inghubs.brokage_service.service.CustomerVersionTracker;
+import com.inghubs.brokage_service.service.LastTradePrices;
+import com.inghubs.brokage_service.service.OrderService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Drives the order, asset and token hot paths against a throwaway customer until they are
+ * JIT-compiled, then deletes the customer again (warmup.enabled=true). Runners finish before Boot
+ * publishes ApplicationReadyEvent, so the readiness probe only reports UP once the warm-up is done.
+ */
+@Slf4j
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@ConditionalOnProperty(name = "warmup.enabled", havingValue = "true")
+public class WarmUpRunner implements ApplicationRunner {
+
+    private static final String TRY_ASSET = "TRY";
+    private static final String STOCK = "WARMUP";
+    private static final BigDecimal BALANCE = new BigDecimal("1000000000.00");
+
+    private final OrderService orderService;
+    private final AssetService assetService;
+    private final JwtUtil jwtUtil;
+    private final CustomerRepository customerRepository;
+    private final AssetRepository assetRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final AssetLockMonitor assetLockMonitor;
+    private final OrderMetrics orderMetrics;
+    private final CustomerVersionTracker customerVersionTracker;
+    private final LastTradePrices lastTradePrices;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int iterations;
+    private final Duration maxDuration;
+
+    public WarmUpRunner(OrderService orderService,
+                        AssetService assetService,
+                        JwtUtil jwtUtil,
+                        CustomerRepository customerRepository,
+                        AssetRepository assetRepository,
+                        JdbcTemplate jdbcTemplate,
+                        AssetLockMonitor assetLockMonitor,
+                        OrderMetrics orderMetrics,
+                        CustomerVersionTracker customerVersionTracker,
+                        LastTradePrices lastTradePrices,
+                        ApplicationEventPublisher eventPublisher,
+                        @Value("${warmup.iterations:10000}") int iterations,
+                        @Value("${warmup.max-duration:PT60S}") Duration maxDuration) {
+        this.orderService = orderService;
+        this.assetService = assetService;
+        this.jwtUtil = jwtUtil;
+        this.customerRepository = customerRepository;
+        this.assetRepository = assetRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.assetLockMonitor = assetLockMonitor;
+        this.orderMetrics = orderMetrics;
+        this.customerVersionTracker = customerVersionTracker;
+        this.lastTradePrices = lastTradePrices;
+        this.eventPublisher = eventPublisher;
+        this.iterations = iterations;
+        this.maxDuration = maxDuration;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        long start = System.nanoTime();
+        long deadline = start + maxDuration.toNanos();
+        Customer customer = createCustomer();
+        int completed = 0;
+        try {
+            CreateOrderRequest buy = request(customer.getId(), OrderSide.BUY);
+            CreateOrderRequest sell = request(customer.getId(), OrderSide.SELL);
+            while (completed < iterations && System.nanoTime() < deadline) {
+                iterate(customer, buy, sell);
+                completed++;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Warm-up stopped after {} iterations", completed, e);
+        } finally {
+            cleanUp(customer.getId());
+            customerVersionTracker.forget(customer.getId());
+            lastTradePrices.evict(STOCK);
+            // the throwaway customer's locks and orders should not show up in the contended keys and order metrics
+            assetLockMonitor.reset();
+            orderMetrics.reset();
+        }
+        log.info("Warm-up finished: {} of {} iterations in {} ms", completed, iterations,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void iterate(Customer customer, CreateOrderRequest buy, CreateOrderRequest sell) {
+        Long customerId = customer.getId();
+        String token = jwtUtil.generateToken(customer.getUsername(), customer.getRole().name(), customerId);
+        if (!jwtUtil.validateToken(token, jwtUtil.extractUsername(token))) {
+            throw new IllegalStateException("Warm-up token did not validate");
+        }
+        jwtUtil.extractCustomerId(token);
+        jwtUtil.extractRole(token);
+
+        Long buyId = orderService.createOrder(buy, customerId, false).getId();
+        Long sellId = orderService.createOrder(sell, customerId, false).getId();
+        orderService.deleteOrder(buyId, customerId, false);
+        orderService.matchOrder(sellId);
+        Long matchedBuyId = orderService.createOrder(buy, customerId, false).getId();
+        orderService.matchOrder(matchedBuyId);
+
+        assetService.listAssets(customerId, null, customerId, false);
+        // PENDING keeps the listing short while matched orders pile up
+        orderService.listOrders(customerId, null, null, OrderStatus.PENDING, customerId, false);
+    }
+
+    private Customer createCustomer() {
+        String username = "warmup-" + UUID.randomUUID();
+        Customer customer = customerRepository.save(Customer.builder()
+                .username(username)
+                .password("!")
+                .email(username + "@localhost")
+                .role(UserRole.CUSTOMER)
+                .build());
+        for (String assetName : new String[]{TRY_ASSET, STOCK}) {
+            assetRepository.save(Asset.builder()
+                    .customer(customer)
+                    .assetName(assetName)
+                    .size(BALANCE)
+                    .usableSize(BALANCE)
+                    .build());
+        }
+        return customer;
+    }
+
+    private static CreateOrderRequest request(Long customerId, OrderSide side) {
+        CreateOrderRequest request = new CreateOrderRequest();
+        request.setCustomerId(customerId);
+        request.setAssetName(STOCK);
+        request.setOrderSide(side);
+        request.setSize(BigDecimal.ONE);
+        request.setPrice(BigDecimal.ONE);
+        return request;
+    }
+
+    private void cleanUp(Long customerId) {
+        jdbcTemplate.update("DELETE FROM stop_orders WHERE customer_id = ?", customerId);
+        jdbcTemplate.update("DELETE FROM order_fills WHERE order_id IN (SELECT id FROM orders WHERE customer_id = ?)", customerId);
+        jdbcTemplate.update("DELETE FROM orders WHERE customer_id = ?", customerId);
+        jdbcTemplate.update("DELETE FROM assets WHERE customer_id = ?", customerId);
+        jdbcTemplate.update("DELETE FROM customers WHERE id = ?", customerId);
+    }
+}
@@ -0,0 +1,43 @@
+package com.inghubs.brokage_service.config;
+
+import com.inghubs.brokage_service.metrics.EndpointLatencyFilter;
+import com.inghubs.brokage_service.metrics.EndpointLatencyRecorders;
+import com.inghubs.brokage_service.protobuf.ApiProtobufMessageConverter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final OrderRateLimitInterceptor orderRateLimitInterceptor;
+
+    @Bean
+    public FilterRegistrationBean<EndpointLatencyFilter> endpointLatencyFilter(EndpointLatencyRecorders recorders) {
+        FilterRegistrationBean<EndpointLatencyFilter> registration = new FilterRegistrationBean<>(new EndpointLatencyFilter(recorders));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // appended last so JSON stays the default for Accept: */* and missing Accept headers
+        converters.add(new ApiProtobufMessageConverter());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(orderRateLimitInterceptor)
+                .addPathPatterns("/api/orders", "/api/orders/*", "/api/stop-orders", "/api/stop-orders/*");
+    }
+}
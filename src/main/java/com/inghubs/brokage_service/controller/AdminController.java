@@ -0,0 +1,82 @@
+package com.inghubs.brokage_service.controller;
+
+import com.inghubs.brokage_service.dto.response.ApiResponse;
+import com.inghubs.brokage_service.dto.response.AssetResponse;
+import com.inghubs.brokage_service.dto.response.AssetTotalResponse;
+import com.inghubs.brokage_service.dto.response.OpenOrderNotionalResponse;
+import com.inghubs.brokage_service.dto.response.OrderResponse;
+import com.inghubs.brokage_service.model.enums.OrderStatus;
+import com.inghubs.brokage_service.service.AdminReportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+@Tag(name = "Admin", description = "Cross-customer reporting endpoints (Admin only)")
+@SecurityRequirement(name = "bearer-jwt")
+public class AdminController {
+    
+    private final AdminReportService adminReportService;
+    
+    @GetMapping("/assets/totals")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Asset Totals", description = "Total and reserved size per asset across all customers")
+    public ResponseEntity<ApiResponse<List<AssetTotalResponse>>> assetTotals() {
+        return ResponseEntity.ok(ApiResponse.<List<AssetTotalResponse>>builder()
+                .success(true)
+                .message("Asset totals retrieved successfully")
+                .data(adminReportService.assetTotals())
+                .build());
+    }
+    
+    @GetMapping("/orders/open-notional")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Open Order Notional", description = "Remaining size and notional of open orders per asset and side")
+    public ResponseEntity<ApiResponse<List<OpenOrderNotionalResponse>>> openOrderNotional() {
+        return ResponseEntity.ok(ApiResponse.<List<OpenOrderNotionalResponse>>builder()
+                .success(true)
+                .message("Open order notional retrieved successfully")
+                .data(adminReportService.openOrderNotional())
+                .build());
+    }
+    
+    @GetMapping("/assets")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "List Assets (Batch)", description = "List assets for up to 1000 customers in one request")
+    public ResponseEntity<ApiResponse<List<AssetResponse>>> listAssets(
+            @RequestParam List<Long> customerIds,
+            @RequestParam(required = false) String assetName) {
+        return ResponseEntity.ok(ApiResponse.<List<AssetResponse>>builder()
+                .success(true)
+                .message("Assets retrieved successfully")
+                .data(adminReportService.listAssets(customerIds, assetName))
+                .build());
+    }
+    
+    @GetMapping("/orders")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "List Orders (Batch)", description = "List orders for up to 1000 customers in one request")
+    public ResponseEntity<ApiResponse<List<OrderResponse>>> listOrders(
+            @RequestParam List<Long> customerIds,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) OrderStatus status) {
+        return ResponseEntity.ok(ApiResponse.<List<OrderResponse>>builder()
+                .success(true)
+                .message("Orders retrieved successfully")
+                .data(adminReportService.listOrders(customerIds, startDate, endDate, status))
+                .build());
+    }
+}
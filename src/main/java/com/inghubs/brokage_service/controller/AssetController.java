@@ -2,26 +2,33 @@ package com.inghubs.brokage_service.controller;
 
 import com.inghubs.brokage_service.dto.response.ApiResponse;
 import com.inghubs.brokage_service.dto.response.AssetResponse;
-import com.inghubs.brokage_service.service.AssetService;
+import com.inghubs.brokage_service.service.CustomerAccess;
+import com.inghubs.brokage_service.service.CustomerVersionTracker;
+import com.inghubs.brokage_service.service.ReadCoalescer;
 import com.inghubs.brokage_service.util.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/assets")
 @RequiredArgsConstructor
 @Tag(name = "Assets", description = "Asset management endpoints")
 @SecurityRequirement(name = "bearer-jwt")
 public class AssetController {
     
-    private final AssetService assetService;
+    private final ReadCoalescer readCoalescer;
+    private final CustomerVersionTracker customerVersionTracker;
     private final SecurityUtil securityUtil;
     
     @GetMapping
@@ -29,13 +36,20 @@ public class AssetController {
     public ResponseEntity<ApiResponse<List<AssetResponse>>> listAssets(
             @RequestParam Long customerId,
             @RequestParam(required = false) String assetName,
-            HttpServletRequest httpRequest) {
+            HttpServletRequest httpRequest,
+            WebRequest webRequest) {
         Long authenticatedCustomerId = securityUtil.getAuthenticatedCustomerId(httpRequest);
         boolean isAdmin = securityUtil.isAdmin();
         
-        List<AssetResponse> responses = assetService.listAssets(
+        CustomerAccess.checkAssets(customerId, authenticatedCustomerId, isAdmin);
+        String eTag = customerVersionTracker.eTag(customerId, webRequest.getHeader(HttpHeaders.ACCEPT));
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        
+        List<AssetResponse> responses = readCoalescer.listAssets(
                 customerId, assetName, authenticatedCustomerId, isAdmin);
-        return ResponseEntity.ok(ApiResponse.<List<AssetResponse>>builder()
+        return ResponseEntity.ok().eTag(eTag).body(ApiResponse.<List<AssetResponse>>builder()
                 .success(true)
                 .message("Assets retrieved successfully")
                 .data(responses)
@@ -4,20 +4,26 @@ import com.inghubs.brokage_service.dto.request.LoginRequest;
 import com.inghubs.brokage_service.dto.response.ApiResponse;
 import com.inghubs.brokage_service.dto.response.LoginResponse;
 import com.inghubs.brokage_service.service.AuthService;
+import com.inghubs.brokage_service.util.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
 @Tag(name = "Authentication", description = "Authentication endpoints")
 public class AuthController {
     
     private final AuthService authService;
+    private final SecurityUtil securityUtil;
     
     @PostMapping("/login")
     @Operation(summary = "Login", description = "Authenticate user and get JWT token")
@@ -29,5 +35,15 @@ public class AuthController {
                 .data(response)
                 .build());
     }
+    
+    @PostMapping("/logout")
+    @SecurityRequirement(name = "bearer-jwt")
+    @Operation(summary = "Logout", description = "Revoke the JWT token used for this request")
+    public ResponseEntity<ApiResponse<Void>> logout(HttpServletRequest httpRequest) {
+        authService.logout(securityUtil.extractToken(httpRequest));
+        return ResponseEntity.ok(ApiResponse.<Void>builder()
+                .success(true)
+                .message("Logout successful")
+                .build());
+    }
 }
-
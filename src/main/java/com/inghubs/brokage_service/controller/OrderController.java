@@ -1,11 +1,16 @@
 package com.inghubs.brokage_service.controller;
 
+import com.inghubs.brokage_service.dto.request.AmendOrderRequest;
 import com.inghubs.brokage_service.dto.request.CreateOrderRequest;
 import com.inghubs.brokage_service.dto.request.MatchOrderRequest;
 import com.inghubs.brokage_service.dto.response.ApiResponse;
+import com.inghubs.brokage_service.dto.response.OrderFillResponse;
 import com.inghubs.brokage_service.dto.response.OrderResponse;
 import com.inghubs.brokage_service.model.enums.OrderStatus;
+import com.inghubs.brokage_service.service.CustomerAccess;
+import com.inghubs.brokage_service.service.CustomerVersionTracker;
 import com.inghubs.brokage_service.service.OrderService;
+import com.inghubs.brokage_service.service.ReadCoalescer;
 import com.inghubs.brokage_service.util.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -13,15 +18,19 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/orders")
 @RequiredArgsConstructor
 @Tag(name = "Orders", description = "Order management endpoints")
@@ -29,6 +38,8 @@ import java.util.List;
 public class OrderController {
     
     private final OrderService orderService;
+    private final ReadCoalescer readCoalescer;
+    private final CustomerVersionTracker customerVersionTracker;
     private final SecurityUtil securityUtil;
     
     @PostMapping
@@ -54,19 +65,43 @@ public class OrderController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
             @RequestParam(required = false) OrderStatus status,
-            HttpServletRequest httpRequest) {
+            HttpServletRequest httpRequest,
+            WebRequest webRequest) {
         Long authenticatedCustomerId = securityUtil.getAuthenticatedCustomerId(httpRequest);
         boolean isAdmin = securityUtil.isAdmin();
         
-        List<OrderResponse> responses = orderService.listOrders(
+        CustomerAccess.checkOrders(customerId, authenticatedCustomerId, isAdmin);
+        String eTag = customerVersionTracker.eTag(customerId, webRequest.getHeader(HttpHeaders.ACCEPT));
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        
+        List<OrderResponse> responses = readCoalescer.listOrders(
                 customerId, startDate, endDate, status, authenticatedCustomerId, isAdmin);
-        return ResponseEntity.ok(ApiResponse.<List<OrderResponse>>builder()
+        return ResponseEntity.ok().eTag(eTag).body(ApiResponse.<List<OrderResponse>>builder()
                 .success(true)
                 .message("Orders retrieved successfully")
                 .data(responses)
                 .build());
     }
     
+    @PatchMapping("/{orderId}")
+    @Operation(summary = "Amend Order", description = "Change the size and/or price of an open order in place")
+    public ResponseEntity<ApiResponse<OrderResponse>> amendOrder(
+            @PathVariable Long orderId,
+            @Valid @RequestBody AmendOrderRequest request,
+            HttpServletRequest httpRequest) {
+        Long authenticatedCustomerId = securityUtil.getAuthenticatedCustomerId(httpRequest);
+        boolean isAdmin = securityUtil.isAdmin();
+        
+        OrderResponse response = orderService.amendOrder(orderId, request, authenticatedCustomerId, isAdmin);
+        return ResponseEntity.ok(ApiResponse.<OrderResponse>builder()
+                .success(true)
+                .message("Order amended successfully")
+                .data(response)
+                .build());
+    }
+    
     @DeleteMapping("/{orderId}")
     @Operation(summary = "Delete Order", description = "Cancel a pending order")
     public ResponseEntity<ApiResponse<Void>> deleteOrder(
@@ -82,12 +117,28 @@ public class OrderController {
                 .build());
     }
     
+    @GetMapping("/{orderId}/fills")
+    @Operation(summary = "List Fills", description = "List the executions of an order")
+    public ResponseEntity<ApiResponse<List<OrderFillResponse>>> listFills(
+            @PathVariable Long orderId,
+            HttpServletRequest httpRequest) {
+        Long authenticatedCustomerId = securityUtil.getAuthenticatedCustomerId(httpRequest);
+        boolean isAdmin = securityUtil.isAdmin();
+        
+        List<OrderFillResponse> responses = orderService.listFills(orderId, authenticatedCustomerId, isAdmin);
+        return ResponseEntity.ok(ApiResponse.<List<OrderFillResponse>>builder()
+                .success(true)
+                .message("Fills retrieved successfully")
+                .data(responses)
+                .build());
+    }
+    
     @PostMapping("/match")
     @PreAuthorize("hasRole('ADMIN')")
-    @Operation(summary = "Match Order", description = "Match a pending order (Admin only)")
+    @Operation(summary = "Match Order", description = "Fill a pending order fully or partially (Admin only)")
     public ResponseEntity<ApiResponse<OrderResponse>> matchOrder(
             @Valid @RequestBody MatchOrderRequest request) {
-        OrderResponse response = orderService.matchOrder(request.getOrderId());
+        OrderResponse response = orderService.matchOrder(request.getOrderId(), request.getSize(), request.getPrice());
         return ResponseEntity.ok(ApiResponse.<OrderResponse>builder()
                 .success(true)
                 .message("Order matched successfully")
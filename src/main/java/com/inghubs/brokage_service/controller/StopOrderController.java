@@ -0,0 +1,77 @@
+package com.inghubs.brokage_service.controller;
+
+import com.inghubs.brokage_service.dto.request.CreateOrderRequest;
+import com.inghubs.brokage_service.dto.response.ApiResponse;
+import com.inghubs.brokage_service.dto.response.StopOrderResponse;
+import com.inghubs.brokage_service.service.StopOrderService;
+import com.inghubs.brokage_service.util.SecurityUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/stop-orders")
+@RequiredArgsConstructor
+@Tag(name = "Stop Orders", description = "STOP and STOP_LIMIT orders waiting for their trigger price")
+@SecurityRequirement(name = "bearer-jwt")
+public class StopOrderController {
+    
+    private final StopOrderService stopOrderService;
+    private final SecurityUtil securityUtil;
+    
+    @PostMapping
+    @Operation(summary = "Create Stop Order", description = "Place a STOP or STOP_LIMIT order that is submitted once a trade crosses its stop price")
+    public ResponseEntity<ApiResponse<StopOrderResponse>> createStopOrder(
+            @Valid @RequestBody CreateOrderRequest request,
+            HttpServletRequest httpRequest) {
+        Long authenticatedCustomerId = securityUtil.getAuthenticatedCustomerId(httpRequest);
+        boolean isAdmin = securityUtil.isAdmin();
+        
+        StopOrderResponse response = stopOrderService.createStopOrder(request, authenticatedCustomerId, isAdmin);
+        return ResponseEntity.ok(ApiResponse.<StopOrderResponse>builder()
+                .success(true)
+                .message("Stop order created successfully")
+                .data(response)
+                .build());
+    }
+    
+    @GetMapping
+    @Operation(summary = "List Stop Orders", description = "List a customer's stop orders, newest first")
+    public ResponseEntity<ApiResponse<List<StopOrderResponse>>> listStopOrders(
+            @RequestParam Long customerId,
+            HttpServletRequest httpRequest) {
+        Long authenticatedCustomerId = securityUtil.getAuthenticatedCustomerId(httpRequest);
+        boolean isAdmin = securityUtil.isAdmin();
+        
+        List<StopOrderResponse> responses = stopOrderService.listStopOrders(customerId, authenticatedCustomerId, isAdmin);
+        return ResponseEntity.ok(ApiResponse.<List<StopOrderResponse>>builder()
+                .success(true)
+                .message("Stop orders retrieved successfully")
+                .data(responses)
+                .build());
+    }
+    
+    @DeleteMapping("/{stopOrderId}")
+    @Operation(summary = "Cancel Stop Order", description = "Cancel a stop order that has not been triggered")
+    public ResponseEntity<ApiResponse<Void>> cancelStopOrder(
+            @PathVariable Long stopOrderId,
+            HttpServletRequest httpRequest) {
+        Long authenticatedCustomerId = securityUtil.getAuthenticatedCustomerId(httpRequest);
+        boolean isAdmin = securityUtil.isAdmin();
+        
+        stopOrderService.cancelStopOrder(stopOrderId, authenticatedCustomerId, isAdmin);
+        return ResponseEntity.ok(ApiResponse.<Void>builder()
+                .success(true)
+                .message("Stop order canceled successfully")
+                .build());
+    }
+}
@@ -0,0 +1,18 @@
+package com.inghubs.brokage_service.dto.request;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+public class AmendOrderRequest {
+    
+    // total order size, including any part already filled
+    @Positive(message = "Size must be positive")
+    private BigDecimal size;
+    
+    @DecimalMin(value = "0.01", message = "Price must be at least 0.01")
+    private BigDecimal price;
+}
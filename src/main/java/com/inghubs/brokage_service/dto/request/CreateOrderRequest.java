@@ -1,6 +1,7 @@
 package com.inghubs.brokage_service.dto.request;
 
 import com.inghubs.brokage_service.model.enums.OrderSide;
+import com.inghubs.brokage_service.model.enums.OrderType;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -25,8 +26,14 @@ public class CreateOrderRequest {
     @Positive(message = "Size must be positive")
     private BigDecimal size;
     
-    @NotNull(message = "Price is required")
+    // required for LIMIT orders; optional protection price for MARKET orders
     @DecimalMin(value = "0.01", message = "Price must be at least 0.01")
     private BigDecimal price;
+    
+    private OrderType orderType = OrderType.LIMIT;
+    
+    // trigger price of STOP and STOP_LIMIT orders
+    @DecimalMin(value = "0.01", message = "Stop price must be at least 0.01")
+    private BigDecimal stopPrice;
 }
 
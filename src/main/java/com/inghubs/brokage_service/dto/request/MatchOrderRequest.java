@@ -1,12 +1,27 @@
 package com.inghubs.brokage_service.dto.request;
 
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.Data;
 
+import java.math.BigDecimal;
+
 @Data
 public class MatchOrderRequest {
     
     @NotNull(message = "Order ID is required")
     private Long orderId;
+    
+    /**
+     * Executed quantity; the whole remaining size when omitted.
+     */
+    @Positive(message = "Size must be positive")
+    private BigDecimal size;
+    
+    /**
+     * Execution price; the order's limit price when omitted.
+     */
+    @DecimalMin(value = "0.01", message = "Price must be at least 0.01")
+    private BigDecimal price;
 }
-
@@ -0,0 +1,19 @@
+package com.inghubs.brokage_service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssetTotalResponse {
+    private String assetName;
+    private Long holders;
+    private BigDecimal totalSize;
+    private BigDecimal reservedSize;
+}
@@ -0,0 +1,21 @@
+package com.inghubs.brokage_service.dto.response;
+
+import com.inghubs.brokage_service.model.enums.OrderSide;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OpenOrderNotionalResponse {
+    private String assetName;
+    private OrderSide orderSide;
+    private Long orders;
+    private BigDecimal remainingSize;
+    private BigDecimal notional;
+}
@@ -0,0 +1,21 @@
+package com.inghubs.brokage_service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderFillResponse {
+    private Long id;
+    private Long orderId;
+    private BigDecimal size;
+    private BigDecimal price;
+    private LocalDateTime fillDate;
+}
@@ -2,6 +2,7 @@ package com.inghubs.brokage_service.dto.response;
 
 import com.inghubs.brokage_service.model.enums.OrderSide;
 import com.inghubs.brokage_service.model.enums.OrderStatus;
+import com.inghubs.brokage_service.model.enums.OrderType;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -19,8 +20,11 @@ public class OrderResponse {
     private Long customerId;
     private String assetName;
     private OrderSide orderSide;
+    private OrderType orderType;
     private BigDecimal size;
     private BigDecimal price;
+    private BigDecimal filledSize;
+    private BigDecimal remainingSize;
     private OrderStatus status;
     private LocalDateTime createDate;
 }
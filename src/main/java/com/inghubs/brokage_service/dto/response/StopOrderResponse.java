@@ -0,0 +1,32 @@
+package com.inghubs.brokage_service.dto.response;
+
+import com.inghubs.brokage_service.model.enums.OrderSide;
+import com.inghubs.brokage_service.model.enums.OrderType;
+import com.inghubs.brokage_service.model.enums.StopOrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StopOrderResponse {
+    private Long id;
+    private Long customerId;
+    private String assetName;
+    private OrderSide orderSide;
+    private OrderType orderType;
+    private BigDecimal size;
+    private BigDecimal stopPrice;
+    private BigDecimal limitPrice;
+    private StopOrderStatus status;
+    private Long orderId;
+    private String rejectReason;
+    private LocalDateTime createDate;
+    private LocalDateTime triggerDate;
+}
@@ -0,0 +1,7 @@
+package com.inghubs.brokage_service.exception;
+
+public class InsufficientUsableSizeException extends BadRequestException {
+    public InsufficientUsableSizeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.inghubs.brokage_service.exception;
+
+public class RiskLimitExceededException extends BadRequestException {
+    public RiskLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,55 @@
+package com.inghubs.brokage_service.gateway;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Maps 8-byte asset codes to their String names with open addressing over primitive keys, so a
+ * repeated asset costs no allocation. Owned by a single I/O thread.
+ */
+final class AssetCodeCache {
+
+    private static final int CAPACITY = 1024;
+    private static final int MASK = CAPACITY - 1;
+
+    private final long[] codes = new long[CAPACITY];
+    private final String[] names = new String[CAPACITY];
+
+    String resolve(long code) {
+        int slot = (int) mix(code) & MASK;
+        for (int probe = 0; probe < CAPACITY; probe++) {
+            String name = names[slot];
+            if (name == null) {
+                name = decode(code);
+                codes[slot] = code;
+                names[slot] = name;
+                return name;
+            }
+            if (codes[slot] == code) {
+                return name;
+            }
+            slot = (slot + 1) & MASK;
+        }
+        // table full: still correct, just not cached
+        return decode(code);
+    }
+
+    private static String decode(long code) {
+        byte[] bytes = new byte[GatewayProtocol.ASSET_CODE_LENGTH];
+        int length = 0;
+        for (int i = 0; i < GatewayProtocol.ASSET_CODE_LENGTH; i++) {
+            byte b = (byte) (code >>> (56 - 8 * i));
+            if (b == 0 || b == ' ') {
+                break;
+            }
+            bytes[length++] = b;
+        }
+        return new String(bytes, 0, length, StandardCharsets.US_ASCII);
+    }
+
+    private static long mix(long code) {
+        code ^= code >>> 33;
+        code *= 0xff51afd7ed558ccdL;
+        code ^= code >>> 33;
+        return code;
+    }
+}
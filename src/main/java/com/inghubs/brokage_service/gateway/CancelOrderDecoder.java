@@ -0,0 +1,29 @@
+package com.inghubs.brokage_service.gateway;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Flyweight over a CANCEL_ORDER payload.
+ */
+final class CancelOrderDecoder {
+
+    private static final int CLIENT_ORDER_ID_OFFSET = 0;
+    private static final int ORDER_ID_OFFSET = 8;
+
+    private ByteBuffer buffer;
+    private int offset;
+
+    CancelOrderDecoder wrap(ByteBuffer buffer, int offset) {
+        this.buffer = buffer;
+        this.offset = offset;
+        return this;
+    }
+
+    long clientOrderId() {
+        return buffer.getLong(offset + CLIENT_ORDER_ID_OFFSET);
+    }
+
+    long orderId() {
+        return buffer.getLong(offset + ORDER_ID_OFFSET);
+    }
+}
@@ -0,0 +1,103 @@
+package com.inghubs.brokage_service.gateway;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Splits a session's read buffer into frames and decodes each one into a {@link GatewayCommand} slot.
+ * The flyweights and the asset cache are reused across sessions, so one instance belongs to one
+ * I/O thread.
+ */
+final class FrameDecoder {
+
+    private final AssetCodeCache assetCodes;
+    private final NewOrderDecoder newOrder = new NewOrderDecoder();
+    private final CancelOrderDecoder cancelOrder = new CancelOrderDecoder();
+
+    FrameDecoder(AssetCodeCache assetCodes) {
+        this.assetCodes = assetCodes;
+    }
+
+    /**
+     * Decodes the frame at the buffer's position into {@code into} and advances past it. A frame whose
+     * length can never fit the buffer consumes everything up to the limit, since the stream cannot be
+     * resynchronized.
+     *
+     * @return false, leaving {@code into} untouched, if the buffer holds only part of the next frame
+     */
+    boolean next(ByteBuffer in, GatewayCommand into) {
+        if (in.remaining() < GatewayProtocol.LENGTH_FIELD_SIZE) {
+            return false;
+        }
+        int position = in.position();
+        int length = in.getShort(position) & 0xffff;
+        if (length == 0 || length > in.capacity() - GatewayProtocol.LENGTH_FIELD_SIZE) {
+            in.position(in.limit());
+            malformed(into, (byte) 0);
+            return true;
+        }
+        if (in.remaining() < GatewayProtocol.LENGTH_FIELD_SIZE + length) {
+            return false;
+        }
+        byte type = in.get(position + GatewayProtocol.LENGTH_FIELD_SIZE);
+        int offset = position + GatewayProtocol.HEADER_SIZE;
+        int payloadLength = length - 1;
+        in.position(position + GatewayProtocol.LENGTH_FIELD_SIZE + length);
+
+        switch (type) {
+            case GatewayProtocol.LOGON -> logon(in, offset, payloadLength, into);
+            case GatewayProtocol.NEW_ORDER -> {
+                if (payloadLength == GatewayProtocol.NEW_ORDER_LENGTH) {
+                    newOrder(newOrder.wrap(in, offset), into);
+                } else {
+                    malformed(into, type);
+                }
+            }
+            case GatewayProtocol.CANCEL_ORDER -> {
+                if (payloadLength == GatewayProtocol.CANCEL_ORDER_LENGTH) {
+                    cancelOrder(cancelOrder.wrap(in, offset), into);
+                } else {
+                    malformed(into, type);
+                }
+            }
+            default -> malformed(into, type);
+        }
+        return true;
+    }
+
+    // the token is the one string built per session; a session logs on once
+    private static void logon(ByteBuffer in, int offset, int length, GatewayCommand into) {
+        if (length < 2 || (in.getShort(offset) & 0xffff) != length - 2) {
+            malformed(into, GatewayProtocol.LOGON);
+            return;
+        }
+        byte[] token = new byte[length - 2];
+        in.get(offset + 2, token);
+        into.kind = GatewayCommand.Kind.LOGON;
+        into.type = GatewayProtocol.LOGON;
+        into.token = new String(token, StandardCharsets.US_ASCII);
+    }
+
+    private void newOrder(NewOrderDecoder message, GatewayCommand into) {
+        into.kind = GatewayCommand.Kind.NEW_ORDER;
+        into.type = GatewayProtocol.NEW_ORDER;
+        into.clientOrderId = message.clientOrderId();
+        into.customerId = message.customerId();
+        into.side = message.side();
+        into.assetName = assetCodes.resolve(message.assetCode());
+        into.size = message.size();
+        into.price = message.price();
+    }
+
+    private static void cancelOrder(CancelOrderDecoder message, GatewayCommand into) {
+        into.kind = GatewayCommand.Kind.CANCEL_ORDER;
+        into.type = GatewayProtocol.CANCEL_ORDER;
+        into.clientOrderId = message.clientOrderId();
+        into.orderId = message.orderId();
+    }
+
+    private static void malformed(GatewayCommand into, byte type) {
+        into.kind = GatewayCommand.Kind.MALFORMED;
+        into.type = type;
+    }
+}
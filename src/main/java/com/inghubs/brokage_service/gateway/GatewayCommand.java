@@ -0,0 +1,40 @@
+package com.inghubs.brokage_service.gateway;
+
+import java.nio.ByteBuffer;
+
+/**
+ * One slot of a session's command ring. The I/O thread decodes a frame into a free slot so that the
+ * frame bytes can be released before the command is executed on a worker thread; the worker then
+ * encodes the reply into the same slot. Slots are reused once their reply has been written, so only
+ * the fields of the current {@link #kind} are meaningful.
+ */
+final class GatewayCommand {
+
+    enum Kind {
+        LOGON,
+        NEW_ORDER,
+        CANCEL_ORDER,
+        // a frame with an unknown type or a payload length that does not match its type
+        MALFORMED
+    }
+
+    Kind kind;
+    // the frame's type byte, kept for logging malformed frames
+    byte type;
+    String token;
+    long clientOrderId;
+    long customerId;
+    byte side;
+    String assetName;
+    long size;
+    long price;
+    long orderId;
+
+    // the encoded reply, empty when the command has none, and whether the connection is closed after it
+    final ByteBuffer reply;
+    boolean close;
+
+    GatewayCommand(int maxReplySize) {
+        this.reply = ByteBuffer.allocate(maxReplySize);
+    }
+}
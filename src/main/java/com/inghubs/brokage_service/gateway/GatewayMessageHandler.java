@@ -0,0 +1,162 @@
+package com.inghubs.brokage_service.gateway;
+
+import com.inghubs.brokage_service.config.JwtUtil;
+import com.inghubs.brokage_service.dto.request.CreateOrderRequest;
+import com.inghubs.brokage_service.dto.response.OrderResponse;
+import com.inghubs.brokage_service.exception.BadRequestException;
+import com.inghubs.brokage_service.exception.ForbiddenException;
+import com.inghubs.brokage_service.exception.NotFoundException;
+import com.inghubs.brokage_service.exception.TooManyRequestsException;
+import com.inghubs.brokage_service.model.enums.OrderSide;
+import com.inghubs.brokage_service.model.enums.UserRole;
+import com.inghubs.brokage_service.service.OrderRateLimiter;
+import com.inghubs.brokage_service.service.OrderService;
+import com.inghubs.brokage_service.service.TokenRevocationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+
+/**
+ * Executes decoded gateway commands against the same OrderService used by the REST API, with the
+ * identity established once at logon instead of a JWT parse per request. Runs on the gateway's
+ * worker threads, never on a selector loop.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "gateway.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class GatewayMessageHandler {
+
+    // 0.01 at the wire scale of two decimals
+    private static final long MIN_PRICE_UNITS = 1;
+
+    private final OrderService orderService;
+    private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
+    private final OrderRateLimiter orderRateLimiter;
+
+    /**
+     * Executes one command on a worker thread and encodes its reply, if any, into {@code out}.
+     *
+     * @return false if the session must be closed
+     */
+    boolean onMessage(GatewaySession session, GatewayCommand command, ByteBuffer out) {
+        return switch (command.kind) {
+            case LOGON -> onLogon(session, command.token, out);
+            case NEW_ORDER -> checkLoggedOn(session, out) && onNewOrder(session, command, out);
+            case CANCEL_ORDER -> checkLoggedOn(session, out) && onCancelOrder(session, command, out);
+            case MALFORMED -> checkLoggedOn(session, out) && onMalformed(session, command);
+        };
+    }
+
+    private static boolean checkLoggedOn(GatewaySession session, ByteBuffer out) {
+        if (session.loggedOn && System.currentTimeMillis() < session.tokenExpiresAtMillis) {
+            return true;
+        }
+        MessageEncoder.executionReport(out, 0, 0, GatewayProtocol.EXEC_REJECTED, GatewayProtocol.REJECT_NOT_LOGGED_ON);
+        return false;
+    }
+
+    private static boolean onMalformed(GatewaySession session, GatewayCommand message) {
+        log.warn("Malformed gateway message of type {} from customer {}", message.type, session.customerId);
+        return false;
+    }
+
+    private boolean onLogon(GatewaySession session, String token, ByteBuffer out) {
+        if (session.loggedOn) {
+            return false;
+        }
+        try {
+            String username = jwtUtil.extractUsername(token);
+            if (username != null && jwtUtil.validateToken(token, username)
+                    && !tokenRevocationService.isRevoked(jwtUtil.extractTokenId(token))) {
+                session.customerId = jwtUtil.extractCustomerId(token);
+                session.admin = "ADMIN".equals(jwtUtil.extractRole(token));
+                session.tokenExpiresAtMillis = jwtUtil.extractExpiration(token).getTime();
+                session.loggedOn = true;
+                log.info("Gateway logon for user: {} from {}", username, session.channel.getRemoteAddress());
+                return MessageEncoder.logonAck(out, GatewayProtocol.LOGON_ACCEPTED, session.customerId);
+            }
+        } catch (Exception e) {
+            log.warn("Gateway logon rejected: {}", e.getMessage());
+        }
+        MessageEncoder.logonAck(out, GatewayProtocol.LOGON_REJECTED, 0);
+        return false;
+    }
+
+    private boolean onNewOrder(GatewaySession session, GatewayCommand message, ByteBuffer out) {
+        long clientOrderId = message.clientOrderId;
+        byte side = message.side;
+        // same constraints as the @Valid annotations on CreateOrderRequest
+        if ((side != GatewayProtocol.SIDE_BUY && side != GatewayProtocol.SIDE_SELL) || message.size <= 0
+                || message.price < MIN_PRICE_UNITS) {
+            return MessageEncoder.executionReport(out, clientOrderId, 0,
+                    GatewayProtocol.EXEC_REJECTED, GatewayProtocol.REJECT_INVALID_REQUEST);
+        }
+
+        CreateOrderRequest request = session.orderRequest;
+        request.setCustomerId(message.customerId);
+        request.setAssetName(message.assetName);
+        request.setOrderSide(side == GatewayProtocol.SIDE_BUY ? OrderSide.BUY : OrderSide.SELL);
+        request.setSize(BigDecimal.valueOf(message.size, GatewayProtocol.DECIMAL_SCALE));
+        request.setPrice(BigDecimal.valueOf(message.price, GatewayProtocol.DECIMAL_SCALE));
+        try {
+            admit(session);
+            OrderResponse response;
+            try {
+                response = orderService.createOrder(request, session.customerId, session.admin);
+            } finally {
+                orderRateLimiter.release();
+            }
+            return MessageEncoder.executionReport(out, clientOrderId, response.getId(),
+                    GatewayProtocol.EXEC_NEW, GatewayProtocol.REJECT_NONE);
+        } catch (RuntimeException e) {
+            return MessageEncoder.executionReport(out, clientOrderId, 0,
+                    GatewayProtocol.EXEC_REJECTED, rejectCode(e));
+        }
+    }
+
+    private boolean onCancelOrder(GatewaySession session, GatewayCommand message, ByteBuffer out) {
+        long clientOrderId = message.clientOrderId;
+        long orderId = message.orderId;
+        try {
+            admit(session);
+            try {
+                orderService.deleteOrder(orderId, session.customerId, session.admin);
+            } finally {
+                orderRateLimiter.release();
+            }
+            return MessageEncoder.executionReport(out, clientOrderId, orderId,
+                    GatewayProtocol.EXEC_CANCELED, GatewayProtocol.REJECT_NONE);
+        } catch (RuntimeException e) {
+            return MessageEncoder.executionReport(out, clientOrderId, orderId,
+                    GatewayProtocol.EXEC_REJECTED, rejectCode(e));
+        }
+    }
+
+    private void admit(GatewaySession session) {
+        orderRateLimiter.checkRate(session.customerId, session.admin ? UserRole.ADMIN : UserRole.CUSTOMER);
+        orderRateLimiter.admit();
+    }
+
+    private static byte rejectCode(RuntimeException e) {
+        if (e instanceof BadRequestException) {
+            return GatewayProtocol.REJECT_INVALID_REQUEST;
+        }
+        if (e instanceof NotFoundException) {
+            return GatewayProtocol.REJECT_NOT_FOUND;
+        }
+        if (e instanceof ForbiddenException) {
+            return GatewayProtocol.REJECT_FORBIDDEN;
+        }
+        if (e instanceof TooManyRequestsException) {
+            return GatewayProtocol.REJECT_RATE_LIMITED;
+        }
+        log.error("Unexpected error while processing gateway message", e);
+        return GatewayProtocol.REJECT_INTERNAL_ERROR;
+    }
+}
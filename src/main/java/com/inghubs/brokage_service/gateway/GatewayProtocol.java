@@ -0,0 +1,56 @@
+package com.inghubs.brokage_service.gateway;
+
+/**
+ * Wire format of the binary order-entry gateway. All integers are big-endian.
+ * <pre>
+ * frame            := length:u16 type:u8 payload      (length counts type + payload)
+ *
+ * LOGON        (1) := tokenLength:u16 token:ascii[tokenLength]
+ * NEW_ORDER    (2) := clientOrderId:i64 customerId:i64 side:u8 asset:ascii[8] size:i64 price:i64
+ * CANCEL_ORDER (3) := clientOrderId:i64 orderId:i64
+ *
+ * LOGON_ACK       (11) := status:u8 customerId:i64
+ * EXECUTION_REPORT(12) := clientOrderId:i64 orderId:i64 execType:u8 rejectCode:u8
+ * </pre>
+ * Sizes and prices are fixed-point with two decimals, matching the scale of the asset and order
+ * columns. Asset names are left-aligned and padded with zero bytes or spaces.
+ */
+public final class GatewayProtocol {
+
+    public static final int LENGTH_FIELD_SIZE = 2;
+    public static final int HEADER_SIZE = LENGTH_FIELD_SIZE + 1;
+    public static final int DECIMAL_SCALE = 2;
+    public static final int ASSET_CODE_LENGTH = 8;
+
+    public static final byte LOGON = 1;
+    public static final byte NEW_ORDER = 2;
+    public static final byte CANCEL_ORDER = 3;
+    public static final byte LOGON_ACK = 11;
+    public static final byte EXECUTION_REPORT = 12;
+
+    public static final byte SIDE_BUY = 0;
+    public static final byte SIDE_SELL = 1;
+
+    public static final byte LOGON_ACCEPTED = 0;
+    public static final byte LOGON_REJECTED = 1;
+
+    public static final byte EXEC_NEW = 0;
+    public static final byte EXEC_CANCELED = 1;
+    public static final byte EXEC_REJECTED = 2;
+
+    public static final byte REJECT_NONE = 0;
+    public static final byte REJECT_INVALID_REQUEST = 1;
+    public static final byte REJECT_NOT_FOUND = 2;
+    public static final byte REJECT_FORBIDDEN = 3;
+    public static final byte REJECT_NOT_LOGGED_ON = 4;
+    public static final byte REJECT_INTERNAL_ERROR = 5;
+    public static final byte REJECT_RATE_LIMITED = 6;
+
+    public static final int NEW_ORDER_LENGTH = 8 + 8 + 1 + ASSET_CODE_LENGTH + 8 + 8;
+    public static final int CANCEL_ORDER_LENGTH = 8 + 8;
+    public static final int LOGON_ACK_LENGTH = 1 + 8;
+    public static final int EXECUTION_REPORT_LENGTH = 8 + 8 + 1 + 1;
+
+    private GatewayProtocol() {
+    }
+}
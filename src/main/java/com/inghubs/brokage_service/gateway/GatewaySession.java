@@ -0,0 +1,73 @@
+package com.inghubs.brokage_service.gateway;
+
+import com.inghubs.brokage_service.dto.request.CreateOrderRequest;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Per-connection state, split by owner. The channel buffers and counters belong to the I/O thread
+ * that owns the session. The identity and the order request belong to whichever worker is draining
+ * the session; at most one worker drains a session at a time, so commands run and replies are
+ * written in request order.
+ * <p>
+ * Commands and their replies travel through a preallocated ring with one slot per outstanding
+ * command. Three sequence numbers walk it in order: the I/O thread decodes a frame into the slot at
+ * {@link #decoded}, the draining worker executes it and encodes the reply in place before advancing
+ * {@link #executed}, and the I/O thread copies the reply out and frees the slot by advancing
+ * {@link #applied}. The two volatile sequences are the only state shared between the threads.
+ */
+final class GatewaySession {
+
+    final SocketChannel channel;
+    final SelectionKey key;
+    final ByteBuffer in;
+    final ByteBuffer out;
+    private final GatewayCommand[] ring;
+    final AtomicBoolean draining = new AtomicBoolean();
+    // hands this session to a worker; built once so dispatching a command allocates nothing
+    Runnable drainTask;
+
+    // written by the I/O thread, read by the draining worker
+    volatile long decoded;
+    // written by the draining worker, read by the I/O thread
+    volatile long executed;
+
+    // I/O thread only
+    long applied;
+    // no further frames are decoded
+    boolean closing;
+    // a reply asked for the connection to be closed once it is written
+    boolean closeWhenFlushed;
+
+    // draining worker only
+    final CreateOrderRequest orderRequest = new CreateOrderRequest();
+    boolean loggedOn;
+    Long customerId;
+    boolean admin;
+    long tokenExpiresAtMillis;
+
+    GatewaySession(SocketChannel channel, SelectionKey key, int bufferSize, int maxOutstanding, int maxReplySize) {
+        this.channel = channel;
+        this.key = key;
+        this.in = ByteBuffer.allocateDirect(bufferSize);
+        this.out = ByteBuffer.allocateDirect(bufferSize);
+        this.ring = new GatewayCommand[maxOutstanding];
+        for (int i = 0; i < maxOutstanding; i++) {
+            ring[i] = new GatewayCommand(maxReplySize);
+        }
+    }
+
+    GatewayCommand slot(long sequence) {
+        return ring[(int) (sequence % ring.length)];
+    }
+
+    /**
+     * Commands decoded but not yet answered on the wire; never more than the ring holds.
+     */
+    int outstanding() {
+        return (int) (decoded - applied);
+    }
+}
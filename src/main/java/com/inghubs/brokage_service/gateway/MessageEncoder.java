@@ -0,0 +1,41 @@
+package com.inghubs.brokage_service.gateway;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Writes outbound frames at the current position of a session's write buffer.
+ */
+final class MessageEncoder {
+
+    private MessageEncoder() {
+    }
+
+    static boolean logonAck(ByteBuffer out, byte status, long customerId) {
+        if (!header(out, GatewayProtocol.LOGON_ACK, GatewayProtocol.LOGON_ACK_LENGTH)) {
+            return false;
+        }
+        out.put(status);
+        out.putLong(customerId);
+        return true;
+    }
+
+    static boolean executionReport(ByteBuffer out, long clientOrderId, long orderId, byte execType, byte rejectCode) {
+        if (!header(out, GatewayProtocol.EXECUTION_REPORT, GatewayProtocol.EXECUTION_REPORT_LENGTH)) {
+            return false;
+        }
+        out.putLong(clientOrderId);
+        out.putLong(orderId);
+        out.put(execType);
+        out.put(rejectCode);
+        return true;
+    }
+
+    private static boolean header(ByteBuffer out, byte type, int payloadLength) {
+        if (out.remaining() < GatewayProtocol.HEADER_SIZE + payloadLength) {
+            return false;
+        }
+        out.putShort((short) (payloadLength + 1));
+        out.put(type);
+        return true;
+    }
+}
@@ -0,0 +1,49 @@
+package com.inghubs.brokage_service.gateway;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Flyweight over a NEW_ORDER payload; reads fields in place with absolute gets.
+ */
+final class NewOrderDecoder {
+
+    private static final int CLIENT_ORDER_ID_OFFSET = 0;
+    private static final int CUSTOMER_ID_OFFSET = 8;
+    private static final int SIDE_OFFSET = 16;
+    private static final int ASSET_OFFSET = 17;
+    private static final int SIZE_OFFSET = ASSET_OFFSET + GatewayProtocol.ASSET_CODE_LENGTH;
+    private static final int PRICE_OFFSET = SIZE_OFFSET + 8;
+
+    private ByteBuffer buffer;
+    private int offset;
+
+    NewOrderDecoder wrap(ByteBuffer buffer, int offset) {
+        this.buffer = buffer;
+        this.offset = offset;
+        return this;
+    }
+
+    long clientOrderId() {
+        return buffer.getLong(offset + CLIENT_ORDER_ID_OFFSET);
+    }
+
+    long customerId() {
+        return buffer.getLong(offset + CUSTOMER_ID_OFFSET);
+    }
+
+    byte side() {
+        return buffer.get(offset + SIDE_OFFSET);
+    }
+
+    long assetCode() {
+        return buffer.getLong(offset + ASSET_OFFSET);
+    }
+
+    long size() {
+        return buffer.getLong(offset + SIZE_OFFSET);
+    }
+
+    long price() {
+        return buffer.getLong(offset + PRICE_OFFSET);
+    }
+}
@@ -0,0 +1,395 @@
+package com.inghubs.brokage_service.gateway;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Optional TCP order-entry gateway (gateway.enabled=true). One acceptor thread hands connections
+ * round-robin to a fixed set of selector loops; each loop owns its sessions and does only socket I/O
+ * and frame decoding over per-session direct buffers. Decoded commands run on a worker pool, one
+ * worker per session at a time so acknowledgements keep request order, and the encoded replies are
+ * handed back to the owning loop, which writes them. Commands and replies are exchanged through each
+ * session's preallocated ring (see {@link GatewaySession}), so the gateway allocates nothing per
+ * message once a session has logged on. A session stops being read while it has
+ * {@code maxOutstanding} commands without a written reply or a full read buffer.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "gateway.enabled", havingValue = "true")
+public class OrderGatewayServer implements SmartLifecycle {
+
+    // largest outbound frame; the write buffer is flushed before it has less room than this
+    private static final int MAX_OUTBOUND_FRAME = GatewayProtocol.HEADER_SIZE + GatewayProtocol.EXECUTION_REPORT_LENGTH;
+
+    private final GatewayMessageHandler messageHandler;
+    private final String host;
+    private final int port;
+    private final int ioThreads;
+    private final int workerThreads;
+    private final int bufferSize;
+    // bounds the replies a slow reader can leave queued to one write buffer's worth; also the ring size
+    private final int maxOutstanding;
+
+    private final List<IoLoop> loops = new ArrayList<>();
+    private volatile boolean running;
+    private ExecutorService workers;
+    private ServerSocketChannel serverChannel;
+    private Thread acceptor;
+
+    public OrderGatewayServer(GatewayMessageHandler messageHandler,
+                              @Value("${gateway.host:0.0.0.0}") String host,
+                              @Value("${gateway.port:9090}") int port,
+                              @Value("${gateway.io-threads:2}") int ioThreads,
+                              @Value("${gateway.worker-threads:8}") int workerThreads,
+                              @Value("${gateway.buffer-size:65536}") int bufferSize) {
+        this.messageHandler = messageHandler;
+        this.host = host;
+        this.port = port;
+        this.ioThreads = ioThreads;
+        this.workerThreads = workerThreads;
+        this.bufferSize = bufferSize;
+        this.maxOutstanding = Math.max(1, bufferSize / MAX_OUTBOUND_FRAME);
+    }
+
+    @Override
+    public void start() {
+        try {
+            serverChannel = ServerSocketChannel.open();
+            serverChannel.bind(new InetSocketAddress(host, port));
+            running = true;
+            workers = Executors.newFixedThreadPool(workerThreads,
+                    Thread.ofPlatform().name("order-gateway-worker-", 0).factory());
+            for (int i = 0; i < ioThreads; i++) {
+                IoLoop loop = new IoLoop(Selector.open());
+                loops.add(loop);
+                loop.thread = new Thread(loop, "order-gateway-io-" + i);
+                loop.thread.start();
+            }
+            acceptor = new Thread(this::acceptLoop, "order-gateway-acceptor");
+            acceptor.start();
+            log.info("Order gateway listening on {}:{} with {} I/O threads and {} workers",
+                    host, port, ioThreads, workerThreads);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot start order gateway on port " + port, e);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            serverChannel.close();
+        } catch (IOException e) {
+            log.warn("Error closing gateway server channel", e);
+        }
+        for (IoLoop loop : loops) {
+            loop.selector.wakeup();
+        }
+        try {
+            acceptor.join(5000);
+            for (IoLoop loop : loops) {
+                loop.thread.join(5000);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        loops.clear();
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(5, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        log.info("Order gateway stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void acceptLoop() {
+        int next = 0;
+        while (running) {
+            try {
+                SocketChannel channel = serverChannel.accept();
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                IoLoop loop = loops.get(next++ % loops.size());
+                loop.pending.add(channel);
+                loop.selector.wakeup();
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException e) {
+                log.warn("Error accepting gateway connection", e);
+            }
+        }
+    }
+
+    /**
+     * Runs the session's decoded commands in order on the calling worker. Only one worker drains a
+     * session at a time; a command decoded while the flag is being released is picked up by
+     * re-checking the sequences after the release.
+     */
+    private void drain(GatewaySession session, IoLoop loop) {
+        do {
+            long next;
+            while ((next = session.executed) != session.decoded) {
+                GatewayCommand command = session.slot(next);
+                ByteBuffer frame = command.reply.clear();
+                boolean open;
+                try {
+                    open = messageHandler.onMessage(session, command, frame);
+                } catch (RuntimeException e) {
+                    log.error("Unexpected error while processing gateway message", e);
+                    open = false;
+                }
+                frame.flip();
+                command.close = !open;
+                session.executed = next + 1;
+                loop.signal();
+            }
+            session.draining.set(false);
+        } while (session.executed != session.decoded && session.draining.compareAndSet(false, true));
+    }
+
+    private final class IoLoop implements Runnable {
+
+        private final Selector selector;
+        private final Queue<SocketChannel> pending = new ConcurrentLinkedQueue<>();
+        // this loop's sessions, scanned for new replies after a worker signal; I/O thread only
+        private final List<GatewaySession> sessions = new ArrayList<>();
+        private final AtomicBoolean signalled = new AtomicBoolean();
+        private final FrameDecoder frameDecoder = new FrameDecoder(new AssetCodeCache());
+        private final Consumer<SelectionKey> keyHandler = this::onKey;
+        private Thread thread;
+
+        private IoLoop(Selector selector) {
+            this.selector = selector;
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                try {
+                    registerPending();
+                    selector.select(keyHandler, 1000);
+                    applySignalled();
+                } catch (IOException e) {
+                    log.error("Gateway selector failure", e);
+                }
+            }
+            for (SelectionKey key : selector.keys()) {
+                close(key);
+            }
+            try {
+                selector.close();
+            } catch (IOException e) {
+                log.warn("Error closing gateway selector", e);
+            }
+        }
+
+        /**
+         * Called by a worker after publishing a reply; wakes the selector once per batch of replies.
+         */
+        private void signal() {
+            if (signalled.compareAndSet(false, true)) {
+                selector.wakeup();
+            }
+        }
+
+        private void registerPending() {
+            SocketChannel channel;
+            while ((channel = pending.poll()) != null) {
+                try {
+                    SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+                    GatewaySession session = new GatewaySession(channel, key, bufferSize, maxOutstanding, MAX_OUTBOUND_FRAME);
+                    session.drainTask = () -> drain(session, this);
+                    key.attach(session);
+                    sessions.add(session);
+                } catch (ClosedChannelException e) {
+                    log.debug("Gateway connection closed before registration");
+                }
+            }
+        }
+
+        /**
+         * Applies the replies of every session a worker has answered since the last signal. The flag is
+         * cleared before the scan, so a reply published during the scan is either seen by it or raises
+         * the flag again for the next pass. Closed sessions are dropped here, swapping in the last
+         * session, which the downward scan has already visited.
+         */
+        private void applySignalled() {
+            if (!signalled.getAndSet(false)) {
+                return;
+            }
+            for (int i = sessions.size() - 1; i >= 0; i--) {
+                GatewaySession session = sessions.get(i);
+                if (!session.key.isValid()) {
+                    sessions.set(i, sessions.get(sessions.size() - 1));
+                    sessions.remove(sessions.size() - 1);
+                    continue;
+                }
+                if (session.applied == session.executed) {
+                    continue;
+                }
+                try {
+                    applyReplies(session);
+                } catch (IOException e) {
+                    log.debug("Gateway connection error: {}", e.getMessage());
+                    close(session.key);
+                }
+            }
+        }
+
+        private void onKey(SelectionKey key) {
+            GatewaySession session = (GatewaySession) key.attachment();
+            try {
+                if (key.isWritable()) {
+                    if (!flush(session)) {
+                        return;
+                    }
+                    // replies and frames left behind while the peer was not draining
+                    applyReplies(session);
+                }
+                if (key.isValid() && key.isReadable()) {
+                    read(session);
+                }
+            } catch (IOException e) {
+                log.debug("Gateway connection error: {}", e.getMessage());
+                close(key);
+            }
+        }
+
+        private void read(GatewaySession session) throws IOException {
+            if (session.channel.read(session.in) < 0) {
+                close(session.key);
+                return;
+            }
+            process(session);
+        }
+
+        /**
+         * Decodes complete frames and dispatches them until the outstanding limit is reached; the rest
+         * stays in the read buffer until replies come back.
+         */
+        private void process(GatewaySession session) {
+            ByteBuffer in = session.in;
+            in.flip();
+            while (!session.closing && session.outstanding() < maxOutstanding) {
+                GatewayCommand command = session.slot(session.decoded);
+                if (!frameDecoder.next(in, command)) {
+                    break;
+                }
+                if (command.kind == GatewayCommand.Kind.MALFORMED) {
+                    // nothing after a bad frame can be trusted; close once it has been answered
+                    session.closing = true;
+                }
+                // publishes the slot to the draining worker
+                session.decoded++;
+                if (session.draining.compareAndSet(false, true)) {
+                    workers.execute(session.drainTask);
+                }
+            }
+            in.compact();
+            updateInterest(session);
+        }
+
+        /**
+         * Moves completed replies into the write buffer in order, flushes it, and resumes decoding
+         * once replies have freed ring slots.
+         */
+        private void applyReplies(GatewaySession session) throws IOException {
+            ByteBuffer out = session.out;
+            while (!session.closeWhenFlushed && session.applied != session.executed) {
+                GatewayCommand command = session.slot(session.applied);
+                ByteBuffer frame = command.reply;
+                if (out.remaining() < frame.remaining() && !flush(session)) {
+                    break;
+                }
+                out.put(frame);
+                session.applied++;
+                if (command.close) {
+                    session.closing = true;
+                    session.closeWhenFlushed = true;
+                }
+            }
+            boolean drained = flush(session);
+            if (session.closeWhenFlushed) {
+                if (drained) {
+                    close(session.key);
+                }
+                return;
+            }
+            process(session);
+        }
+
+        /**
+         * @return true if the write buffer was fully drained
+         */
+        private boolean flush(GatewaySession session) throws IOException {
+            ByteBuffer out = session.out;
+            if (out.position() == 0) {
+                return true;
+            }
+            out.flip();
+            session.channel.write(out);
+            boolean drained = !out.hasRemaining();
+            out.compact();
+            updateInterest(session);
+            return drained;
+        }
+
+        /**
+         * Reads only while the read buffer has room, so a session whose frames are held back by the
+         * outstanding limit does not keep the selector spinning on a readable socket.
+         */
+        private void updateInterest(GatewaySession session) {
+            if (!session.key.isValid()) {
+                return;
+            }
+            int ops = 0;
+            if (!session.closing && session.in.hasRemaining()) {
+                ops |= SelectionKey.OP_READ;
+            }
+            if (session.out.position() > 0) {
+                ops |= SelectionKey.OP_WRITE;
+            }
+            session.key.interestOps(ops);
+        }
+
+        private void close(SelectionKey key) {
+            key.cancel();
+            try {
+                key.channel().close();
+            } catch (IOException e) {
+                log.debug("Error closing gateway connection", e);
+            }
+        }
+    }
+}
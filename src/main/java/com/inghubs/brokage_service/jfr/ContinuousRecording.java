@@ -0,0 +1,52 @@
+package com.inghubs.brokage_service.jfr;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Optional always-on recording (jfr.recording.enabled=true) with the JDK default profile plus
+ * jfr/brokage.jfc. Dump it on demand with {@code jcmd <pid> JFR.dump name=brokage filename=...}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jfr.recording.enabled", havingValue = "true")
+public class ContinuousRecording {
+
+    private static final String SETTINGS = "/jfr/brokage.jfc";
+
+    private final Recording recording;
+
+    public ContinuousRecording(@Value("${jfr.recording.max-age:PT30M}") Duration maxAge) throws IOException, ParseException {
+        Map<String, String> settings = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+        try (Reader reader = new InputStreamReader(
+                Objects.requireNonNull(getClass().getResourceAsStream(SETTINGS), SETTINGS), StandardCharsets.UTF_8)) {
+            settings.putAll(Configuration.create(reader).getSettings());
+        }
+        this.recording = new Recording(settings);
+        recording.setName("brokage");
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge);
+        recording.start();
+        log.info("Continuous flight recording started, keeping the last {}", maxAge);
+    }
+
+    @PreDestroy
+    void stop() {
+        recording.close();
+    }
+}
@@ -0,0 +1,37 @@
+package com.inghubs.brokage_service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One processing stage of an order operation. Disabled unless the recording uses the settings in
+ * jfr/brokage.jfc.
+ */
+@Name("com.inghubs.brokage.OrderStage")
+@Label("Order Stage")
+@Category({"Brokage", "Orders"})
+@Description("Duration of one processing stage of an order create or match")
+@StackTrace(false)
+@Enabled(false)
+public class OrderStageEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Stage")
+    String stage;
+
+    @Label("Order Id")
+    long orderId;
+
+    @Label("Customer Id")
+    long customerId;
+
+    @Label("Asset Name")
+    String assetName;
+}
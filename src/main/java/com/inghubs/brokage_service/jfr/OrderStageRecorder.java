@@ -0,0 +1,126 @@
+package com.inghubs.brokage_service.jfr;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Times consecutive stages of one order operation as {@link OrderStageEvent}s. Events are committed
+ * together at the end so every stage carries the order id, including stages that ran before the
+ * order was saved. When the event is disabled a shared no-op instance is returned.
+ */
+public final class OrderStageRecorder {
+
+    public static final String CREATE = "create";
+    public static final String MATCH = "match";
+
+    public static final String AUTHORIZATION = "authorization";
+    public static final String CUSTOMER_LOOKUP = "customer_lookup";
+    public static final String ORDER_LOOKUP = "order_lookup";
+    public static final String RISK_CHECK = "risk_check";
+    public static final String ASSET_LOCK = "asset_lock";
+    public static final String BALANCE_VALIDATION = "balance_validation";
+    public static final String ASSET_UPDATE = "asset_update";
+    public static final String SAVE = "save";
+    public static final String MAPPING = "mapping";
+    public static final String COMMIT = "commit";
+
+    private static final OrderStageRecorder DISABLED = new OrderStageRecorder(null, false);
+
+    private final String operation;
+    private final boolean enabled;
+    private final List<OrderStageEvent> events;
+    private OrderStageEvent current;
+    private long orderId;
+    private long customerId;
+    private String assetName;
+
+    private OrderStageRecorder(String operation, boolean enabled) {
+        this.operation = operation;
+        this.enabled = enabled;
+        this.events = enabled ? new ArrayList<>(8) : List.of();
+    }
+
+    public static OrderStageRecorder start(String operation) {
+        return new OrderStageEvent().isEnabled() ? new OrderStageRecorder(operation, true) : DISABLED;
+    }
+
+    /**
+     * Ends the running stage, if any, and begins the next one.
+     */
+    public void stage(String stage) {
+        if (!enabled) {
+            return;
+        }
+        endCurrent();
+        current = new OrderStageEvent();
+        current.stage = stage;
+        current.begin();
+    }
+
+    public void orderId(Long orderId) {
+        if (enabled && orderId != null) {
+            this.orderId = orderId;
+        }
+    }
+
+    public void customerId(Long customerId) {
+        if (enabled && customerId != null) {
+            this.customerId = customerId;
+        }
+    }
+
+    public void assetName(String assetName) {
+        if (enabled) {
+            this.assetName = assetName;
+        }
+    }
+
+    /**
+     * Starts the commit stage and writes all events once the surrounding transaction completes.
+     */
+    public void completeOnCommit() {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            close();
+            return;
+        }
+        stage(COMMIT);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                close();
+            }
+        });
+    }
+
+    /**
+     * Ends the running stage and writes all events.
+     */
+    public void close() {
+        if (!enabled) {
+            return;
+        }
+        endCurrent();
+        for (OrderStageEvent event : events) {
+            event.operation = operation;
+            event.orderId = orderId;
+            event.customerId = customerId;
+            event.assetName = assetName;
+            event.commit();
+        }
+        events.clear();
+    }
+
+    private void endCurrent() {
+        if (current != null) {
+            current.end();
+            events.add(current);
+            current = null;
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.inghubs.brokage_service.mapper;
 
+import com.inghubs.brokage_service.dto.response.OrderFillResponse;
 import com.inghubs.brokage_service.dto.response.OrderResponse;
 import com.inghubs.brokage_service.model.entity.Order;
+import com.inghubs.brokage_service.model.entity.OrderFill;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -14,5 +16,10 @@ public interface OrderMapper {
     OrderResponse toResponse(Order order);
     
     List<OrderResponse> toResponseList(List<Order> orders);
+    
+    @Mapping(source = "order.id", target = "orderId")
+    OrderFillResponse toFillResponse(OrderFill fill);
+    
+    List<OrderFillResponse> toFillResponseList(List<OrderFill> fills);
 }
 
@@ -0,0 +1,17 @@
+package com.inghubs.brokage_service.mapper;
+
+import com.inghubs.brokage_service.dto.response.StopOrderResponse;
+import com.inghubs.brokage_service.model.entity.StopOrder;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface StopOrderMapper {
+    
+    @Mapping(source = "customer.id", target = "customerId")
+    StopOrderResponse toResponse(StopOrder stopOrder);
+    
+    List<StopOrderResponse> toResponseList(List<StopOrder> stopOrders);
+}
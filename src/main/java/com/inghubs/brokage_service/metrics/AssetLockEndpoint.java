@@ -0,0 +1,34 @@
+package com.inghubs.brokage_service.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * {@code GET /actuator/assetlocks?limit=20} reports lock wait statistics and the most contended
+ * (customerId, assetName) keys; {@code DELETE} clears the hot-key windows.
+ */
+@Component
+@Endpoint(id = "assetlocks")
+@RequiredArgsConstructor
+public class AssetLockEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final AssetLockMonitor assetLockMonitor;
+
+    @ReadOperation
+    public Map<String, Object> assetLocks(@Nullable Integer limit) {
+        return assetLockMonitor.report(limit != null ? limit : DEFAULT_LIMIT);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        assetLockMonitor.reset();
+    }
+}
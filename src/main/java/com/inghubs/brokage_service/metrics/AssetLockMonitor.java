@@ -0,0 +1,204 @@
+package com.inghubs.brokage_service.metrics;
+
+import com.inghubs.brokage_service.util.SpaceSavingSketch;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Wait time of the PESSIMISTIC_WRITE asset row locks. Besides the overall timer, the keys that waited
+ * longest are tracked in a space-saving sketch per time window; the current and the previous window
+ * are reported, so a contention burst shows up within one window instead of being diluted by history.
+ * <p>
+ * The sketches are striped by key hash, each stripe with its own lock. A key always lands in the same
+ * stripe, so merging the stripes on read loses nothing. Only offers that share a stripe contend, and
+ * offers for a single hot key are already serialized by the row lock they measure.
+ */
+@Component
+public class AssetLockMonitor {
+
+    public enum LockFailure { TIMEOUT, DEADLOCK, OTHER }
+
+    private static final Comparator<SpaceSavingSketch.Entry<?>> BY_WEIGHT_DESC =
+            Comparator.comparingLong((SpaceSavingSketch.Entry<?> entry) -> entry.getWeight()).reversed();
+
+    private final Timer lockWait;
+    private final Counter timeouts;
+    private final Counter deadlocks;
+    private final Stripe[] stripes;
+    private volatile long windowStartedAt = System.currentTimeMillis();
+
+    public AssetLockMonitor(MeterRegistry meterRegistry, @Value("${asset-lock.top-k:64}") int capacity) {
+        // a power of two of at least the core count, so the stripe is picked with a mask
+        int stripeCount = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 2 - 1);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(capacity);
+        }
+        this.lockWait = Timer.builder("brokage.assets.lock.wait")
+                .description("Time to acquire an asset row lock")
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.timeouts = Counter.builder("brokage.assets.lock.failures").tag("type", "timeout").register(meterRegistry);
+        this.deadlocks = Counter.builder("brokage.assets.lock.failures").tag("type", "deadlock").register(meterRegistry);
+    }
+
+    public void recordAcquired(Long customerId, String assetName, long waitNanos) {
+        lockWait.record(waitNanos, TimeUnit.NANOSECONDS);
+        offer(customerId, assetName, waitNanos);
+    }
+
+    public LockFailure recordFailure(Long customerId, String assetName, long waitNanos, Throwable failure) {
+        LockFailure type = classify(failure);
+        if (type == LockFailure.TIMEOUT) {
+            timeouts.increment();
+        } else if (type == LockFailure.DEADLOCK) {
+            deadlocks.increment();
+        }
+        if (type != LockFailure.OTHER) {
+            offer(customerId, assetName, waitNanos);
+        }
+        return type;
+    }
+
+    @Scheduled(fixedDelayString = "${asset-lock.window:60000}")
+    public void rotateWindow() {
+        for (Stripe stripe : stripes) {
+            stripe.rotate(false);
+        }
+        windowStartedAt = System.currentTimeMillis();
+    }
+
+    public void reset() {
+        for (Stripe stripe : stripes) {
+            stripe.rotate(true);
+        }
+        windowStartedAt = System.currentTimeMillis();
+    }
+
+    public Map<String, Object> report(int limit) {
+        List<SpaceSavingSketch.Entry<AssetKey>> current = new ArrayList<>();
+        List<SpaceSavingSketch.Entry<AssetKey>> previous = new ArrayList<>();
+        long startedAt = windowStartedAt;
+        for (Stripe stripe : stripes) {
+            stripe.top(limit, current, previous);
+        }
+        current.sort(BY_WEIGHT_DESC);
+        previous.sort(BY_WEIGHT_DESC);
+
+        Map<String, Object> percentiles = new LinkedHashMap<>();
+        for (ValueAtPercentile value : lockWait.takeSnapshot().percentileValues()) {
+            percentiles.put("p" + value.percentile() * 100, value.value(TimeUnit.MILLISECONDS));
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("acquisitions", lockWait.count());
+        report.put("meanWaitMillis", lockWait.mean(TimeUnit.MILLISECONDS));
+        report.put("maxWaitMillis", lockWait.max(TimeUnit.MILLISECONDS));
+        report.put("waitPercentilesMillis", percentiles);
+        report.put("timeouts", (long) timeouts.count());
+        report.put("deadlocks", (long) deadlocks.count());
+        report.put("windowStartedAt", startedAt);
+        report.put("hotKeys", current.stream().limit(limit).map(AssetLockMonitor::toView).toList());
+        report.put("previousWindowHotKeys", previous.stream().limit(limit).map(AssetLockMonitor::toView).toList());
+        return report;
+    }
+
+    private void offer(Long customerId, String assetName, long waitNanos) {
+        AssetKey key = new AssetKey(customerId, assetName);
+        int hash = key.hashCode();
+        stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)].offer(key, TimeUnit.NANOSECONDS.toMicros(waitNanos));
+    }
+
+    static LockFailure classify(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof jakarta.persistence.LockTimeoutException
+                    || cause instanceof org.hibernate.exception.LockTimeoutException) {
+                return LockFailure.TIMEOUT;
+            }
+            if (cause instanceof SQLException sqlException && sqlException.getSQLState() != null) {
+                switch (sqlException.getSQLState()) {
+                    // serialization failure / deadlock detected (H2, PostgreSQL, ...)
+                    case "40001", "40P01" -> {
+                        return LockFailure.DEADLOCK;
+                    }
+                    // H2 lock timeout, PostgreSQL lock_not_available
+                    case "HYT00", "55P03" -> {
+                        return LockFailure.TIMEOUT;
+                    }
+                    default -> {
+                    }
+                }
+            }
+        }
+        return LockFailure.OTHER;
+    }
+
+    private static HotKeyView toView(SpaceSavingSketch.Entry<AssetKey> entry) {
+        return new HotKeyView(entry.getKey().customerId(), entry.getKey().assetName(),
+                entry.getWeight() / 1000.0, entry.getError() / 1000.0, entry.getHits());
+    }
+
+    private record AssetKey(Long customerId, String assetName) {
+    }
+
+    private static final class Stripe {
+
+        private final int capacity;
+        private final ReentrantLock lock = new ReentrantLock();
+        private SpaceSavingSketch<AssetKey> currentWindow;
+        private SpaceSavingSketch<AssetKey> previousWindow;
+
+        private Stripe(int capacity) {
+            this.capacity = capacity;
+            this.currentWindow = new SpaceSavingSketch<>(capacity);
+            this.previousWindow = new SpaceSavingSketch<>(capacity);
+        }
+
+        private void offer(AssetKey key, long waitMicros) {
+            lock.lock();
+            try {
+                currentWindow.offer(key, waitMicros);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void rotate(boolean clearPrevious) {
+            lock.lock();
+            try {
+                previousWindow = clearPrevious ? new SpaceSavingSketch<>(capacity) : currentWindow;
+                currentWindow = new SpaceSavingSketch<>(capacity);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void top(int limit, List<SpaceSavingSketch.Entry<AssetKey>> current,
+                         List<SpaceSavingSketch.Entry<AssetKey>> previous) {
+            lock.lock();
+            try {
+                current.addAll(currentWindow.top(limit));
+                previous.addAll(previousWindow.top(limit));
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    public record HotKeyView(Long customerId, String assetName, double waitMillis, double errorMillis, long acquisitions) {
+    }
+}
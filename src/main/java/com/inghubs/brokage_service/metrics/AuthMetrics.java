@@ -0,0 +1,43 @@
+package com.inghubs.brokage_service.metrics;
+
+import com.inghubs.brokage_service.exception.UnauthorizedException;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Login latency by outcome: rejected credentials are told apart from errors.
+ */
+@Component
+public class AuthMetrics {
+
+    private static final String SUCCESS = "success";
+    private static final String REJECTED = "rejected";
+    private static final String ERROR = "error";
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final MeterRegistry meterRegistry;
+    private final Meter.MeterProvider<Timer> loginTimers;
+
+    public AuthMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.loginTimers = Timer.builder("brokage.auth.login.latency")
+                .description("Login latency")
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .withRegistry(meterRegistry);
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void loginCompleted(Timer.Sample sample) {
+        sample.stop(loginTimers.withTags("outcome", SUCCESS));
+    }
+
+    public void loginFailed(Timer.Sample sample, RuntimeException e) {
+        sample.stop(loginTimers.withTags("outcome", e instanceof UnauthorizedException ? REJECTED : ERROR));
+    }
+}
@@ -0,0 +1,40 @@
+package com.inghubs.brokage_service.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Registered ahead of the security chain, so the recorded latency covers authentication as well.
+ * Requests that never reach a controller method (rejected by security, static resources) are not
+ * recorded.
+ */
+public class EndpointLatencyFilter extends OncePerRequestFilter {
+
+    private final EndpointLatencyRecorders recorders;
+
+    public EndpointLatencyFilter(EndpointLatencyRecorders recorders) {
+        this.recorders = recorders;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handlerMethod) {
+                recorders.record(handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName(),
+                        System.nanoTime() - start);
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.inghubs.brokage_service.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Request latency per controller method in HdrHistogram recorders (microseconds, 3 significant
+ * digits). Recording is wait-free; readers fold the recorder's interval histogram into a running
+ * histogram that is kept until it is reset. With a non-zero expected interval, recordings are
+ * corrected for coordinated omission.
+ */
+@Component
+public class EndpointLatencyRecorders {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final ConcurrentHashMap<String, EndpointLatency> endpoints = new ConcurrentHashMap<>();
+    private final long expectedIntervalMicros;
+
+    public EndpointLatencyRecorders(@Value("${latency.expected-interval-micros:0}") long expectedIntervalMicros) {
+        this.expectedIntervalMicros = expectedIntervalMicros;
+    }
+
+    public void record(String endpoint, long latencyNanos) {
+        EndpointLatency latency = endpoints.get(endpoint);
+        if (latency == null) {
+            latency = endpoints.computeIfAbsent(endpoint, key -> new EndpointLatency());
+        }
+        long micros = TimeUnit.NANOSECONDS.toMicros(latencyNanos);
+        if (expectedIntervalMicros > 0) {
+            latency.recorder.recordValueWithExpectedInterval(micros, expectedIntervalMicros);
+        } else {
+            latency.recorder.recordValue(micros);
+        }
+    }
+
+    public Map<String, Object> report(boolean reset) {
+        Map<String, Object> report = new TreeMap<>();
+        endpoints.forEach((endpoint, latency) -> report.put(endpoint, latency.snapshot(reset)));
+        return report;
+    }
+
+    private static final class EndpointLatency {
+
+        private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+        private final Histogram accumulated = new Histogram(SIGNIFICANT_DIGITS);
+        private final ReentrantLock lock = new ReentrantLock();
+        private Histogram recycled;
+
+        private EndpointLatency() {
+            accumulated.setStartTimeStamp(System.currentTimeMillis());
+        }
+
+        Map<String, Object> snapshot(boolean reset) {
+            lock.lock();
+            try {
+                recycled = recorder.getIntervalHistogram(recycled);
+                accumulated.add(recycled);
+                accumulated.setEndTimeStamp(System.currentTimeMillis());
+
+                Map<String, Object> view = new LinkedHashMap<>();
+                view.put("count", accumulated.getTotalCount());
+                view.put("p50Millis", millis(accumulated.getValueAtPercentile(50)));
+                view.put("p90Millis", millis(accumulated.getValueAtPercentile(90)));
+                view.put("p99Millis", millis(accumulated.getValueAtPercentile(99)));
+                view.put("p999Millis", millis(accumulated.getValueAtPercentile(99.9)));
+                view.put("maxMillis", millis(accumulated.getMaxValue()));
+                view.put("meanMillis", accumulated.getMean() / 1000.0);
+                view.put("intervalStart", accumulated.getStartTimeStamp());
+                view.put("intervalEnd", accumulated.getEndTimeStamp());
+
+                if (reset) {
+                    accumulated.reset();
+                    accumulated.setStartTimeStamp(System.currentTimeMillis());
+                }
+                return view;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+}
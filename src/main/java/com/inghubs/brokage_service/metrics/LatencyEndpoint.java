@@ -0,0 +1,26 @@
+package com.inghubs.brokage_service.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * {@code GET /actuator/latency} returns per-endpoint latency since the last reset;
+ * {@code GET /actuator/latency?reset=true} also starts a new interval (reset-on-read).
+ */
+@Component
+@Endpoint(id = "latency")
+@RequiredArgsConstructor
+public class LatencyEndpoint {
+
+    private final EndpointLatencyRecorders recorders;
+
+    @ReadOperation
+    public Map<String, Object> latency(@Nullable Boolean reset) {
+        return recorders.report(Boolean.TRUE.equals(reset));
+    }
+}
@@ -0,0 +1,109 @@
+package com.inghubs.brokage_service.metrics;
+
+import com.inghubs.brokage_service.exception.BadRequestException;
+import com.inghubs.brokage_service.exception.ForbiddenException;
+import com.inghubs.brokage_service.exception.InsufficientUsableSizeException;
+import com.inghubs.brokage_service.exception.NotFoundException;
+import com.inghubs.brokage_service.exception.RiskLimitExceededException;
+import com.inghubs.brokage_service.model.enums.OrderSide;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Latency and rejection metrics of order entry. Successful operations are timed until their
+ * transaction completes, so the flush and commit of the asset updates are part of the measurement.
+ */
+@Component
+public class OrderMetrics {
+
+    public static final String CREATE = "create";
+    public static final String CANCEL = "cancel";
+    public static final String MATCH = "match";
+    public static final String AMEND = "amend";
+
+    private static final String LATENCY = "brokage.orders.latency";
+    private static final String REJECTIONS = "brokage.orders.rejections";
+    private static final String SUCCESS = "success";
+    private static final String REJECTED = "rejected";
+    private static final String ERROR = "error";
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final MeterRegistry meterRegistry;
+    private final Meter.MeterProvider<Timer> orderTimers;
+    private final Meter.MeterProvider<Counter> rejections;
+
+    public OrderMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.orderTimers = Timer.builder(LATENCY)
+                .description("Order create, cancel, amend and match latency including commit")
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .withRegistry(meterRegistry);
+        this.rejections = Counter.builder(REJECTIONS)
+                .description("Order operations rejected, by reason")
+                .withRegistry(meterRegistry);
+    }
+
+    /**
+     * Removes the order timers and rejection counters from the registry, so synthetic traffic such as
+     * the start-up warm-up does not stay in them; the next operation registers them afresh.
+     */
+    public void reset() {
+        meterRegistry.find(LATENCY).meters().forEach(meterRegistry::remove);
+        meterRegistry.find(REJECTIONS).meters().forEach(meterRegistry::remove);
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void orderCompleted(Timer.Sample sample, String operation, OrderSide side) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    stopOrder(sample, operation, side, status == STATUS_COMMITTED ? SUCCESS : ERROR);
+                }
+            });
+        } else {
+            stopOrder(sample, operation, side, SUCCESS);
+        }
+    }
+
+    public void orderFailed(Timer.Sample sample, String operation, OrderSide side, RuntimeException e) {
+        String reason = rejectionReason(e);
+        if (reason != null) {
+            rejections.withTags("operation", operation, "reason", reason).increment();
+        }
+        stopOrder(sample, operation, side, reason != null ? REJECTED : ERROR);
+    }
+
+    private void stopOrder(Timer.Sample sample, String operation, OrderSide side, String outcome) {
+        sample.stop(orderTimers.withTags("operation", operation,
+                "side", side != null ? side.name() : "UNKNOWN", "outcome", outcome));
+    }
+
+    private static String rejectionReason(RuntimeException e) {
+        if (e instanceof InsufficientUsableSizeException) {
+            return "insufficient_usable_size";
+        }
+        if (e instanceof RiskLimitExceededException) {
+            return "risk_limit";
+        }
+        if (e instanceof NotFoundException) {
+            return "not_found";
+        }
+        if (e instanceof ForbiddenException) {
+            return "forbidden";
+        }
+        if (e instanceof BadRequestException) {
+            return "invalid_state";
+        }
+        return null;
+    }
+}
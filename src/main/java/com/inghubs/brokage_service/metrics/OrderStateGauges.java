@@ -0,0 +1,49 @@
+package com.inghubs.brokage_service.metrics;
+
+import com.inghubs.brokage_service.model.enums.OrderStatus;
+import com.inghubs.brokage_service.repository.AssetRepository;
+import com.inghubs.brokage_service.repository.OrderRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gauges over the order book: open (PENDING or PARTIALLY_FILLED) order count and the amount reserved (size - usableSize) per
+ * asset. Values come from two aggregate queries on a fixed delay rather than from the scrape thread.
+ */
+@Component
+public class OrderStateGauges {
+
+    private static final Set<OrderStatus> OPEN = EnumSet.of(OrderStatus.PENDING, OrderStatus.PARTIALLY_FILLED);
+
+    private final OrderRepository orderRepository;
+    private final AssetRepository assetRepository;
+    private final AtomicLong pendingOrders = new AtomicLong();
+    private final MultiGauge reservedAmounts;
+
+    public OrderStateGauges(OrderRepository orderRepository, AssetRepository assetRepository, MeterRegistry meterRegistry) {
+        this.orderRepository = orderRepository;
+        this.assetRepository = assetRepository;
+        Gauge.builder("brokage.orders.pending", pendingOrders, AtomicLong::get)
+                .description("Orders in PENDING or PARTIALLY_FILLED status")
+                .register(meterRegistry);
+        this.reservedAmounts = MultiGauge.builder("brokage.assets.reserved")
+                .description("Amount reserved by pending orders, per asset")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${metrics.gauge-refresh-interval:15000}")
+    public void refresh() {
+        pendingOrders.set(orderRepository.countByStatusIn(OPEN));
+        reservedAmounts.register(assetRepository.sumReservedByAssetName().stream()
+                .map(row -> MultiGauge.Row.of(Tags.of("asset", row.getAssetName()), row.getReserved()))
+                .toList(), true);
+    }
+}
@@ -0,0 +1,54 @@
+package com.inghubs.brokage_service.metrics;
+
+import com.inghubs.brokage_service.config.SettlementProperties;
+import com.inghubs.brokage_service.model.entity.SettlementRun;
+import com.inghubs.brokage_service.service.SettlementService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code GET /actuator/settlement} reports the settlement mode, unsettled fills and the latest run;
+ * {@code POST} runs (or resumes) a settlement now instead of waiting for the schedule.
+ */
+@Component
+@Endpoint(id = "settlement")
+@RequiredArgsConstructor
+public class SettlementEndpoint {
+
+    private final SettlementService settlementService;
+    private final SettlementProperties settlementProperties;
+
+    @ReadOperation
+    public Map<String, Object> settlement() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("mode", settlementProperties.getMode());
+        report.put("inProgress", settlementService.isInProgress());
+        report.put("unsettledFills", settlementService.unsettledFills());
+        settlementService.lastRun().ifPresent(run -> report.put("lastRun", describe(run)));
+        return report;
+    }
+
+    @WriteOperation
+    public Map<String, Object> settle() {
+        return settlementService.settle()
+                .map(SettlementEndpoint::describe)
+                .orElseGet(() -> Map.of("run", settlementService.isInProgress() ? "already in progress" : "nothing to settle"));
+    }
+
+    private static Map<String, Object> describe(SettlementRun run) {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("id", run.getId());
+        description.put("status", run.getStatus());
+        description.put("maxFillId", run.getMaxFillId());
+        description.put("settledFills", run.getSettledFills());
+        description.put("startDate", run.getStartDate());
+        description.put("endDate", run.getEndDate());
+        return description;
+    }
+}
@@ -2,17 +2,21 @@ package com.inghubs.brokage_service.model.entity;
 
 import com.inghubs.brokage_service.model.enums.OrderSide;
 import com.inghubs.brokage_service.model.enums.OrderStatus;
+import com.inghubs.brokage_service.model.enums.OrderType;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+    @Index(name = "idx_orders_status_asset", columnList = "status, asset_name, order_side")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -34,19 +38,39 @@ public class Order {
     @Enumerated(EnumType.STRING)
     private OrderSide orderSide;
     
+    @Builder.Default
+    @ColumnDefault("'LIMIT'")
+    @Column(name = "order_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private OrderType orderType = OrderType.LIMIT;
+    
     @Column(nullable = false, precision = 19, scale = 2)
     private BigDecimal size;
     
     @Column(nullable = false, precision = 19, scale = 2)
     private BigDecimal price;
     
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "filled_size", nullable = false, precision = 19, scale = 2)
+    private BigDecimal filledSize = BigDecimal.ZERO;
+    
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private OrderStatus status;
     
-    @Column(name = "create_date", nullable = false, updatable = false)
+    // time priority; an amendment that increases size or changes price moves it to the amendment time
+    @Column(name = "create_date", nullable = false)
     private LocalDateTime createDate;
     
+    public BigDecimal getRemainingSize() {
+        return size.subtract(filledSize);
+    }
+    
+    public boolean isOpen() {
+        return status == OrderStatus.PENDING || status == OrderStatus.PARTIALLY_FILLED;
+    }
+    
     @PrePersist
     protected void onCreate() {
         createDate = LocalDateTime.now();
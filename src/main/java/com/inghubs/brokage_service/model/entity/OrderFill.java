@@ -0,0 +1,58 @@
+package com.inghubs.brokage_service.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "order_fills", indexes = {
+    @Index(name = "idx_order_fills_order", columnList = "order_id"),
+    @Index(name = "idx_order_fills_settled", columnList = "settled, id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderFill {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "order_id", nullable = false)
+    private Order order;
+    
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal size;
+    
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal price;
+    
+    // the order's limit when the fill happened; an amend may move it before the fill is settled
+    @Column(name = "limit_price", precision = 19, scale = 2)
+    private BigDecimal limitPrice;
+    
+    // false while a DEFERRED fill waits for the settlement batch to move its assets
+    @Builder.Default
+    @ColumnDefault("true")
+    @Column(nullable = false)
+    private boolean settled = true;
+    
+    @Column(name = "settlement_run_id")
+    private Long settlementRunId;
+    
+    @Column(name = "fill_date", nullable = false, updatable = false)
+    private LocalDateTime fillDate;
+    
+    @PrePersist
+    protected void onCreate() {
+        fillDate = LocalDateTime.now();
+    }
+}
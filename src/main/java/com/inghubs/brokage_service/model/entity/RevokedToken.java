@@ -0,0 +1,33 @@
+package com.inghubs.brokage_service.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+    @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokedToken {
+    
+    @Id
+    @Column(name = "token_id", nullable = false, length = 64)
+    private String tokenId;
+    
+    @Column(nullable = false)
+    private String username;
+    
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+    
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+}
@@ -0,0 +1,38 @@
+package com.inghubs.brokage_service.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress of one partition of a settlement run: customers in (lastCustomerId, rangeEnd] are still to
+ * be settled. Advanced in the same transaction as the chunk it covers.
+ */
+@Entity
+@Table(name = "settlement_checkpoints", indexes = {
+    @Index(name = "idx_settlement_checkpoints_run", columnList = "run_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SettlementCheckpoint {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+    
+    @Column(name = "partition_index", nullable = false)
+    private int partitionIndex;
+    
+    @Column(name = "last_customer_id", nullable = false)
+    private Long lastCustomerId;
+    
+    @Column(name = "range_end", nullable = false)
+    private Long rangeEnd;
+}
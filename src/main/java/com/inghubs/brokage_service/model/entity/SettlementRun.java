@@ -0,0 +1,40 @@
+package com.inghubs.brokage_service.model.entity;
+
+import com.inghubs.brokage_service.model.enums.SettlementStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "settlement_runs")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SettlementRun {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    // fills up to this id that were unsettled when the run started belong to it
+    @Column(name = "max_fill_id", nullable = false)
+    private Long maxFillId;
+    
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private SettlementStatus status;
+    
+    @Column(name = "settled_fills")
+    private Long settledFills;
+    
+    @Column(name = "start_date", nullable = false)
+    private LocalDateTime startDate;
+    
+    @Column(name = "end_date")
+    private LocalDateTime endDate;
+}
@@ -0,0 +1,76 @@
+package com.inghubs.brokage_service.model.entity;
+
+import com.inghubs.brokage_service.model.enums.OrderSide;
+import com.inghubs.brokage_service.model.enums.OrderType;
+import com.inghubs.brokage_service.model.enums.StopOrderStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "stop_orders", indexes = {
+    @Index(name = "idx_stop_orders_customer", columnList = "customer_id"),
+    @Index(name = "idx_stop_orders_status", columnList = "status")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StopOrder {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "customer_id", nullable = false)
+    private Customer customer;
+    
+    @Column(name = "asset_name", nullable = false)
+    private String assetName;
+    
+    @Column(name = "order_side", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private OrderSide orderSide;
+    
+    @Column(name = "order_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private OrderType orderType;
+    
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal size;
+    
+    @Column(name = "stop_price", nullable = false, precision = 19, scale = 2)
+    private BigDecimal stopPrice;
+    
+    // limit of a STOP_LIMIT order, optional protection price of a STOP order
+    @Column(name = "limit_price", precision = 19, scale = 2)
+    private BigDecimal limitPrice;
+    
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private StopOrderStatus status;
+    
+    // the order created on activation
+    @Column(name = "order_id")
+    private Long orderId;
+    
+    @Column(name = "reject_reason")
+    private String rejectReason;
+    
+    @Column(name = "create_date", nullable = false, updatable = false)
+    private LocalDateTime createDate;
+    
+    @Column(name = "trigger_date")
+    private LocalDateTime triggerDate;
+    
+    @PrePersist
+    protected void onCreate() {
+        createDate = LocalDateTime.now();
+    }
+}
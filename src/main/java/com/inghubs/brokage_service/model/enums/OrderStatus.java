@@ -3,6 +3,7 @@ package com.inghubs.brokage_service.model.enums;
 public enum OrderStatus {
     PENDING,
     MATCHED,
-    CANCELED
+    CANCELED,
+    PARTIALLY_FILLED
 }
 
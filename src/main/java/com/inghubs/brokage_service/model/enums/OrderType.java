@@ -0,0 +1,8 @@
+package com.inghubs.brokage_service.model.enums;
+
+public enum OrderType {
+    LIMIT,
+    MARKET,
+    STOP,
+    STOP_LIMIT
+}
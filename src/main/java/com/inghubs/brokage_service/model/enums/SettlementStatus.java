@@ -0,0 +1,6 @@
+package com.inghubs.brokage_service.model.enums;
+
+public enum SettlementStatus {
+    RUNNING,
+    COMPLETED
+}
@@ -0,0 +1,195 @@
+package com.inghubs.brokage_service.protobuf;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.inghubs.brokage_service.dto.request.AmendOrderRequest;
+import com.inghubs.brokage_service.dto.request.CreateOrderRequest;
+import com.inghubs.brokage_service.dto.request.LoginRequest;
+import com.inghubs.brokage_service.dto.request.MatchOrderRequest;
+import com.inghubs.brokage_service.dto.response.ApiResponse;
+import com.inghubs.brokage_service.dto.response.AssetResponse;
+import com.inghubs.brokage_service.dto.response.LoginResponse;
+import com.inghubs.brokage_service.dto.response.OrderFillResponse;
+import com.inghubs.brokage_service.dto.response.OrderResponse;
+import com.inghubs.brokage_service.protobuf.ProtobufCodec.DataKind;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads the request DTOs and writes {@link ApiResponse} bodies as {@code application/x-protobuf}.
+ * Registered after the JSON converter, so it is only selected when the client asks for protobuf via
+ * Accept or sends a protobuf Content-Type.
+ */
+public class ApiProtobufMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType PROTOBUF = new MediaType("application", "x-protobuf");
+
+    private static final Set<Class<?>> READABLE_TYPES =
+            Set.of(CreateOrderRequest.class, LoginRequest.class, MatchOrderRequest.class, AmendOrderRequest.class);
+
+    private static final int BUFFER_SIZE = 8192;
+
+    public ApiProtobufMessageConverter() {
+        super(PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ApiResponse.class.isAssignableFrom(clazz) || READABLE_TYPES.contains(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
+        return READABLE_TYPES.contains(clazz) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        Class<?> clazz = ResolvableType.forType(type).resolve();
+        return clazz != null && canRead(clazz, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, @Nullable MediaType mediaType) {
+        return ApiResponse.class.isAssignableFrom(clazz) && canWrite(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        if (!canWrite(clazz, mediaType)) {
+            return false;
+        }
+        return type == null || isSupportedDataType(dataType(type));
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        return readInternal(ResolvableType.forType(type).resolve(Object.class), inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        CodedInputStream input = CodedInputStream.newInstance(inputMessage.getBody());
+        try {
+            if (clazz == CreateOrderRequest.class) {
+                return ProtobufCodec.readCreateOrderRequest(input);
+            }
+            if (clazz == LoginRequest.class) {
+                return ProtobufCodec.readLoginRequest(input);
+            }
+            if (clazz == MatchOrderRequest.class) {
+                return ProtobufCodec.readMatchOrderRequest(input);
+            }
+            if (clazz == AmendOrderRequest.class) {
+                return ProtobufCodec.readAmendOrderRequest(input);
+            }
+        } catch (IOException e) {
+            throw new HttpMessageNotReadableException("Malformed protobuf body: " + e.getMessage(), e, inputMessage);
+        }
+        throw new HttpMessageNotReadableException("Unsupported protobuf request type: " + clazz.getName(), inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object body, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        ApiResponse<?> response = (ApiResponse<?>) body;
+        DataKind kind = type != null ? staticKind(dataType(type)) : null;
+        if (kind == null) {
+            kind = runtimeKind(response.getData());
+        }
+
+        CodedOutputStream output = CodedOutputStream.newInstance(outputMessage.getBody(), BUFFER_SIZE);
+        try {
+            ProtobufCodec.writeApiResponse(output, response, kind);
+        } catch (IllegalArgumentException e) {
+            throw new HttpMessageNotWritableException(e.getMessage(), e);
+        }
+        output.flush();
+    }
+
+    private static ResolvableType dataType(Type type) {
+        return ResolvableType.forType(type).as(ApiResponse.class).getGeneric(0);
+    }
+
+    private static boolean isSupportedDataType(ResolvableType dataType) {
+        Class<?> raw = dataType.resolve(Object.class);
+        return raw == Object.class || staticKind(dataType) != null;
+    }
+
+    /**
+     * @return the payload kind declared by the handler signature, or null when it is only known at runtime
+     */
+    @Nullable
+    private static DataKind staticKind(ResolvableType dataType) {
+        Class<?> raw = dataType.resolve(Object.class);
+        if (raw == Void.class) {
+            return DataKind.NONE;
+        }
+        if (raw == OrderResponse.class) {
+            return DataKind.ORDER;
+        }
+        if (raw == LoginResponse.class) {
+            return DataKind.LOGIN;
+        }
+        if (List.class.isAssignableFrom(raw)) {
+            Class<?> element = dataType.getGeneric(0).resolve(Object.class);
+            if (element == OrderResponse.class) {
+                return DataKind.ORDERS;
+            }
+            if (element == AssetResponse.class) {
+                return DataKind.ASSETS;
+            }
+            if (element == OrderFillResponse.class) {
+                return DataKind.FILLS;
+            }
+        }
+        if (Map.class.isAssignableFrom(raw) && dataType.getGeneric(1).resolve(Object.class) == String.class) {
+            return DataKind.ERRORS;
+        }
+        return null;
+    }
+
+    private static DataKind runtimeKind(@Nullable Object data) {
+        if (data == null) {
+            return DataKind.NONE;
+        }
+        if (data instanceof OrderResponse) {
+            return DataKind.ORDER;
+        }
+        if (data instanceof LoginResponse) {
+            return DataKind.LOGIN;
+        }
+        if (data instanceof Map) {
+            return DataKind.ERRORS;
+        }
+        if (data instanceof List<?> list) {
+            if (list.isEmpty()) {
+                return DataKind.NONE;
+            }
+            if (list.get(0) instanceof OrderResponse) {
+                return DataKind.ORDERS;
+            }
+            if (list.get(0) instanceof AssetResponse) {
+                return DataKind.ASSETS;
+            }
+            if (list.get(0) instanceof OrderFillResponse) {
+                return DataKind.FILLS;
+            }
+        }
+        throw new HttpMessageNotWritableException("No protobuf mapping for " + data.getClass().getName());
+    }
+}
@@ -0,0 +1,427 @@
+package com.inghubs.brokage_service.protobuf;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import com.inghubs.brokage_service.dto.request.AmendOrderRequest;
+import com.inghubs.brokage_service.dto.request.CreateOrderRequest;
+import com.inghubs.brokage_service.dto.request.LoginRequest;
+import com.inghubs.brokage_service.dto.request.MatchOrderRequest;
+import com.inghubs.brokage_service.dto.response.ApiResponse;
+import com.inghubs.brokage_service.dto.response.AssetResponse;
+import com.inghubs.brokage_service.dto.response.LoginResponse;
+import com.inghubs.brokage_service.dto.response.OrderFillResponse;
+import com.inghubs.brokage_service.dto.response.OrderResponse;
+import com.inghubs.brokage_service.model.enums.OrderSide;
+import com.inghubs.brokage_service.model.enums.OrderStatus;
+import com.inghubs.brokage_service.model.enums.OrderType;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes the API DTOs as the messages declared in src/main/proto/brokage.proto. Nested messages are
+ * length-prefixed, so every writer has a matching size function; list element sizes are computed once
+ * and reused for the write pass. Fields holding their proto3 default are omitted.
+ */
+final class ProtobufCodec {
+
+    enum DataKind { NONE, ORDER, ORDERS, ASSETS, LOGIN, ERRORS, FILLS }
+
+    private static final int LENGTH_DELIMITED = WireFormat.WIRETYPE_LENGTH_DELIMITED;
+
+    private ProtobufCodec() {
+    }
+
+    // ApiResponse
+
+    static void writeApiResponse(CodedOutputStream output, ApiResponse<?> response, DataKind kind) throws IOException {
+        if (response.isSuccess()) {
+            output.writeBool(1, true);
+        }
+        if (response.getMessage() != null) {
+            output.writeString(2, response.getMessage());
+        }
+        Object data = response.getData();
+        switch (kind) {
+            case ORDER -> writeOrderField(output, 3, (OrderResponse) data);
+            case ORDERS -> writeOrderList(output, 4, castList(data));
+            case ASSETS -> writeAssetList(output, 5, castList(data));
+            case LOGIN -> writeLogin(output, 6, (LoginResponse) data);
+            case ERRORS -> writeErrors(output, 7, castMap(data));
+            case FILLS -> writeFillList(output, 8, castList(data));
+            case NONE -> {
+            }
+        }
+    }
+
+    // OrderResponse / OrderList
+
+    private static void writeOrderList(CodedOutputStream output, int field, List<OrderResponse> orders) throws IOException {
+        int[] sizes = new int[orders.size()];
+        int total = 0;
+        for (int i = 0; i < sizes.length; i++) {
+            sizes[i] = orderSize(orders.get(i));
+            total += CodedOutputStream.computeTagSize(1) + CodedOutputStream.computeUInt32SizeNoTag(sizes[i]) + sizes[i];
+        }
+        output.writeTag(field, LENGTH_DELIMITED);
+        output.writeUInt32NoTag(total);
+        for (int i = 0; i < sizes.length; i++) {
+            output.writeTag(1, LENGTH_DELIMITED);
+            output.writeUInt32NoTag(sizes[i]);
+            writeOrder(output, orders.get(i));
+        }
+    }
+
+    private static void writeOrderField(CodedOutputStream output, int field, OrderResponse order) throws IOException {
+        output.writeTag(field, LENGTH_DELIMITED);
+        output.writeUInt32NoTag(orderSize(order));
+        writeOrder(output, order);
+    }
+
+    private static int orderSize(OrderResponse order) {
+        int size = 0;
+        if (order.getId() != null) {
+            size += CodedOutputStream.computeInt64Size(1, order.getId());
+        }
+        if (order.getCustomerId() != null) {
+            size += CodedOutputStream.computeInt64Size(2, order.getCustomerId());
+        }
+        if (order.getAssetName() != null) {
+            size += CodedOutputStream.computeStringSize(3, order.getAssetName());
+        }
+        if (order.getOrderSide() != null) {
+            size += CodedOutputStream.computeEnumSize(4, enumNumber(order.getOrderSide()));
+        }
+        size += decimalFieldSize(5, order.getSize());
+        size += decimalFieldSize(6, order.getPrice());
+        if (order.getStatus() != null) {
+            size += CodedOutputStream.computeEnumSize(7, enumNumber(order.getStatus()));
+        }
+        if (order.getCreateDate() != null) {
+            size += CodedOutputStream.computeInt64Size(8, epochMicros(order.getCreateDate()));
+        }
+        size += decimalFieldSize(9, order.getFilledSize());
+        size += decimalFieldSize(10, order.getRemainingSize());
+        if (order.getOrderType() != null) {
+            size += CodedOutputStream.computeEnumSize(11, enumNumber(order.getOrderType()));
+        }
+        return size;
+    }
+
+    private static void writeOrder(CodedOutputStream output, OrderResponse order) throws IOException {
+        if (order.getId() != null) {
+            output.writeInt64(1, order.getId());
+        }
+        if (order.getCustomerId() != null) {
+            output.writeInt64(2, order.getCustomerId());
+        }
+        if (order.getAssetName() != null) {
+            output.writeString(3, order.getAssetName());
+        }
+        if (order.getOrderSide() != null) {
+            output.writeEnum(4, enumNumber(order.getOrderSide()));
+        }
+        writeDecimalField(output, 5, order.getSize());
+        writeDecimalField(output, 6, order.getPrice());
+        if (order.getStatus() != null) {
+            output.writeEnum(7, enumNumber(order.getStatus()));
+        }
+        if (order.getCreateDate() != null) {
+            output.writeInt64(8, epochMicros(order.getCreateDate()));
+        }
+        writeDecimalField(output, 9, order.getFilledSize());
+        writeDecimalField(output, 10, order.getRemainingSize());
+        if (order.getOrderType() != null) {
+            output.writeEnum(11, enumNumber(order.getOrderType()));
+        }
+    }
+
+    // OrderFill / OrderFillList
+
+    private static void writeFillList(CodedOutputStream output, int field, List<OrderFillResponse> fills) throws IOException {
+        int[] sizes = new int[fills.size()];
+        int total = 0;
+        for (int i = 0; i < sizes.length; i++) {
+            sizes[i] = fillSize(fills.get(i));
+            total += CodedOutputStream.computeTagSize(1) + CodedOutputStream.computeUInt32SizeNoTag(sizes[i]) + sizes[i];
+        }
+        output.writeTag(field, LENGTH_DELIMITED);
+        output.writeUInt32NoTag(total);
+        for (int i = 0; i < sizes.length; i++) {
+            output.writeTag(1, LENGTH_DELIMITED);
+            output.writeUInt32NoTag(sizes[i]);
+            writeFill(output, fills.get(i));
+        }
+    }
+
+    private static int fillSize(OrderFillResponse fill) {
+        int size = 0;
+        if (fill.getId() != null) {
+            size += CodedOutputStream.computeInt64Size(1, fill.getId());
+        }
+        if (fill.getOrderId() != null) {
+            size += CodedOutputStream.computeInt64Size(2, fill.getOrderId());
+        }
+        size += decimalFieldSize(3, fill.getSize());
+        size += decimalFieldSize(4, fill.getPrice());
+        if (fill.getFillDate() != null) {
+            size += CodedOutputStream.computeInt64Size(5, epochMicros(fill.getFillDate()));
+        }
+        return size;
+    }
+
+    private static void writeFill(CodedOutputStream output, OrderFillResponse fill) throws IOException {
+        if (fill.getId() != null) {
+            output.writeInt64(1, fill.getId());
+        }
+        if (fill.getOrderId() != null) {
+            output.writeInt64(2, fill.getOrderId());
+        }
+        writeDecimalField(output, 3, fill.getSize());
+        writeDecimalField(output, 4, fill.getPrice());
+        if (fill.getFillDate() != null) {
+            output.writeInt64(5, epochMicros(fill.getFillDate()));
+        }
+    }
+
+    // AssetResponse / AssetList
+
+    private static void writeAssetList(CodedOutputStream output, int field, List<AssetResponse> assets) throws IOException {
+        int[] sizes = new int[assets.size()];
+        int total = 0;
+        for (int i = 0; i < sizes.length; i++) {
+            sizes[i] = assetSize(assets.get(i));
+            total += CodedOutputStream.computeTagSize(1) + CodedOutputStream.computeUInt32SizeNoTag(sizes[i]) + sizes[i];
+        }
+        output.writeTag(field, LENGTH_DELIMITED);
+        output.writeUInt32NoTag(total);
+        for (int i = 0; i < sizes.length; i++) {
+            output.writeTag(1, LENGTH_DELIMITED);
+            output.writeUInt32NoTag(sizes[i]);
+            writeAsset(output, assets.get(i));
+        }
+    }
+
+    private static int assetSize(AssetResponse asset) {
+        int size = 0;
+        if (asset.getId() != null) {
+            size += CodedOutputStream.computeInt64Size(1, asset.getId());
+        }
+        if (asset.getCustomerId() != null) {
+            size += CodedOutputStream.computeInt64Size(2, asset.getCustomerId());
+        }
+        if (asset.getAssetName() != null) {
+            size += CodedOutputStream.computeStringSize(3, asset.getAssetName());
+        }
+        size += decimalFieldSize(4, asset.getSize());
+        size += decimalFieldSize(5, asset.getUsableSize());
+        return size;
+    }
+
+    private static void writeAsset(CodedOutputStream output, AssetResponse asset) throws IOException {
+        if (asset.getId() != null) {
+            output.writeInt64(1, asset.getId());
+        }
+        if (asset.getCustomerId() != null) {
+            output.writeInt64(2, asset.getCustomerId());
+        }
+        if (asset.getAssetName() != null) {
+            output.writeString(3, asset.getAssetName());
+        }
+        writeDecimalField(output, 4, asset.getSize());
+        writeDecimalField(output, 5, asset.getUsableSize());
+    }
+
+    // LoginResponse
+
+    private static void writeLogin(CodedOutputStream output, int field, LoginResponse login) throws IOException {
+        int size = 0;
+        if (login.getToken() != null) {
+            size += CodedOutputStream.computeStringSize(1, login.getToken());
+        }
+        if (login.getUsername() != null) {
+            size += CodedOutputStream.computeStringSize(2, login.getUsername());
+        }
+        if (login.getRole() != null) {
+            size += CodedOutputStream.computeStringSize(3, login.getRole());
+        }
+        output.writeTag(field, LENGTH_DELIMITED);
+        output.writeUInt32NoTag(size);
+        if (login.getToken() != null) {
+            output.writeString(1, login.getToken());
+        }
+        if (login.getUsername() != null) {
+            output.writeString(2, login.getUsername());
+        }
+        if (login.getRole() != null) {
+            output.writeString(3, login.getRole());
+        }
+    }
+
+    // ValidationErrors: map<string, string> is a repeated entry message {key = 1; value = 2}
+
+    private static void writeErrors(CodedOutputStream output, int field, Map<String, String> errors) throws IOException {
+        int total = 0;
+        for (Map.Entry<String, String> entry : errors.entrySet()) {
+            int entrySize = entrySize(entry);
+            total += CodedOutputStream.computeTagSize(1) + CodedOutputStream.computeUInt32SizeNoTag(entrySize) + entrySize;
+        }
+        output.writeTag(field, LENGTH_DELIMITED);
+        output.writeUInt32NoTag(total);
+        for (Map.Entry<String, String> entry : errors.entrySet()) {
+            output.writeTag(1, LENGTH_DELIMITED);
+            output.writeUInt32NoTag(entrySize(entry));
+            output.writeString(1, entry.getKey());
+            output.writeString(2, String.valueOf(entry.getValue()));
+        }
+    }
+
+    private static int entrySize(Map.Entry<String, String> entry) {
+        return CodedOutputStream.computeStringSize(1, entry.getKey())
+                + CodedOutputStream.computeStringSize(2, String.valueOf(entry.getValue()));
+    }
+
+    // Decimal
+
+    private static int decimalFieldSize(int field, BigDecimal value) {
+        if (value == null) {
+            return 0;
+        }
+        int size = decimalSize(value);
+        return CodedOutputStream.computeTagSize(field) + CodedOutputStream.computeUInt32SizeNoTag(size) + size;
+    }
+
+    private static int decimalSize(BigDecimal value) {
+        int size = CodedOutputStream.computeSInt64Size(1, unscaled(value));
+        if (value.scale() != 0) {
+            size += CodedOutputStream.computeInt32Size(2, value.scale());
+        }
+        return size;
+    }
+
+    private static void writeDecimalField(CodedOutputStream output, int field, BigDecimal value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        output.writeTag(field, LENGTH_DELIMITED);
+        output.writeUInt32NoTag(decimalSize(value));
+        output.writeSInt64(1, unscaled(value));
+        if (value.scale() != 0) {
+            output.writeInt32(2, value.scale());
+        }
+    }
+
+    private static long unscaled(BigDecimal value) {
+        try {
+            return value.unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Decimal value out of protobuf range: " + value, e);
+        }
+    }
+
+    private static BigDecimal readDecimal(CodedInputStream input) throws IOException {
+        int oldLimit = input.pushLimit(input.readRawVarint32());
+        long unscaled = 0;
+        int scale = 0;
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case 1 -> unscaled = input.readSInt64();
+                case 2 -> scale = input.readInt32();
+                default -> input.skipField(tag);
+            }
+        }
+        input.popLimit(oldLimit);
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+
+    // request messages
+
+    static CreateOrderRequest readCreateOrderRequest(CodedInputStream input) throws IOException {
+        CreateOrderRequest request = new CreateOrderRequest();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case 1 -> request.setCustomerId(input.readInt64());
+                case 2 -> request.setAssetName(input.readString());
+                case 3 -> request.setOrderSide(fromNumber(OrderSide.values(), input.readEnum()));
+                case 4 -> request.setSize(readDecimal(input));
+                case 5 -> request.setPrice(readDecimal(input));
+                case 6 -> request.setOrderType(fromNumber(OrderType.values(), input.readEnum()));
+                case 7 -> request.setStopPrice(readDecimal(input));
+                default -> input.skipField(tag);
+            }
+        }
+        return request;
+    }
+
+    static LoginRequest readLoginRequest(CodedInputStream input) throws IOException {
+        LoginRequest request = new LoginRequest();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case 1 -> request.setUsername(input.readString());
+                case 2 -> request.setPassword(input.readString());
+                default -> input.skipField(tag);
+            }
+        }
+        return request;
+    }
+
+    static MatchOrderRequest readMatchOrderRequest(CodedInputStream input) throws IOException {
+        MatchOrderRequest request = new MatchOrderRequest();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case 1 -> request.setOrderId(input.readInt64());
+                case 2 -> request.setSize(readDecimal(input));
+                case 3 -> request.setPrice(readDecimal(input));
+                default -> input.skipField(tag);
+            }
+        }
+        return request;
+    }
+
+    static AmendOrderRequest readAmendOrderRequest(CodedInputStream input) throws IOException {
+        AmendOrderRequest request = new AmendOrderRequest();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case 1 -> request.setSize(readDecimal(input));
+                case 2 -> request.setPrice(readDecimal(input));
+                default -> input.skipField(tag);
+            }
+        }
+        return request;
+    }
+
+    // helpers
+
+    // proto enums reserve 0 for UNSPECIFIED, so constants are shifted by one
+    private static int enumNumber(Enum<?> value) {
+        return value.ordinal() + 1;
+    }
+
+    private static <E extends Enum<E>> E fromNumber(E[] values, int number) {
+        return number >= 1 && number <= values.length ? values[number - 1] : null;
+    }
+
+    private static long epochMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> castList(Object data) {
+        return data == null ? List.of() : (List<T>) data;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> castMap(Object data) {
+        return (Map<String, String>) data;
+    }
+}
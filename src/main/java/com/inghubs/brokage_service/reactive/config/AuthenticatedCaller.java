@@ -0,0 +1,29 @@
+package com.inghubs.brokage_service.reactive.config;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import reactor.core.publisher.Mono;
+
+/**
+ * The reactive counterpart of SecurityUtil: the customer id and admin flag of the caller, read
+ * from the authentication that {@link ReactiveJwtAuthenticationFilter} put in the reactor context.
+ */
+public record AuthenticatedCaller(Long customerId, boolean admin) {
+    
+    private static final AuthenticatedCaller ANONYMOUS = new AuthenticatedCaller(null, false);
+    
+    public static Mono<AuthenticatedCaller> current() {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .map(AuthenticatedCaller::from)
+                .defaultIfEmpty(ANONYMOUS);
+    }
+    
+    private static AuthenticatedCaller from(Authentication authentication) {
+        Long customerId = authentication.getDetails() instanceof Long id ? id : null;
+        boolean admin = authentication.getAuthorities().stream()
+                .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"));
+        return new AuthenticatedCaller(customerId, admin);
+    }
+}
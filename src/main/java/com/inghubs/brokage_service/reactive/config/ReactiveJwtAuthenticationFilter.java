@@ -0,0 +1,73 @@
+package com.inghubs.brokage_service.reactive.config;
+
+import com.inghubs.brokage_service.config.JwtUtil;
+import com.inghubs.brokage_service.service.TokenRevocationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Collections;
+
+/**
+ * Not a bean on purpose: WebFlux registers every WebFilter bean globally, and this one must only
+ * run inside the security chain (see ReactiveSecurityConfig).
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveJwtAuthenticationFilter implements WebFilter {
+    
+    private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
+    
+    @Override
+    @NonNull
+    public Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
+        final String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return chain.filter(exchange);
+        }
+        
+        final String jwt = authHeader.substring(7);
+        final UsernamePasswordAuthenticationToken authToken;
+        final String tokenId;
+        try {
+            final String username = jwtUtil.extractUsername(jwt);
+            if (username == null || !jwtUtil.validateToken(jwt, username)) {
+                return chain.filter(exchange);
+            }
+            authToken = new UsernamePasswordAuthenticationToken(
+                    username,
+                    null,
+                    Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + jwtUtil.extractRole(jwt)))
+            );
+            authToken.setDetails(jwtUtil.extractCustomerId(jwt));
+            tokenId = jwtUtil.extractTokenId(jwt);
+        } catch (Exception e) {
+            log.error("Cannot set user authentication for request: {}", exchange.getRequest().getPath(), e);
+            return chain.filter(exchange);
+        }
+        
+        // a Bloom filter miss is the common case and needs no I/O; only a hit goes to the store
+        if (!tokenRevocationService.mightBeRevoked(tokenId)) {
+            return authenticated(exchange, chain, authToken);
+        }
+        return Mono.fromCallable(() -> tokenRevocationService.isRevoked(tokenId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(revoked -> revoked ? chain.filter(exchange) : authenticated(exchange, chain, authToken));
+    }
+    
+    private Mono<Void> authenticated(ServerWebExchange exchange, WebFilterChain chain, UsernamePasswordAuthenticationToken authToken) {
+        return chain.filter(exchange)
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authToken));
+    }
+}
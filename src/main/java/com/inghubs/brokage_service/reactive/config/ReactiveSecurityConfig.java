@@ -0,0 +1,50 @@
+package com.inghubs.brokage_service.reactive.config;
+
+import com.inghubs.brokage_service.config.JwtUtil;
+import com.inghubs.brokage_service.service.TokenRevocationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.annotation.method.configuration.EnableReactiveMethodSecurity;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import reactor.core.publisher.Mono;
+
+@Configuration
+@Profile("reactive")
+@EnableWebFluxSecurity
+@EnableReactiveMethodSecurity
+@RequiredArgsConstructor
+public class ReactiveSecurityConfig {
+    
+    private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
+    
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        return http
+            .csrf(ServerHttpSecurity.CsrfSpec::disable)
+            .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+            .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+            .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+            .authorizeExchange(auth -> auth
+                .pathMatchers("/api/auth/login", "/actuator/health", "/actuator/health/**").permitAll()
+                // includes /actuator/prometheus, whose gauges expose pending orders and reserved balances
+                .pathMatchers("/actuator/**").hasRole("ADMIN")
+                .anyExchange().authenticated()
+            )
+            // same status the servlet chain returns for a missing or invalid token
+            .exceptionHandling(exceptions -> exceptions
+                .authenticationEntryPoint((exchange, ex) -> Mono.fromRunnable(
+                        () -> exchange.getResponse().setStatusCode(HttpStatus.FORBIDDEN)))
+            )
+            .addFilterAt(new ReactiveJwtAuthenticationFilter(jwtUtil, tokenRevocationService),
+                    SecurityWebFiltersOrder.AUTHENTICATION)
+            .build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.inghubs.brokage_service.reactive.controller;
+
+import com.inghubs.brokage_service.dto.response.ApiResponse;
+import com.inghubs.brokage_service.dto.response.AssetResponse;
+import com.inghubs.brokage_service.reactive.config.AuthenticatedCaller;
+import com.inghubs.brokage_service.reactive.service.ReactiveAssetService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/assets")
+@RequiredArgsConstructor
+public class ReactiveAssetController {
+    
+    private final ReactiveAssetService assetService;
+    
+    @GetMapping
+    public Mono<ResponseEntity<ApiResponse<List<AssetResponse>>>> listAssets(
+            @RequestParam Long customerId,
+            @RequestParam(required = false) String assetName) {
+        return AuthenticatedCaller.current()
+                .flatMap(caller -> assetService.listAssets(customerId, assetName, caller.customerId(), caller.admin()))
+                .map(responses -> ResponseEntity.ok(ApiResponse.<List<AssetResponse>>builder()
+                        .success(true)
+                        .message("Assets retrieved successfully")
+                        .data(responses)
+                        .build()));
+    }
+}
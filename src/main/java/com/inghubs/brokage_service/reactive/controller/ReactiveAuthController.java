@@ -0,0 +1,43 @@
+package com.inghubs.brokage_service.reactive.controller;
+
+import com.inghubs.brokage_service.dto.request.LoginRequest;
+import com.inghubs.brokage_service.dto.response.ApiResponse;
+import com.inghubs.brokage_service.dto.response.LoginResponse;
+import com.inghubs.brokage_service.reactive.service.ReactiveAuthService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/auth")
+@RequiredArgsConstructor
+public class ReactiveAuthController {
+    
+    private final ReactiveAuthService authService;
+    
+    @PostMapping("/login")
+    public Mono<ResponseEntity<ApiResponse<LoginResponse>>> login(@Valid @RequestBody LoginRequest request) {
+        return authService.login(request)
+                .map(response -> ResponseEntity.ok(ApiResponse.<LoginResponse>builder()
+                        .success(true)
+                        .message("Login successful")
+                        .data(response)
+                        .build()));
+    }
+    
+    @PostMapping("/logout")
+    public Mono<ResponseEntity<ApiResponse<Void>>> logout(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authHeader) {
+        String token = authHeader != null && authHeader.startsWith("Bearer ") ? authHeader.substring(7) : null;
+        return authService.logout(token)
+                .then(Mono.fromSupplier(() -> ResponseEntity.ok(ApiResponse.<Void>builder()
+                        .success(true)
+                        .message("Logout successful")
+                        .build())));
+    }
+}
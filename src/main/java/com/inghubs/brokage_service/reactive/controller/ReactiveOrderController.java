@@ -0,0 +1,102 @@
+package com.inghubs.brokage_service.reactive.controller;
+
+import com.inghubs.brokage_service.dto.request.AmendOrderRequest;
+import com.inghubs.brokage_service.dto.request.CreateOrderRequest;
+import com.inghubs.brokage_service.dto.request.MatchOrderRequest;
+import com.inghubs.brokage_service.dto.response.ApiResponse;
+import com.inghubs.brokage_service.dto.response.OrderFillResponse;
+import com.inghubs.brokage_service.dto.response.OrderResponse;
+import com.inghubs.brokage_service.model.enums.OrderStatus;
+import com.inghubs.brokage_service.reactive.config.AuthenticatedCaller;
+import com.inghubs.brokage_service.reactive.service.ReactiveOrderService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/orders")
+@RequiredArgsConstructor
+public class ReactiveOrderController {
+    
+    private final ReactiveOrderService orderService;
+    
+    @PostMapping
+    public Mono<ResponseEntity<ApiResponse<OrderResponse>>> createOrder(@Valid @RequestBody CreateOrderRequest request) {
+        return AuthenticatedCaller.current()
+                .flatMap(caller -> orderService.createOrder(request, caller.customerId(), caller.admin()))
+                .map(response -> ResponseEntity.ok(ApiResponse.<OrderResponse>builder()
+                        .success(true)
+                        .message("Order created successfully")
+                        .data(response)
+                        .build()));
+    }
+    
+    @GetMapping
+    public Mono<ResponseEntity<ApiResponse<List<OrderResponse>>>> listOrders(
+            @RequestParam Long customerId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) OrderStatus status) {
+        return AuthenticatedCaller.current()
+                .flatMap(caller -> orderService.listOrders(
+                        customerId, startDate, endDate, status, caller.customerId(), caller.admin()))
+                .map(responses -> ResponseEntity.ok(ApiResponse.<List<OrderResponse>>builder()
+                        .success(true)
+                        .message("Orders retrieved successfully")
+                        .data(responses)
+                        .build()));
+    }
+    
+    @PatchMapping("/{orderId}")
+    public Mono<ResponseEntity<ApiResponse<OrderResponse>>> amendOrder(@PathVariable Long orderId,
+                                                                      @Valid @RequestBody AmendOrderRequest request) {
+        return AuthenticatedCaller.current()
+                .flatMap(caller -> orderService.amendOrder(orderId, request, caller.customerId(), caller.admin()))
+                .map(response -> ResponseEntity.ok(ApiResponse.<OrderResponse>builder()
+                        .success(true)
+                        .message("Order amended successfully")
+                        .data(response)
+                        .build()));
+    }
+    
+    @DeleteMapping("/{orderId}")
+    public Mono<ResponseEntity<ApiResponse<Void>>> deleteOrder(@PathVariable Long orderId) {
+        return AuthenticatedCaller.current()
+                .flatMap(caller -> orderService.deleteOrder(orderId, caller.customerId(), caller.admin()))
+                .then(Mono.fromSupplier(() -> ResponseEntity.ok(ApiResponse.<Void>builder()
+                        .success(true)
+                        .message("Order canceled successfully")
+                        .build())));
+    }
+    
+    @GetMapping("/{orderId}/fills")
+    public Mono<ResponseEntity<ApiResponse<List<OrderFillResponse>>>> listFills(@PathVariable Long orderId) {
+        return AuthenticatedCaller.current()
+                .flatMap(caller -> orderService.listFills(orderId, caller.customerId(), caller.admin()))
+                .map(responses -> ResponseEntity.ok(ApiResponse.<List<OrderFillResponse>>builder()
+                        .success(true)
+                        .message("Fills retrieved successfully")
+                        .data(responses)
+                        .build()));
+    }
+    
+    @PostMapping("/match")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Mono<ResponseEntity<ApiResponse<OrderResponse>>> matchOrder(@Valid @RequestBody MatchOrderRequest request) {
+        return orderService.matchOrder(request.getOrderId(), request.getSize(), request.getPrice())
+                .map(response -> ResponseEntity.ok(ApiResponse.<OrderResponse>builder()
+                        .success(true)
+                        .message("Order matched successfully")
+                        .data(response)
+                        .build()));
+    }
+}
@@ -0,0 +1,19 @@
+package com.inghubs.brokage_service.reactive.mapper;
+
+import com.inghubs.brokage_service.dto.response.AssetResponse;
+import com.inghubs.brokage_service.dto.response.OrderFillResponse;
+import com.inghubs.brokage_service.dto.response.OrderResponse;
+import com.inghubs.brokage_service.reactive.model.AssetRow;
+import com.inghubs.brokage_service.reactive.model.OrderFillRow;
+import com.inghubs.brokage_service.reactive.model.OrderRow;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface RowMapper {
+    
+    AssetResponse toAssetResponse(AssetRow asset);
+    
+    OrderResponse toOrderResponse(OrderRow order);
+    
+    OrderFillResponse toOrderFillResponse(OrderFillRow fill);
+}
@@ -0,0 +1,34 @@
+package com.inghubs.brokage_service.reactive.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+
+@Table("assets")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssetRow {
+    
+    @Id
+    private Long id;
+    
+    @Column("customer_id")
+    private Long customerId;
+    
+    @Column("asset_name")
+    private String assetName;
+    
+    @Column("size")
+    private BigDecimal size;
+    
+    @Column("usable_size")
+    private BigDecimal usableSize;
+}
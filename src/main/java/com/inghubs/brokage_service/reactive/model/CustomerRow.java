@@ -0,0 +1,33 @@
+package com.inghubs.brokage_service.reactive.model;
+
+import com.inghubs.brokage_service.model.enums.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Table("customers")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerRow {
+    
+    @Id
+    private Long id;
+    
+    @Column("username")
+    private String username;
+    
+    @Column("password")
+    private String password;
+    
+    @Column("email")
+    private String email;
+    
+    @Column("role")
+    private UserRole role;
+}
@@ -0,0 +1,45 @@
+package com.inghubs.brokage_service.reactive.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Table("order_fills")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderFillRow {
+    
+    @Id
+    private Long id;
+    
+    @Column("order_id")
+    private Long orderId;
+    
+    @Column("size")
+    private BigDecimal size;
+    
+    @Column("price")
+    private BigDecimal price;
+    
+    @Column("limit_price")
+    private BigDecimal limitPrice;
+    
+    @Builder.Default
+    @Column("settled")
+    private boolean settled = true;
+    
+    @Column("settlement_run_id")
+    private Long settlementRunId;
+    
+    @Column("fill_date")
+    private LocalDateTime fillDate;
+}
@@ -0,0 +1,66 @@
+package com.inghubs.brokage_service.reactive.model;
+
+import com.inghubs.brokage_service.model.enums.OrderSide;
+import com.inghubs.brokage_service.model.enums.OrderStatus;
+import com.inghubs.brokage_service.model.enums.OrderType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Table("orders")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderRow {
+    
+    @Id
+    private Long id;
+    
+    @Column("customer_id")
+    private Long customerId;
+    
+    @Column("asset_name")
+    private String assetName;
+    
+    @Column("order_side")
+    private OrderSide orderSide;
+    
+    @Builder.Default
+    @Column("order_type")
+    private OrderType orderType = OrderType.LIMIT;
+    
+    @Column("size")
+    private BigDecimal size;
+    
+    @Column("price")
+    private BigDecimal price;
+    
+    @Builder.Default
+    @Column("filled_size")
+    private BigDecimal filledSize = BigDecimal.ZERO;
+    
+    @Column("status")
+    private OrderStatus status;
+    
+    @Column("create_date")
+    private LocalDateTime createDate;
+    
+    @Transient
+    public BigDecimal getRemainingSize() {
+        return size.subtract(filledSize);
+    }
+    
+    @Transient
+    public boolean isOpen() {
+        return status == OrderStatus.PENDING || status == OrderStatus.PARTIALLY_FILLED;
+    }
+}
@@ -0,0 +1,19 @@
+package com.inghubs.brokage_service.reactive.repository;
+
+import com.inghubs.brokage_service.reactive.model.AssetRow;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveAssetRepository extends R2dbcRepository<AssetRow, Long> {
+    Mono<AssetRow> findByCustomerIdAndAssetName(Long customerId, String assetName);
+    
+    @Query("SELECT * FROM assets WHERE customer_id = :customerId AND asset_name = :assetName FOR UPDATE")
+    Mono<AssetRow> findByCustomerIdAndAssetNameWithLock(@Param("customerId") Long customerId, @Param("assetName") String assetName);
+    
+    Flux<AssetRow> findByCustomerId(Long customerId);
+}
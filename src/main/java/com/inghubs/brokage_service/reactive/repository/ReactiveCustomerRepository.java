@@ -0,0 +1,11 @@
+package com.inghubs.brokage_service.reactive.repository;
+
+import com.inghubs.brokage_service.reactive.model.CustomerRow;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveCustomerRepository extends R2dbcRepository<CustomerRow, Long> {
+    Mono<CustomerRow> findByUsername(String username);
+}
@@ -0,0 +1,19 @@
+package com.inghubs.brokage_service.reactive.repository;
+
+import com.inghubs.brokage_service.reactive.model.OrderFillRow;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+@Repository
+public interface ReactiveOrderFillRepository extends R2dbcRepository<OrderFillRow, Long> {
+    Flux<OrderFillRow> findByOrderIdOrderByIdAsc(Long orderId);
+
+    @Query("SELECT f.price FROM order_fills f JOIN orders o ON o.id = f.order_id " +
+           "WHERE o.asset_name = :assetName ORDER BY f.id DESC LIMIT 1")
+    Mono<BigDecimal> findLastPriceByAssetName(String assetName);
+}
@@ -0,0 +1,11 @@
+package com.inghubs.brokage_service.reactive.repository;
+
+import com.inghubs.brokage_service.model.enums.OrderStatus;
+import com.inghubs.brokage_service.reactive.model.OrderRow;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+public interface ReactiveOrderQueries {
+    Flux<OrderRow> findByCustomerIdAndFilters(Long customerId, LocalDateTime startDate, LocalDateTime endDate, OrderStatus status);
+}
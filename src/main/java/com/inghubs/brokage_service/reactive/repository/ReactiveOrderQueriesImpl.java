@@ -0,0 +1,35 @@
+package com.inghubs.brokage_service.reactive.repository;
+
+import com.inghubs.brokage_service.model.enums.OrderStatus;
+import com.inghubs.brokage_service.reactive.model.OrderRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+class ReactiveOrderQueriesImpl implements ReactiveOrderQueries {
+    
+    private final R2dbcEntityTemplate template;
+    
+    @Override
+    public Flux<OrderRow> findByCustomerIdAndFilters(Long customerId, LocalDateTime startDate, LocalDateTime endDate, OrderStatus status) {
+        Criteria criteria = Criteria.where("customerId").is(customerId);
+        if (startDate != null) {
+            criteria = criteria.and("createDate").greaterThanOrEquals(startDate);
+        }
+        if (endDate != null) {
+            criteria = criteria.and("createDate").lessThanOrEquals(endDate);
+        }
+        if (status != null) {
+            criteria = criteria.and("status").is(status);
+        }
+        return template.select(OrderRow.class)
+                .matching(Query.query(criteria).sort(Sort.by(Sort.Direction.DESC, "createDate")))
+                .all();
+    }
+}
@@ -0,0 +1,15 @@
+package com.inghubs.brokage_service.reactive.repository;
+
+import com.inghubs.brokage_service.reactive.model.OrderRow;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveOrderRepository extends R2dbcRepository<OrderRow, Long>, ReactiveOrderQueries {
+    
+    @Query("SELECT * FROM orders WHERE id = :id FOR UPDATE")
+    Mono<OrderRow> findByIdWithLock(@Param("id") Long id);
+}
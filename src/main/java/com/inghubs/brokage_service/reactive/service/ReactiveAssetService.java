@@ -0,0 +1,46 @@
+package com.inghubs.brokage_service.reactive.service;
+
+import com.inghubs.brokage_service.dto.response.AssetResponse;
+import com.inghubs.brokage_service.exception.ForbiddenException;
+import com.inghubs.brokage_service.exception.NotFoundException;
+import com.inghubs.brokage_service.reactive.mapper.RowMapper;
+import com.inghubs.brokage_service.reactive.repository.ReactiveAssetRepository;
+import com.inghubs.brokage_service.reactive.repository.ReactiveCustomerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveAssetService {
+    
+    private final ReactiveAssetRepository assetRepository;
+    private final ReactiveCustomerRepository customerRepository;
+    private final RowMapper rowMapper;
+    
+    public Mono<List<AssetResponse>> listAssets(Long customerId, String assetName, Long authenticatedCustomerId, boolean isAdmin) {
+        if (!isAdmin && authenticatedCustomerId != null && !customerId.equals(authenticatedCustomerId)) {
+            return Mono.error(new ForbiddenException("You can only view your own assets"));
+        }
+        
+        return customerRepository.existsById(customerId)
+                .flatMapMany(exists -> {
+                    if (!exists) {
+                        return Flux.error(new NotFoundException("Customer not found with id: " + customerId));
+                    }
+                    if (assetName != null && !assetName.isEmpty()) {
+                        return assetRepository.findByCustomerIdAndAssetName(customerId, assetName).flux();
+                    }
+                    return assetRepository.findByCustomerId(customerId);
+                })
+                .map(rowMapper::toAssetResponse)
+                .collectList();
+    }
+}
@@ -0,0 +1,66 @@
+package com.inghubs.brokage_service.reactive.service;
+
+import com.inghubs.brokage_service.config.JwtUtil;
+import com.inghubs.brokage_service.dto.request.LoginRequest;
+import com.inghubs.brokage_service.dto.response.LoginResponse;
+import com.inghubs.brokage_service.exception.UnauthorizedException;
+import com.inghubs.brokage_service.reactive.model.CustomerRow;
+import com.inghubs.brokage_service.reactive.repository.ReactiveCustomerRepository;
+import com.inghubs.brokage_service.service.TokenRevocationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@Slf4j
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveAuthService {
+    
+    private final ReactiveCustomerRepository customerRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
+    
+    public Mono<LoginResponse> login(LoginRequest request) {
+        return customerRepository.findByUsername(request.getUsername())
+                .switchIfEmpty(Mono.error(new UnauthorizedException("Invalid username or password")))
+                // BCrypt is deliberately slow; keep it off the event loop
+                .publishOn(Schedulers.boundedElastic())
+                .map(customer -> {
+                    if (!passwordEncoder.matches(request.getPassword(), customer.getPassword())) {
+                        throw new UnauthorizedException("Invalid username or password");
+                    }
+                    return toLoginResponse(customer);
+                });
+    }
+    
+    public Mono<Void> logout(String token) {
+        if (token == null) {
+            return Mono.error(new UnauthorizedException("Missing bearer token"));
+        }
+        // the revocation store is JDBC-backed
+        return Mono.fromRunnable(() -> tokenRevocationService.revoke(token))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+    
+    private LoginResponse toLoginResponse(CustomerRow customer) {
+        String token = jwtUtil.generateToken(
+                customer.getUsername(),
+                customer.getRole().name(),
+                customer.getId()
+        );
+        
+        log.info("Login successful for user: {} with role: {}", customer.getUsername(), customer.getRole());
+        return LoginResponse.builder()
+                .token(token)
+                .username(customer.getUsername())
+                .role(customer.getRole().name())
+                .build();
+    }
+}
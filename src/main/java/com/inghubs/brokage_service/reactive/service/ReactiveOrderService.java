@@ -0,0 +1,400 @@
+package com.inghubs.brokage_service.reactive.service;
+
+import com.inghubs.brokage_service.config.SettlementProperties;
+import com.inghubs.brokage_service.dto.request.AmendOrderRequest;
+import com.inghubs.brokage_service.dto.request.CreateOrderRequest;
+import com.inghubs.brokage_service.dto.response.OrderFillResponse;
+import com.inghubs.brokage_service.dto.response.OrderResponse;
+import com.inghubs.brokage_service.exception.BadRequestException;
+import com.inghubs.brokage_service.exception.ForbiddenException;
+import com.inghubs.brokage_service.exception.InsufficientUsableSizeException;
+import com.inghubs.brokage_service.exception.NotFoundException;
+import com.inghubs.brokage_service.model.enums.OrderSide;
+import com.inghubs.brokage_service.model.enums.OrderStatus;
+import com.inghubs.brokage_service.model.enums.OrderType;
+import com.inghubs.brokage_service.reactive.mapper.RowMapper;
+import com.inghubs.brokage_service.reactive.model.AssetRow;
+import com.inghubs.brokage_service.reactive.model.CustomerRow;
+import com.inghubs.brokage_service.reactive.model.OrderFillRow;
+import com.inghubs.brokage_service.reactive.model.OrderRow;
+import com.inghubs.brokage_service.reactive.repository.ReactiveAssetRepository;
+import com.inghubs.brokage_service.reactive.repository.ReactiveCustomerRepository;
+import com.inghubs.brokage_service.reactive.repository.ReactiveOrderFillRepository;
+import com.inghubs.brokage_service.reactive.repository.ReactiveOrderRepository;
+import com.inghubs.brokage_service.service.LastTradePrices;
+import com.inghubs.brokage_service.service.MarketOrderProtection;
+import com.inghubs.brokage_service.service.OrderFilledEvent;
+import com.inghubs.brokage_service.service.RiskEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Non-blocking mirror of OrderService. Business rules and error messages are identical; asset rows
+ * are locked with SELECT ... FOR UPDATE inside an R2DBC transaction.
+ */
+@Slf4j
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveOrderService {
+
+    private static final String TRY_ASSET = "TRY";
+
+    private final ReactiveOrderRepository orderRepository;
+    private final ReactiveOrderFillRepository orderFillRepository;
+    private final ReactiveAssetRepository assetRepository;
+    private final ReactiveCustomerRepository customerRepository;
+    private final RowMapper rowMapper;
+    private final TransactionalOperator transactionalOperator;
+    private final MarketOrderProtection marketOrderProtection;
+    private final SettlementProperties settlementProperties;
+    private final RiskEngine riskEngine;
+    private final LastTradePrices lastTradePrices;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public Mono<OrderResponse> createOrder(CreateOrderRequest request, Long authenticatedCustomerId, boolean isAdmin) {
+        if (!isAdmin && authenticatedCustomerId != null && !request.getCustomerId().equals(authenticatedCustomerId)) {
+            return Mono.error(new ForbiddenException("You can only create orders for yourself"));
+        }
+
+        OrderType orderType = request.getOrderType() != null ? request.getOrderType() : OrderType.LIMIT;
+        return customerRepository.findById(request.getCustomerId())
+                .switchIfEmpty(Mono.error(new NotFoundException("Customer not found with id: " + request.getCustomerId())))
+                .zipWith(orderPrice(request, orderType))
+                .flatMap(customerAndPrice -> {
+                    Long customerId = customerAndPrice.getT1().getId();
+                    BigDecimal price = customerAndPrice.getT2();
+                    return riskEngine.inReactiveTransaction(() -> riskEngine.checkNewOrder(customerId,
+                                    request.getAssetName(), request.getOrderSide(), request.getSize(), price))
+                            .then(reserveFor(customerAndPrice.getT1(), request, price))
+                            .then(orderRepository.save(OrderRow.builder()
+                                    .customerId(customerId)
+                                    .assetName(request.getAssetName())
+                                    .orderSide(request.getOrderSide())
+                                    .orderType(orderType)
+                                    .size(request.getSize())
+                                    .price(price)
+                                    .status(OrderStatus.PENDING)
+                                    .filledSize(BigDecimal.ZERO)
+                                    .createDate(LocalDateTime.now())
+                                    .build()));
+                })
+                .doOnNext(savedOrder -> log.info("Order created successfully with ID: {} for customer: {}",
+                        savedOrder.getId(), savedOrder.getCustomerId()))
+                .map(rowMapper::toOrderResponse)
+                .as(transactionalOperator::transactional);
+    }
+
+    public Mono<List<OrderResponse>> listOrders(Long customerId, LocalDateTime startDate, LocalDateTime endDate,
+                                                OrderStatus status, Long authenticatedCustomerId, boolean isAdmin) {
+        if (!isAdmin && authenticatedCustomerId != null && !customerId.equals(authenticatedCustomerId)) {
+            return Mono.error(new ForbiddenException("You can only view your own orders"));
+        }
+
+        return orderRepository.findByCustomerIdAndFilters(customerId, startDate, endDate, status)
+                .map(rowMapper::toOrderResponse)
+                .collectList();
+    }
+
+    public Mono<Void> deleteOrder(Long orderId, Long authenticatedCustomerId, boolean isAdmin) {
+        return orderRepository.findByIdWithLock(orderId)
+                .switchIfEmpty(Mono.error(new NotFoundException("Order not found with id: " + orderId)))
+                .flatMap(order -> {
+                    if (!isAdmin && authenticatedCustomerId != null && !order.getCustomerId().equals(authenticatedCustomerId)) {
+                        return Mono.error(new ForbiddenException("You can only delete your own orders"));
+                    }
+                    if (!order.isOpen()) {
+                        return Mono.error(new BadRequestException("Only PENDING or PARTIALLY_FILLED orders can be deleted"));
+                    }
+                    order.setStatus(OrderStatus.CANCELED);
+                    return releaseReservedAssets(order).then(orderRepository.save(order))
+                            .flatMap(saved -> riskEngine.inReactiveTransaction(() -> riskEngine.orderClosed(
+                                            saved.getCustomerId(), saved.getAssetName(), saved.getOrderSide(), saved.getRemainingSize()))
+                                    .thenReturn(saved));
+                })
+                .doOnNext(order -> log.info("Order ID: {} canceled successfully", orderId))
+                .then()
+                .as(transactionalOperator::transactional);
+    }
+
+    public Mono<OrderResponse> amendOrder(Long orderId, AmendOrderRequest request, Long authenticatedCustomerId, boolean isAdmin) {
+        return orderRepository.findByIdWithLock(orderId)
+                .switchIfEmpty(Mono.error(new NotFoundException("Order not found with id: " + orderId)))
+                .flatMap(order -> {
+                    if (!isAdmin && authenticatedCustomerId != null && !order.getCustomerId().equals(authenticatedCustomerId)) {
+                        return Mono.error(new ForbiddenException("You can only amend your own orders"));
+                    }
+                    if (!order.isOpen()) {
+                        return Mono.error(new BadRequestException("Only PENDING or PARTIALLY_FILLED orders can be amended"));
+                    }
+                    if (request.getSize() == null && request.getPrice() == null) {
+                        return Mono.error(new BadRequestException("Size or price is required"));
+                    }
+                    BigDecimal newSize = request.getSize() != null ? request.getSize() : order.getSize();
+                    BigDecimal newPrice = request.getPrice() != null ? request.getPrice() : order.getPrice();
+                    if (newSize.compareTo(order.getFilledSize()) <= 0) {
+                        return Mono.error(new BadRequestException("Size must exceed the filled size " + order.getFilledSize()
+                                + "; cancel the order instead"));
+                    }
+                    BigDecimal newRemaining = newSize.subtract(order.getFilledSize());
+                    BigDecimal oldRemaining = order.getRemainingSize();
+                    BigDecimal oldPrice = order.getPrice();
+                    Mono<Void> riskCheck = riskEngine.inReactiveTransaction(() -> riskEngine.checkAmend(order.getCustomerId(),
+                            order.getAssetName(), order.getOrderSide(), oldRemaining, oldPrice, newSize, newRemaining, newPrice));
+                    Mono<AssetRow> adjustment = order.getOrderSide() == OrderSide.BUY
+                            ? adjustReservation(order.getCustomerId(), TRY_ASSET,
+                                    newRemaining.multiply(newPrice).subtract(order.getRemainingSize().multiply(order.getPrice())))
+                            : adjustReservation(order.getCustomerId(), order.getAssetName(),
+                                    newRemaining.subtract(order.getRemainingSize()));
+                    boolean keepsPriority = newPrice.compareTo(order.getPrice()) == 0 && newSize.compareTo(order.getSize()) <= 0;
+                    order.setSize(newSize);
+                    order.setPrice(newPrice);
+                    if (!keepsPriority) {
+                        order.setCreateDate(LocalDateTime.now());
+                    }
+                    return riskCheck.then(adjustment).then(orderRepository.save(order));
+                })
+                .doOnNext(order -> log.info("Order ID: {} amended to size {} at {}", orderId, order.getSize(), order.getPrice()))
+                .map(rowMapper::toOrderResponse)
+                .as(transactionalOperator::transactional);
+    }
+
+    public Mono<List<OrderFillResponse>> listFills(Long orderId, Long authenticatedCustomerId, boolean isAdmin) {
+        return orderRepository.findById(orderId)
+                .switchIfEmpty(Mono.error(new NotFoundException("Order not found with id: " + orderId)))
+                .flatMap(order -> {
+                    if (!isAdmin && authenticatedCustomerId != null && !order.getCustomerId().equals(authenticatedCustomerId)) {
+                        return Mono.error(new ForbiddenException("You can only view your own orders"));
+                    }
+                    return orderFillRepository.findByOrderIdOrderByIdAsc(orderId)
+                            .map(rowMapper::toOrderFillResponse)
+                            .collectList();
+                });
+    }
+
+    public Mono<OrderResponse> matchOrder(Long orderId) {
+        return matchOrder(orderId, null, null);
+    }
+
+    public Mono<OrderResponse> matchOrder(Long orderId, BigDecimal fillSize, BigDecimal fillPrice) {
+        return orderRepository.findByIdWithLock(orderId)
+                .switchIfEmpty(Mono.error(new NotFoundException("Order not found with id: " + orderId)))
+                .flatMap(order -> {
+                    if (!order.isOpen()) {
+                        return Mono.error(new BadRequestException("Only PENDING or PARTIALLY_FILLED orders can be matched"));
+                    }
+                    BigDecimal quantity = fillSize != null ? fillSize : order.getRemainingSize();
+                    BigDecimal price = fillPrice != null ? fillPrice : order.getPrice();
+                    BadRequestException invalid = validateFill(order, quantity, price);
+                    if (invalid != null) {
+                        return Mono.error(invalid);
+                    }
+                    order.setFilledSize(order.getFilledSize().add(quantity));
+                    order.setStatus(order.getRemainingSize().signum() == 0 ? OrderStatus.MATCHED : OrderStatus.PARTIALLY_FILLED);
+                    boolean deferred = settlementProperties.isDeferred();
+                    return (deferred ? Mono.<AssetRow>empty() : executeFill(order, quantity, price))
+                            .then(orderFillRepository.save(OrderFillRow.builder()
+                                    .orderId(order.getId())
+                                    .size(quantity)
+                                    .price(price)
+                                    .limitPrice(order.getPrice())
+                                    .settled(!deferred)
+                                    .fillDate(LocalDateTime.now())
+                                    .build()))
+                            .then(orderRepository.save(order))
+                            .flatMap(saved -> riskEngine.inReactiveTransaction(() -> {
+                                        riskEngine.filled(saved.getCustomerId(), saved.getAssetName(), saved.getOrderSide(), quantity);
+                                        if (saved.getStatus() == OrderStatus.MATCHED) {
+                                            riskEngine.orderClosed(saved.getCustomerId(), saved.getAssetName(), saved.getOrderSide(), BigDecimal.ZERO);
+                                        }
+                                    })
+                                    .thenReturn(saved));
+                })
+                .doOnNext(order -> log.info("Order ID: {} filled, status {}", orderId, order.getStatus()))
+                .map(rowMapper::toOrderResponse)
+                .as(transactionalOperator::transactional)
+                // published once the fill has committed; crossed stops are activated through the JPA order path
+                .flatMap(response -> Mono.fromRunnable(() -> eventPublisher.publishEvent(new OrderFilledEvent(
+                                response.getAssetName(), fillPrice != null ? fillPrice : response.getPrice())))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .thenReturn(response));
+    }
+
+    private Mono<BigDecimal> orderPrice(CreateOrderRequest request, OrderType orderType) {
+        if (orderType == OrderType.MARKET) {
+            String assetName = request.getAssetName();
+            return Mono.justOrEmpty(lastTradePrices.cached(assetName))
+                    .switchIfEmpty(orderFillRepository.findLastPriceByAssetName(assetName)
+                            .doOnNext(lastPrice -> lastTradePrices.loaded(assetName, lastPrice)))
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .map(lastPrice -> marketOrderProtection.limitPrice(request.getOrderSide(), request.getAssetName(),
+                            lastPrice.orElse(null), request.getPrice()));
+        }
+        if (orderType != OrderType.LIMIT) {
+            return Mono.error(new BadRequestException(orderType + " orders are not supported in reactive mode"));
+        }
+        if (request.getPrice() == null) {
+            return Mono.error(new BadRequestException("Price is required for LIMIT orders"));
+        }
+        return Mono.just(request.getPrice());
+    }
+
+    private Mono<AssetRow> reserveFor(CustomerRow customer, CreateOrderRequest request, BigDecimal price) {
+        if (request.getOrderSide() == OrderSide.BUY) {
+            return validateAndReserveAsset(customer.getId(), TRY_ASSET, request.getSize().multiply(price));
+        }
+        return validateAndReserveAsset(customer.getId(), request.getAssetName(), request.getSize());
+    }
+
+    private Mono<AssetRow> validateAndReserveAsset(Long customerId, String assetName, BigDecimal requiredAmount) {
+        return lockAsset(customerId, assetName)
+                .flatMap(asset -> {
+                    if (asset.getUsableSize().compareTo(requiredAmount) < 0) {
+                        return Mono.error(new InsufficientUsableSizeException("Insufficient usable size for asset: " + assetName +
+                                ". Required: " + requiredAmount + ", Available: " + asset.getUsableSize()));
+                    }
+                    asset.setUsableSize(asset.getUsableSize().subtract(requiredAmount));
+                    return assetRepository.save(asset);
+                });
+    }
+
+    private Mono<AssetRow> releaseReservedAssets(OrderRow order) {
+        BigDecimal remaining = order.getRemainingSize();
+        if (order.getOrderSide() == OrderSide.BUY) {
+            return releaseAsset(order.getCustomerId(), TRY_ASSET, remaining.multiply(order.getPrice()));
+        }
+        return releaseAsset(order.getCustomerId(), order.getAssetName(), remaining);
+    }
+
+    private Mono<AssetRow> adjustReservation(Long customerId, String assetName, BigDecimal delta) {
+        if (delta.signum() == 0) {
+            return Mono.empty();
+        }
+        return lockAsset(customerId, assetName)
+                .flatMap(asset -> {
+                    if (asset.getUsableSize().compareTo(delta) < 0) {
+                        return Mono.error(new InsufficientUsableSizeException("Insufficient usable size for asset: " + assetName +
+                                ". Required: " + delta + ", Available: " + asset.getUsableSize()));
+                    }
+                    asset.setUsableSize(asset.getUsableSize().subtract(delta));
+                    return assetRepository.save(asset);
+                });
+    }
+
+    private Mono<AssetRow> releaseAsset(Long customerId, String assetName, BigDecimal amount) {
+        return lockAsset(customerId, assetName)
+                .flatMap(asset -> {
+                    asset.setUsableSize(asset.getUsableSize().add(amount));
+                    return assetRepository.save(asset);
+                });
+    }
+
+    private static BadRequestException validateFill(OrderRow order, BigDecimal quantity, BigDecimal price) {
+        if (quantity.signum() <= 0) {
+            return new BadRequestException("Fill size must be positive");
+        }
+        if (quantity.compareTo(order.getRemainingSize()) > 0) {
+            return new BadRequestException("Fill size " + quantity + " exceeds remaining size " + order.getRemainingSize());
+        }
+        if (order.getOrderSide() == OrderSide.BUY && price.compareTo(order.getPrice()) > 0) {
+            return new BadRequestException("Fill price " + price + " is above the BUY limit " + order.getPrice());
+        }
+        if (order.getOrderSide() == OrderSide.SELL && price.compareTo(order.getPrice()) < 0) {
+            return new BadRequestException("Fill price " + price + " is below the SELL limit " + order.getPrice());
+        }
+        return null;
+    }
+
+    private Mono<AssetRow> executeFill(OrderRow order, BigDecimal quantity, BigDecimal price) {
+        return order.getOrderSide() == OrderSide.BUY
+                ? executeBuyFill(order, quantity, price)
+                : executeSellFill(order, quantity, price);
+    }
+
+    private Mono<AssetRow> executeBuyFill(OrderRow order, BigDecimal quantity, BigDecimal price) {
+        BigDecimal totalCost = quantity.multiply(price);
+        BigDecimal priceImprovement = quantity.multiply(order.getPrice()).subtract(totalCost);
+        Long customerId = order.getCustomerId();
+
+        return lockFillAssets(customerId, order.getAssetName()).flatMap(assets -> {
+            AssetRow tryAsset = assets.tryAsset().orElse(null);
+            if (tryAsset == null) {
+                return Mono.error(new NotFoundException("TRY asset not found for customer: " + customerId));
+            }
+            tryAsset.setSize(tryAsset.getSize().subtract(totalCost));
+            tryAsset.setUsableSize(tryAsset.getUsableSize().add(priceImprovement));
+
+            AssetRow boughtAsset = assets.tradedAsset()
+                    .map(existing -> {
+                        existing.setSize(existing.getSize().add(quantity));
+                        existing.setUsableSize(existing.getUsableSize().add(quantity));
+                        return existing;
+                    })
+                    .orElseGet(() -> AssetRow.builder()
+                            .customerId(customerId)
+                            .assetName(order.getAssetName())
+                            .size(quantity)
+                            .usableSize(quantity)
+                            .build());
+            return assetRepository.save(tryAsset).then(assetRepository.save(boughtAsset));
+        });
+    }
+
+    private Mono<AssetRow> executeSellFill(OrderRow order, BigDecimal quantity, BigDecimal price) {
+        BigDecimal totalRevenue = quantity.multiply(price);
+        Long customerId = order.getCustomerId();
+
+        return lockFillAssets(customerId, order.getAssetName()).flatMap(assets -> {
+            AssetRow soldAsset = assets.tradedAsset().orElse(null);
+            if (soldAsset == null) {
+                return Mono.error(new NotFoundException("Asset not found: " + order.getAssetName() + " for customer: " + customerId));
+            }
+            AssetRow tryAsset = assets.tryAsset().orElse(null);
+            if (tryAsset == null) {
+                return Mono.error(new NotFoundException("TRY asset not found for customer: " + customerId));
+            }
+            soldAsset.setSize(soldAsset.getSize().subtract(quantity));
+            tryAsset.setSize(tryAsset.getSize().add(totalRevenue));
+            tryAsset.setUsableSize(tryAsset.getUsableSize().add(totalRevenue));
+            return assetRepository.save(soldAsset).then(assetRepository.save(tryAsset));
+        });
+    }
+
+    /**
+     * Locks the customer's TRY row and the traded asset's row in asset-name order, the same order as
+     * OrderService, so BUY and SELL fills of one customer cannot deadlock on each other.
+     */
+    private Mono<FillAssets> lockFillAssets(Long customerId, String assetName) {
+        Mono<Optional<AssetRow>> tryAsset = lockOptional(customerId, TRY_ASSET);
+        Mono<Optional<AssetRow>> tradedAsset = lockOptional(customerId, assetName);
+        return assetName.compareTo(TRY_ASSET) < 0
+                ? tradedAsset.flatMap(traded -> tryAsset.map(tryRow -> new FillAssets(tryRow, traded)))
+                : tryAsset.flatMap(tryRow -> tradedAsset.map(traded -> new FillAssets(tryRow, traded)));
+    }
+
+    private Mono<Optional<AssetRow>> lockOptional(Long customerId, String assetName) {
+        return assetRepository.findByCustomerIdAndAssetNameWithLock(customerId, assetName)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
+    }
+
+    private record FillAssets(Optional<AssetRow> tryAsset, Optional<AssetRow> tradedAsset) {
+    }
+
+    private Mono<AssetRow> lockAsset(Long customerId, String assetName) {
+        return assetRepository.findByCustomerIdAndAssetNameWithLock(customerId, assetName)
+                .switchIfEmpty(Mono.error(new NotFoundException("Asset not found: " + assetName + " for customer: " + customerId)));
+    }
+}
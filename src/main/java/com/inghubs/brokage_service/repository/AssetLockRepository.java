@@ -0,0 +1,9 @@
+package com.inghubs.brokage_service.repository;
+
+import com.inghubs.brokage_service.model.entity.Asset;
+
+import java.util.Optional;
+
+public interface AssetLockRepository {
+    Optional<Asset> findByCustomerIdAndAssetNameWithLock(Long customerId, String assetName);
+}
@@ -0,0 +1,49 @@
+package com.inghubs.brokage_service.repository;
+
+import com.inghubs.brokage_service.metrics.AssetLockMonitor;
+import com.inghubs.brokage_service.model.entity.Asset;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Locking lookup of an asset row, timed so that lock waits and lock failures are attributed to their
+ * (customerId, assetName) key.
+ */
+@Slf4j
+public class AssetLockRepositoryImpl implements AssetLockRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final AssetLockMonitor assetLockMonitor;
+
+    public AssetLockRepositoryImpl(AssetLockMonitor assetLockMonitor) {
+        this.assetLockMonitor = assetLockMonitor;
+    }
+
+    @Override
+    public Optional<Asset> findByCustomerIdAndAssetNameWithLock(Long customerId, String assetName) {
+        long start = System.nanoTime();
+        try {
+            List<Asset> assets = entityManager.createQuery(
+                            "SELECT a FROM Asset a WHERE a.customer.id = :customerId AND a.assetName = :assetName", Asset.class)
+                    .setParameter("customerId", customerId)
+                    .setParameter("assetName", assetName)
+                    .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                    .getResultList();
+            assetLockMonitor.recordAcquired(customerId, assetName, System.nanoTime() - start);
+            return assets.stream().findFirst();
+        } catch (RuntimeException e) {
+            AssetLockMonitor.LockFailure failure = assetLockMonitor.recordFailure(customerId, assetName, System.nanoTime() - start, e);
+            if (failure != AssetLockMonitor.LockFailure.OTHER) {
+                log.warn("Asset lock {} for customer: {} asset: {}", failure, customerId, assetName);
+            }
+            throw e;
+        }
+    }
+}
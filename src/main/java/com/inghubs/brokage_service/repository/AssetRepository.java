@@ -2,24 +2,31 @@ package com.inghubs.brokage_service.repository;
 
 import com.inghubs.brokage_service.model.entity.Asset;
 import com.inghubs.brokage_service.model.entity.Customer;
+import com.inghubs.brokage_service.repository.projection.AssetTotalsView;
+import com.inghubs.brokage_service.repository.projection.ReservedAmountView;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import jakarta.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface AssetRepository extends JpaRepository<Asset, Long> {
+public interface AssetRepository extends JpaRepository<Asset, Long>, AssetLockRepository {
     Optional<Asset> findByCustomerAndAssetName(Customer customer, String assetName);
     
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT a FROM Asset a WHERE a.customer.id = :customerId AND a.assetName = :assetName")
-    Optional<Asset> findByCustomerIdAndAssetNameWithLock(@Param("customerId") Long customerId, @Param("assetName") String assetName);
-    
     List<Asset> findByCustomer(Customer customer);
+    
+    @Query("SELECT a.assetName AS assetName, SUM(a.size - a.usableSize) AS reserved FROM Asset a GROUP BY a.assetName")
+    List<ReservedAmountView> sumReservedByAssetName();
+    
+    @Query("SELECT a.assetName AS assetName, COUNT(a) AS holders, SUM(a.size) AS totalSize, " +
+           "SUM(a.size - a.usableSize) AS reserved FROM Asset a GROUP BY a.assetName ORDER BY a.assetName")
+    List<AssetTotalsView> sumByAssetName();
+    
+    List<Asset> findByCustomerIdInOrderByCustomerIdAscAssetNameAsc(Collection<Long> customerIds);
+    
+    List<Asset> findByCustomerIdInAndAssetNameOrderByCustomerIdAsc(Collection<Long> customerIds, String assetName);
 }
 
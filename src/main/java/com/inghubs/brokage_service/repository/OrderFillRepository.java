@@ -0,0 +1,20 @@
+package com.inghubs.brokage_service.repository;
+
+import com.inghubs.brokage_service.model.entity.OrderFill;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OrderFillRepository extends JpaRepository<OrderFill, Long> {
+    List<OrderFill> findByOrderIdOrderByIdAsc(Long orderId);
+    
+    @Query(value = "SELECT f.price FROM order_fills f JOIN orders o ON o.id = f.order_id " +
+                   "WHERE o.asset_name = :assetName ORDER BY f.id DESC LIMIT 1", nativeQuery = true)
+    Optional<BigDecimal> findLastPriceByAssetName(@Param("assetName") String assetName);
+}
@@ -3,18 +3,26 @@ package com.inghubs.brokage_service.repository;
 import com.inghubs.brokage_service.model.entity.Order;
 import com.inghubs.brokage_service.model.entity.Customer;
 import com.inghubs.brokage_service.model.enums.OrderStatus;
+import com.inghubs.brokage_service.repository.projection.OpenOrderNotionalView;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Order> findByCustomer(Customer customer);
     
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Order> findWithLockById(Long id);
+    
     @Query("SELECT o FROM Order o WHERE o.customer.id = :customerId " +
            "AND (:startDate IS NULL OR o.createDate >= :startDate) " +
            "AND (:endDate IS NULL OR o.createDate <= :endDate) " +
@@ -27,6 +35,28 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
         @Param("status") OrderStatus status
     );
     
+    @Query("SELECT o FROM Order o WHERE o.customer.id IN :customerIds " +
+           "AND (:startDate IS NULL OR o.createDate >= :startDate) " +
+           "AND (:endDate IS NULL OR o.createDate <= :endDate) " +
+           "AND (:status IS NULL OR o.status = :status) " +
+           "ORDER BY o.customer.id, o.createDate DESC")
+    List<Order> findByCustomerIdsAndFilters(
+        @Param("customerIds") Collection<Long> customerIds,
+        @Param("startDate") LocalDateTime startDate,
+        @Param("endDate") LocalDateTime endDate,
+        @Param("status") OrderStatus status
+    );
+    
+    @Query("SELECT o.assetName AS assetName, o.orderSide AS orderSide, COUNT(o) AS orders, " +
+           "SUM(o.size - o.filledSize) AS remainingSize, SUM((o.size - o.filledSize) * o.price) AS notional " +
+           "FROM Order o WHERE o.status IN :statuses " +
+           "GROUP BY o.assetName, o.orderSide ORDER BY o.assetName, o.orderSide")
+    List<OpenOrderNotionalView> sumRemainingNotionalByAssetAndSide(@Param("statuses") Collection<OrderStatus> statuses);
+    
     List<Order> findByStatus(OrderStatus status);
+    
+    long countByStatus(OrderStatus status);
+
+    long countByStatusIn(Collection<OrderStatus> statuses);
 }
 
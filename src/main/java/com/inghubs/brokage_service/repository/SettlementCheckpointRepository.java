@@ -0,0 +1,12 @@
+package com.inghubs.brokage_service.repository;
+
+import com.inghubs.brokage_service.model.entity.SettlementCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SettlementCheckpointRepository extends JpaRepository<SettlementCheckpoint, Long> {
+    List<SettlementCheckpoint> findByRunIdOrderByPartitionIndexAsc(Long runId);
+}
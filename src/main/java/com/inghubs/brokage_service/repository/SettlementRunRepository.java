@@ -0,0 +1,15 @@
+package com.inghubs.brokage_service.repository;
+
+import com.inghubs.brokage_service.model.entity.SettlementRun;
+import com.inghubs.brokage_service.model.enums.SettlementStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface SettlementRunRepository extends JpaRepository<SettlementRun, Long> {
+    Optional<SettlementRun> findFirstByStatusOrderByIdAsc(SettlementStatus status);
+    
+    Optional<SettlementRun> findFirstByOrderByIdDesc();
+}
@@ -0,0 +1,21 @@
+package com.inghubs.brokage_service.repository;
+
+import com.inghubs.brokage_service.model.entity.StopOrder;
+import com.inghubs.brokage_service.model.enums.StopOrderStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StopOrderRepository extends JpaRepository<StopOrder, Long> {
+    List<StopOrder> findByStatus(StopOrderStatus status);
+    
+    List<StopOrder> findByCustomerIdOrderByCreateDateDesc(Long customerId);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<StopOrder> findWithLockById(Long id);
+}
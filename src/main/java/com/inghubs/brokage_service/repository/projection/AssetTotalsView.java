@@ -0,0 +1,13 @@
+package com.inghubs.brokage_service.repository.projection;
+
+import java.math.BigDecimal;
+
+public interface AssetTotalsView {
+    String getAssetName();
+
+    Long getHolders();
+
+    BigDecimal getTotalSize();
+
+    BigDecimal getReserved();
+}
@@ -0,0 +1,17 @@
+package com.inghubs.brokage_service.repository.projection;
+
+import com.inghubs.brokage_service.model.enums.OrderSide;
+
+import java.math.BigDecimal;
+
+public interface OpenOrderNotionalView {
+    String getAssetName();
+
+    OrderSide getOrderSide();
+
+    Long getOrders();
+
+    BigDecimal getRemainingSize();
+
+    BigDecimal getNotional();
+}
@@ -0,0 +1,9 @@
+package com.inghubs.brokage_service.repository.projection;
+
+import java.math.BigDecimal;
+
+public interface ReservedAmountView {
+    String getAssetName();
+
+    BigDecimal getReserved();
+}
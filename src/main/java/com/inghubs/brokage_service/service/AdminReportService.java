@@ -0,0 +1,93 @@
+package com.inghubs.brokage_service.service;
+
+import com.inghubs.brokage_service.dto.response.AssetResponse;
+import com.inghubs.brokage_service.dto.response.AssetTotalResponse;
+import com.inghubs.brokage_service.dto.response.OpenOrderNotionalResponse;
+import com.inghubs.brokage_service.dto.response.OrderResponse;
+import com.inghubs.brokage_service.exception.BadRequestException;
+import com.inghubs.brokage_service.mapper.AssetMapper;
+import com.inghubs.brokage_service.mapper.OrderMapper;
+import com.inghubs.brokage_service.model.enums.OrderStatus;
+import com.inghubs.brokage_service.repository.AssetRepository;
+import com.inghubs.brokage_service.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Cross-customer views for administrators: per-asset totals computed with one GROUP BY over the whole
+ * table, and asset/order listings for a batch of customers in one query instead of one per customer.
+ */
+@Service
+@RequiredArgsConstructor
+public class AdminReportService {
+    
+    static final int MAX_BATCH_CUSTOMERS = 1000;
+    
+    private static final Set<OrderStatus> OPEN = EnumSet.of(OrderStatus.PENDING, OrderStatus.PARTIALLY_FILLED);
+    
+    private final AssetRepository assetRepository;
+    private final OrderRepository orderRepository;
+    private final AssetMapper assetMapper;
+    private final OrderMapper orderMapper;
+    
+    @Transactional(readOnly = true)
+    public List<AssetTotalResponse> assetTotals() {
+        return assetRepository.sumByAssetName().stream()
+                .map(row -> AssetTotalResponse.builder()
+                        .assetName(row.getAssetName())
+                        .holders(row.getHolders())
+                        .totalSize(row.getTotalSize())
+                        .reservedSize(row.getReserved())
+                        .build())
+                .toList();
+    }
+    
+    /**
+     * Remaining size and size * price of the open (PENDING or PARTIALLY_FILLED) orders per asset and side.
+     */
+    @Transactional(readOnly = true)
+    public List<OpenOrderNotionalResponse> openOrderNotional() {
+        return orderRepository.sumRemainingNotionalByAssetAndSide(OPEN).stream()
+                .map(row -> OpenOrderNotionalResponse.builder()
+                        .assetName(row.getAssetName())
+                        .orderSide(row.getOrderSide())
+                        .orders(row.getOrders())
+                        .remainingSize(row.getRemainingSize())
+                        .notional(row.getNotional())
+                        .build())
+                .toList();
+    }
+    
+    @Transactional(readOnly = true)
+    public List<AssetResponse> listAssets(List<Long> customerIds, String assetName) {
+        validateBatch(customerIds);
+        if (assetName != null && !assetName.isEmpty()) {
+            return assetMapper.toResponseList(
+                    assetRepository.findByCustomerIdInAndAssetNameOrderByCustomerIdAsc(customerIds, assetName));
+        }
+        return assetMapper.toResponseList(assetRepository.findByCustomerIdInOrderByCustomerIdAscAssetNameAsc(customerIds));
+    }
+    
+    @Transactional(readOnly = true)
+    public List<OrderResponse> listOrders(List<Long> customerIds, LocalDateTime startDate, LocalDateTime endDate,
+                                          OrderStatus status) {
+        validateBatch(customerIds);
+        return orderMapper.toResponseList(
+                orderRepository.findByCustomerIdsAndFilters(customerIds, startDate, endDate, status));
+    }
+    
+    private static void validateBatch(List<Long> customerIds) {
+        if (customerIds == null || customerIds.isEmpty()) {
+            throw new BadRequestException("At least one customerId is required");
+        }
+        if (customerIds.size() > MAX_BATCH_CUSTOMERS) {
+            throw new BadRequestException("At most " + MAX_BATCH_CUSTOMERS + " customerIds per request, got " + customerIds.size());
+        }
+    }
+}
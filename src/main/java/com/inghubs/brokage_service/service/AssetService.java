@@ -1,7 +1,6 @@
 package com.inghubs.brokage_service.service;
 
 import com.inghubs.brokage_service.dto.response.AssetResponse;
-import com.inghubs.brokage_service.exception.ForbiddenException;
 import com.inghubs.brokage_service.exception.NotFoundException;
 import com.inghubs.brokage_service.mapper.AssetMapper;
 import com.inghubs.brokage_service.model.entity.Asset;
@@ -26,9 +25,7 @@ public class AssetService {
     
     @Transactional(readOnly = true)
     public List<AssetResponse> listAssets(Long customerId, String assetName, Long authenticatedCustomerId, boolean isAdmin) {
-        if (!isAdmin && authenticatedCustomerId != null && !customerId.equals(authenticatedCustomerId)) {
-            throw new ForbiddenException("You can only view your own assets");
-        }
+        CustomerAccess.checkAssets(customerId, authenticatedCustomerId, isAdmin);
         
         Customer customer = customerRepository.findById(customerId)
                 .orElseThrow(() -> new NotFoundException("Customer not found with id: " + customerId));
@@ -4,8 +4,10 @@ import com.inghubs.brokage_service.config.JwtUtil;
 import com.inghubs.brokage_service.dto.request.LoginRequest;
 import com.inghubs.brokage_service.dto.response.LoginResponse;
 import com.inghubs.brokage_service.exception.UnauthorizedException;
+import com.inghubs.brokage_service.metrics.AuthMetrics;
 import com.inghubs.brokage_service.model.entity.Customer;
 import com.inghubs.brokage_service.repository.CustomerRepository;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -20,28 +22,44 @@ public class AuthService {
     private final CustomerRepository customerRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
+    private final AuthMetrics authMetrics;
     
     @Transactional(readOnly = true)
     public LoginResponse login(LoginRequest request) {
-        Customer customer = customerRepository.findByUsername(request.getUsername())
-                .orElseThrow(() -> new UnauthorizedException("Invalid username or password"));
-        
-        if (!passwordEncoder.matches(request.getPassword(), customer.getPassword())) {
-            throw new UnauthorizedException("Invalid username or password");
+        Timer.Sample sample = authMetrics.start();
+        try {
+            Customer customer = customerRepository.findByUsername(request.getUsername())
+                    .orElseThrow(() -> new UnauthorizedException("Invalid username or password"));
+            
+            if (!passwordEncoder.matches(request.getPassword(), customer.getPassword())) {
+                throw new UnauthorizedException("Invalid username or password");
+            }
+            
+            String token = jwtUtil.generateToken(
+                    customer.getUsername(),
+                    customer.getRole().name(),
+                    customer.getId()
+            );
+            
+            authMetrics.loginCompleted(sample);
+            log.info("Login successful for user: {} with role: {}", customer.getUsername(), customer.getRole());
+            return LoginResponse.builder()
+                    .token(token)
+                    .username(customer.getUsername())
+                    .role(customer.getRole().name())
+                    .build();
+        } catch (RuntimeException e) {
+            authMetrics.loginFailed(sample, e);
+            throw e;
         }
-        
-        String token = jwtUtil.generateToken(
-                customer.getUsername(),
-                customer.getRole().name(),
-                customer.getId()
-        );
-        
-        log.info("Login successful for user: {} with role: {}", customer.getUsername(), customer.getRole());
-        return LoginResponse.builder()
-                .token(token)
-                .username(customer.getUsername())
-                .role(customer.getRole().name())
-                .build();
+    }
+    
+    public void logout(String token) {
+        if (token == null) {
+            throw new UnauthorizedException("Missing bearer token");
+        }
+        tokenRevocationService.revoke(token);
+        log.info("Logout successful for user: {}", jwtUtil.extractUsername(token));
     }
 }
-
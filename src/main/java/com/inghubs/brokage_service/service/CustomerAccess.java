@@ -0,0 +1,28 @@
+package com.inghubs.brokage_service.service;
+
+import com.inghubs.brokage_service.exception.ForbiddenException;
+
+/**
+ * The ownership rule for reading a customer's data: admins and internal callers, which pass no
+ * authenticated customer id, may read any customer; everyone else only their own. Checked by the
+ * services and, before a caller may join a coalesced read, by {@link ReadCoalescer}.
+ */
+public final class CustomerAccess {
+
+    private CustomerAccess() {
+    }
+
+    public static void checkAssets(Long customerId, Long authenticatedCustomerId, boolean isAdmin) {
+        check(customerId, authenticatedCustomerId, isAdmin, "You can only view your own assets");
+    }
+
+    public static void checkOrders(Long customerId, Long authenticatedCustomerId, boolean isAdmin) {
+        check(customerId, authenticatedCustomerId, isAdmin, "You can only view your own orders");
+    }
+
+    private static void check(Long customerId, Long authenticatedCustomerId, boolean isAdmin, String message) {
+        if (!isAdmin && authenticatedCustomerId != null && !customerId.equals(authenticatedCustomerId)) {
+            throw new ForbiddenException(message);
+        }
+    }
+}
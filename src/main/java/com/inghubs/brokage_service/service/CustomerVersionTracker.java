@@ -0,0 +1,58 @@
+package com.inghubs.brokage_service.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory version of each customer's orders and assets, used as the ETag of the listing endpoints.
+ * Versions move after the changing transaction completes, so a version read before a query never
+ * describes newer data than the query returns. The epoch makes tags from a previous process run
+ * (or another instance) never match.
+ */
+@Service
+public class CustomerVersionTracker {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final ConcurrentHashMap<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public long currentVersion(Long customerId) {
+        AtomicLong version = versions.get(customerId);
+        return version != null ? version.get() : 0;
+    }
+
+    /**
+     * @param accept the request's Accept header; JSON and protobuf bodies of one version get different tags
+     */
+    public String eTag(Long customerId, String accept) {
+        return "\"" + epoch + "-" + currentVersion(customerId) + "-" + Integer.toHexString(Objects.hashCode(accept)) + "\"";
+    }
+
+    public void markChanged(Long customerId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    increment(customerId);
+                }
+            });
+        } else {
+            increment(customerId);
+        }
+    }
+
+    /**
+     * Drops a deleted customer's version; the epoch keeps a recreated id from matching old tags.
+     */
+    public void forget(Long customerId) {
+        versions.remove(customerId);
+    }
+
+    private void increment(Long customerId) {
+        versions.computeIfAbsent(customerId, id -> new AtomicLong()).incrementAndGet();
+    }
+}
@@ -0,0 +1,63 @@
+package com.inghubs.brokage_service.service;
+
+import com.inghubs.brokage_service.repository.OrderFillRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Last traded price per asset, kept from the committed fills so that MARKET protection and stop checks
+ * do not sort order_fills for every request. The fills query only runs for an asset that has not traded
+ * since start-up.
+ * <p>
+ * The price is updated ahead of the other after-commit listeners of the fill. A stop order indexed
+ * after {@link StopOrderActivator} checked a fill therefore finds that fill's price here.
+ */
+@Component
+@RequiredArgsConstructor
+public class LastTradePrices {
+
+    private final OrderFillRepository orderFillRepository;
+    private final ConcurrentHashMap<String, BigDecimal> prices = new ConcurrentHashMap<>();
+
+    public Optional<BigDecimal> lastPrice(String assetName) {
+        BigDecimal price = prices.get(assetName);
+        if (price != null) {
+            return Optional.of(price);
+        }
+        Optional<BigDecimal> loaded = orderFillRepository.findLastPriceByAssetName(assetName);
+        loaded.ifPresent(lastPrice -> loaded(assetName, lastPrice));
+        return loaded;
+    }
+
+    /**
+     * @return the cached price, or null if the asset has to be looked up
+     */
+    public BigDecimal cached(String assetName) {
+        return prices.get(assetName);
+    }
+
+    /**
+     * Caches a price read from the fills; a fill that committed in the meantime wins.
+     */
+    public void loaded(String assetName, BigDecimal price) {
+        prices.putIfAbsent(assetName, price);
+    }
+
+    public void evict(String assetName) {
+        prices.remove(assetName);
+    }
+
+    // the reactive match path publishes after its R2DBC transaction has committed, outside any Spring transaction
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderFilled(OrderFilledEvent event) {
+        prices.put(event.assetName(), event.price());
+    }
+}
@@ -0,0 +1,49 @@
+package com.inghubs.brokage_service.service;
+
+import com.inghubs.brokage_service.exception.BadRequestException;
+import com.inghubs.brokage_service.model.enums.OrderSide;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Worst price a MARKET order may execute at: the last traded price of the asset widened by
+ * orders.market.protection-band (0.05 = 5%), tightened further by the client's own price if it sent one.
+ * The result is stored as the order's price, so reservation, fills and cancel treat it like a limit.
+ */
+@Component
+public class MarketOrderProtection {
+
+    private static final int PRICE_SCALE = 2;
+    private static final BigDecimal MIN_PRICE = new BigDecimal("0.01");
+
+    private final BigDecimal band;
+
+    public MarketOrderProtection(@Value("${orders.market.protection-band:0.05}") BigDecimal band) {
+        if (band.signum() < 0 || band.compareTo(BigDecimal.ONE) >= 0) {
+            throw new IllegalArgumentException("orders.market.protection-band must be in [0, 1): " + band);
+        }
+        this.band = band;
+    }
+
+    public BigDecimal limitPrice(OrderSide side, String assetName, @Nullable BigDecimal lastPrice,
+                                 @Nullable BigDecimal clientLimit) {
+        if (lastPrice == null) {
+            if (clientLimit == null) {
+                throw new BadRequestException("No trades for " + assetName + " yet; a MARKET order needs a protection price");
+            }
+            return clientLimit;
+        }
+        // round towards the reference so the cap never lies outside the band
+        BigDecimal bandLimit = side == OrderSide.BUY
+                ? lastPrice.multiply(BigDecimal.ONE.add(band)).setScale(PRICE_SCALE, RoundingMode.DOWN)
+                : lastPrice.multiply(BigDecimal.ONE.subtract(band)).setScale(PRICE_SCALE, RoundingMode.UP).max(MIN_PRICE);
+        if (clientLimit == null) {
+            return bandLimit;
+        }
+        return side == OrderSide.BUY ? bandLimit.min(clientLimit) : bandLimit.max(clientLimit);
+    }
+}
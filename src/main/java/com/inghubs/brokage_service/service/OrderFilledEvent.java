@@ -0,0 +1,10 @@
+package com.inghubs.brokage_service.service;
+
+import java.math.BigDecimal;
+
+/**
+ * Published inside the matching transaction for every fill; listeners that act on the traded price
+ * should run after commit.
+ */
+public record OrderFilledEvent(String assetName, BigDecimal price) {
+}
@@ -0,0 +1,91 @@
+package com.inghubs.brokage_service.service;
+
+import com.inghubs.brokage_service.config.RateLimitProperties;
+import com.inghubs.brokage_service.exception.TooManyRequestsException;
+import com.inghubs.brokage_service.model.enums.UserRole;
+import com.inghubs.brokage_service.util.RateLimitBucket;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Rate limiting and admission control for order entry. Each customer has a lock-free bucket sized by
+ * their role, so one client looping on order entry is throttled before it reaches the asset row
+ * locks. The admission limit caps the number of order transactions running at once for everybody.
+ */
+@Slf4j
+@Service
+public class OrderRateLimiter {
+
+    private static final long ADMISSION_RETRY_AFTER_SECONDS = 1;
+
+    private final boolean enabled;
+    private final int maxInFlight;
+    private final Map<UserRole, long[]> rates = new EnumMap<>(UserRole.class);
+    private final ConcurrentHashMap<Long, RateLimitBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public OrderRateLimiter(RateLimitProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.maxInFlight = properties.getMaxInFlight();
+        properties.getRoles().forEach((role, limit) -> {
+            long emissionInterval = (long) (TimeUnit.SECONDS.toNanos(1) / limit.getRequestsPerSecond());
+            rates.put(role, new long[]{emissionInterval, emissionInterval * Math.max(1, limit.getBurst())});
+        });
+    }
+
+    public void checkRate(Long customerId, UserRole role) {
+        checkRate(customerId, role, System.nanoTime());
+    }
+
+    void checkRate(Long customerId, UserRole role, long nowNanos) {
+        long[] rate = rates.get(role);
+        if (!enabled || customerId == null || rate == null) {
+            return;
+        }
+        RateLimitBucket bucket = buckets.computeIfAbsent(customerId, id -> new RateLimitBucket(nowNanos));
+        long waitNanos = bucket.tryAcquire(nowNanos, rate[0], rate[1]);
+        if (waitNanos > 0) {
+            log.warn("Rate limit exceeded for customer: {}", customerId);
+            throw new TooManyRequestsException("Order rate limit exceeded, retry later",
+                    Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1)));
+        }
+    }
+
+    /**
+     * Admits one order transaction; every successful call must be paired with {@link #release()}.
+     */
+    public void admit() {
+        if (!enabled) {
+            return;
+        }
+        if (inFlight.incrementAndGet() > maxInFlight) {
+            inFlight.decrementAndGet();
+            log.warn("Order admission rejected, {} transactions in flight", maxInFlight);
+            throw new TooManyRequestsException("Too many orders in progress, retry later", ADMISSION_RETRY_AFTER_SECONDS);
+        }
+    }
+
+    public void release() {
+        if (enabled) {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    // a request racing with the removal may consume from a dropped bucket; that only errs towards admitting
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> bucket.isIdle(now));
+    }
+}
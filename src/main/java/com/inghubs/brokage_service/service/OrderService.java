@@ -1,27 +1,39 @@
 package com.inghubs.brokage_service.service;
 
+import com.inghubs.brokage_service.config.SettlementProperties;
+import com.inghubs.brokage_service.dto.request.AmendOrderRequest;
 import com.inghubs.brokage_service.dto.request.CreateOrderRequest;
+import com.inghubs.brokage_service.dto.response.OrderFillResponse;
 import com.inghubs.brokage_service.dto.response.OrderResponse;
 import com.inghubs.brokage_service.exception.BadRequestException;
 import com.inghubs.brokage_service.exception.ForbiddenException;
+import com.inghubs.brokage_service.exception.InsufficientUsableSizeException;
 import com.inghubs.brokage_service.exception.NotFoundException;
+import com.inghubs.brokage_service.jfr.OrderStageRecorder;
 import com.inghubs.brokage_service.mapper.OrderMapper;
+import com.inghubs.brokage_service.metrics.OrderMetrics;
 import com.inghubs.brokage_service.model.entity.Asset;
 import com.inghubs.brokage_service.model.entity.Customer;
 import com.inghubs.brokage_service.model.entity.Order;
+import com.inghubs.brokage_service.model.entity.OrderFill;
 import com.inghubs.brokage_service.model.enums.OrderSide;
 import com.inghubs.brokage_service.model.enums.OrderStatus;
+import com.inghubs.brokage_service.model.enums.OrderType;
 import com.inghubs.brokage_service.repository.AssetRepository;
 import com.inghubs.brokage_service.repository.CustomerRepository;
+import com.inghubs.brokage_service.repository.OrderFillRepository;
 import com.inghubs.brokage_service.repository.OrderRepository;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -31,46 +43,77 @@ public class OrderService {
     private static final String TRY_ASSET = "TRY";
     
     private final OrderRepository orderRepository;
+    private final OrderFillRepository orderFillRepository;
+    private final LastTradePrices lastTradePrices;
     private final AssetRepository assetRepository;
     private final CustomerRepository customerRepository;
     private final OrderMapper orderMapper;
+    private final CustomerVersionTracker customerVersionTracker;
+    private final OrderMetrics orderMetrics;
+    private final MarketOrderProtection marketOrderProtection;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SettlementProperties settlementProperties;
+    private final RiskEngine riskEngine;
     
     @Transactional
     public OrderResponse createOrder(CreateOrderRequest request, Long authenticatedCustomerId, boolean isAdmin) {
-        if (!isAdmin && authenticatedCustomerId != null && !request.getCustomerId().equals(authenticatedCustomerId)) {
-            throw new ForbiddenException("You can only create orders for yourself");
-        }
-        
-        Customer customer = customerRepository.findById(request.getCustomerId())
-                .orElseThrow(() -> new NotFoundException("Customer not found with id: " + request.getCustomerId()));
-        
-        if (request.getOrderSide() == OrderSide.BUY) {
-            validateAndReserveAsset(customer, TRY_ASSET, request.getSize().multiply(request.getPrice()));
-        } else {
-            validateAndReserveAsset(customer, request.getAssetName(), request.getSize());
+        Timer.Sample sample = orderMetrics.start();
+        OrderStageRecorder stages = OrderStageRecorder.start(OrderStageRecorder.CREATE);
+        stages.customerId(request.getCustomerId());
+        stages.assetName(request.getAssetName());
+        try {
+            stages.stage(OrderStageRecorder.AUTHORIZATION);
+            if (!isAdmin && authenticatedCustomerId != null && !request.getCustomerId().equals(authenticatedCustomerId)) {
+                throw new ForbiddenException("You can only create orders for yourself");
+            }
+            
+            stages.stage(OrderStageRecorder.CUSTOMER_LOOKUP);
+            Customer customer = customerRepository.findById(request.getCustomerId())
+                    .orElseThrow(() -> new NotFoundException("Customer not found with id: " + request.getCustomerId()));
+            
+            OrderType orderType = request.getOrderType() != null ? request.getOrderType() : OrderType.LIMIT;
+            BigDecimal price = orderPrice(request, orderType);
+            stages.stage(OrderStageRecorder.RISK_CHECK);
+            riskEngine.checkNewOrder(customer.getId(), request.getAssetName(), request.getOrderSide(), request.getSize(), price);
+            if (request.getOrderSide() == OrderSide.BUY) {
+                validateAndReserveAsset(customer, TRY_ASSET, request.getSize().multiply(price), stages);
+            } else {
+                validateAndReserveAsset(customer, request.getAssetName(), request.getSize(), stages);
+            }
+            
+            stages.stage(OrderStageRecorder.SAVE);
+            Order order = Order.builder()
+                    .customer(customer)
+                    .assetName(request.getAssetName())
+                    .orderSide(request.getOrderSide())
+                    .orderType(orderType)
+                    .size(request.getSize())
+                    .price(price)
+                    .status(OrderStatus.PENDING)
+                    .createDate(LocalDateTime.now())
+                    .build();
+            
+            Order savedOrder = orderRepository.save(order);
+            stages.orderId(savedOrder.getId());
+            customerVersionTracker.markChanged(customer.getId());
+            orderMetrics.orderCompleted(sample, OrderMetrics.CREATE, request.getOrderSide());
+            log.info("Order created successfully with ID: {} for customer: {}", savedOrder.getId(), savedOrder.getCustomer().getId());
+            
+            stages.stage(OrderStageRecorder.MAPPING);
+            OrderResponse response = orderMapper.toResponse(savedOrder);
+            stages.completeOnCommit();
+            return response;
+        } catch (RuntimeException e) {
+            orderMetrics.orderFailed(sample, OrderMetrics.CREATE, request.getOrderSide(), e);
+            stages.close();
+            throw e;
         }
-        
-        Order order = Order.builder()
-                .customer(customer)
-                .assetName(request.getAssetName())
-                .orderSide(request.getOrderSide())
-                .size(request.getSize())
-                .price(request.getPrice())
-                .status(OrderStatus.PENDING)
-                .createDate(LocalDateTime.now())
-                .build();
-        
-        Order savedOrder = orderRepository.save(order);
-        log.info("Order created successfully with ID: {} for customer: {}", savedOrder.getId(), savedOrder.getCustomer().getId());
-        return orderMapper.toResponse(savedOrder);
     }
     
     @Transactional(readOnly = true)
     public List<OrderResponse> listOrders(Long customerId, LocalDateTime startDate, LocalDateTime endDate, 
                                          OrderStatus status, Long authenticatedCustomerId, boolean isAdmin) {
-        if (!isAdmin && authenticatedCustomerId != null && !customerId.equals(authenticatedCustomerId)) {
-            throw new ForbiddenException("You can only view your own orders");
-        }
+        CustomerAccess.checkOrders(customerId, authenticatedCustomerId, isAdmin);
         
         List<Order> orders = orderRepository.findByCustomerIdAndFilters(customerId, startDate, endDate, status);
         return orderMapper.toResponseList(orders);
@@ -78,47 +121,194 @@ public class OrderService {
     
     @Transactional
     public void deleteOrder(Long orderId, Long authenticatedCustomerId, boolean isAdmin) {
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new NotFoundException("Order not found with id: " + orderId));
-        
-        if (!isAdmin && authenticatedCustomerId != null && !order.getCustomer().getId().equals(authenticatedCustomerId)) {
-            throw new ForbiddenException("You can only delete your own orders");
+        Timer.Sample sample = orderMetrics.start();
+        OrderSide side = null;
+        try {
+            // the order row is locked before any asset row, so a cancel, amend and match of one order
+            // run one after another and each sees the filled size and status the previous one committed
+            Order order = orderRepository.findWithLockById(orderId)
+                    .orElseThrow(() -> new NotFoundException("Order not found with id: " + orderId));
+            side = order.getOrderSide();
+            
+            if (!isAdmin && authenticatedCustomerId != null && !order.getCustomer().getId().equals(authenticatedCustomerId)) {
+                throw new ForbiddenException("You can only delete your own orders");
+            }
+            
+            if (!order.isOpen()) {
+                throw new BadRequestException("Only PENDING or PARTIALLY_FILLED orders can be deleted");
+            }
+            
+            releaseReservedAssets(order);
+            riskEngine.orderClosed(order.getCustomer().getId(), order.getAssetName(), side, order.getRemainingSize());
+            
+            order.setStatus(OrderStatus.CANCELED);
+            orderRepository.save(order);
+            customerVersionTracker.markChanged(order.getCustomer().getId());
+            orderMetrics.orderCompleted(sample, OrderMetrics.CANCEL, side);
+            log.info("Order ID: {} canceled successfully", orderId);
+        } catch (RuntimeException e) {
+            orderMetrics.orderFailed(sample, OrderMetrics.CANCEL, side, e);
+            throw e;
         }
-        
-        if (order.getStatus() != OrderStatus.PENDING) {
-            throw new BadRequestException("Only PENDING orders can be deleted");
-        }
-        
-        releaseReservedAssets(order);
-        
-        order.setStatus(OrderStatus.CANCELED);
-        orderRepository.save(order);
-        log.info("Order ID: {} canceled successfully", orderId);
     }
     
+    /**
+     * Changes the total size and/or limit price of an open order in place. Only the difference in
+     * reservation is applied, under one lock on the reserved asset row. A size decrease at an
+     * unchanged price keeps the order's time priority; any other change resets it.
+     */
     @Transactional
-    public OrderResponse matchOrder(Long orderId) {
+    public OrderResponse amendOrder(Long orderId, AmendOrderRequest request, Long authenticatedCustomerId, boolean isAdmin) {
+        Timer.Sample sample = orderMetrics.start();
+        OrderSide side = null;
+        try {
+            Order order = orderRepository.findWithLockById(orderId)
+                    .orElseThrow(() -> new NotFoundException("Order not found with id: " + orderId));
+            side = order.getOrderSide();
+            
+            if (!isAdmin && authenticatedCustomerId != null && !order.getCustomer().getId().equals(authenticatedCustomerId)) {
+                throw new ForbiddenException("You can only amend your own orders");
+            }
+            if (!order.isOpen()) {
+                throw new BadRequestException("Only PENDING or PARTIALLY_FILLED orders can be amended");
+            }
+            if (request.getSize() == null && request.getPrice() == null) {
+                throw new BadRequestException("Size or price is required");
+            }
+            BigDecimal newSize = request.getSize() != null ? request.getSize() : order.getSize();
+            BigDecimal newPrice = request.getPrice() != null ? request.getPrice() : order.getPrice();
+            if (newSize.compareTo(order.getFilledSize()) <= 0) {
+                throw new BadRequestException("Size must exceed the filled size " + order.getFilledSize() + "; cancel the order instead");
+            }
+            
+            BigDecimal newRemaining = newSize.subtract(order.getFilledSize());
+            riskEngine.checkAmend(order.getCustomer().getId(), order.getAssetName(), side,
+                    order.getRemainingSize(), order.getPrice(), newSize, newRemaining, newPrice);
+            if (side == OrderSide.BUY) {
+                adjustReservation(order.getCustomer().getId(), TRY_ASSET,
+                        newRemaining.multiply(newPrice).subtract(order.getRemainingSize().multiply(order.getPrice())));
+            } else {
+                adjustReservation(order.getCustomer().getId(), order.getAssetName(),
+                        newRemaining.subtract(order.getRemainingSize()));
+            }
+            
+            boolean keepsPriority = newPrice.compareTo(order.getPrice()) == 0 && newSize.compareTo(order.getSize()) <= 0;
+            order.setSize(newSize);
+            order.setPrice(newPrice);
+            if (!keepsPriority) {
+                order.setCreateDate(LocalDateTime.now());
+            }
+            Order savedOrder = orderRepository.save(order);
+            customerVersionTracker.markChanged(order.getCustomer().getId());
+            orderMetrics.orderCompleted(sample, OrderMetrics.AMEND, side);
+            log.info("Order ID: {} amended to size {} at {}", orderId, newSize, newPrice);
+            return orderMapper.toResponse(savedOrder);
+        } catch (RuntimeException e) {
+            orderMetrics.orderFailed(sample, OrderMetrics.AMEND, side, e);
+            throw e;
+        }
+    }
+    
+    @Transactional(readOnly = true)
+    public List<OrderFillResponse> listFills(Long orderId, Long authenticatedCustomerId, boolean isAdmin) {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new NotFoundException("Order not found with id: " + orderId));
+        CustomerAccess.checkOrders(order.getCustomer().getId(), authenticatedCustomerId, isAdmin);
         
-        if (order.getStatus() != OrderStatus.PENDING) {
-            throw new BadRequestException("Only PENDING orders can be matched");
+        return orderMapper.toFillResponseList(orderFillRepository.findByOrderIdOrderByIdAsc(orderId));
+    }
+    
+    @Transactional
+    public OrderResponse matchOrder(Long orderId) {
+        return matchOrder(orderId, null, null);
+    }
+    
+    /**
+     * Executes {@code fillSize} (default: the remaining size) at {@code fillPrice} (default: the limit
+     * price). Only the filled portion moves between assets; a BUY filled below its limit gets the
+     * difference back on its TRY reservation. In DEFERRED settlement mode the fill is only recorded and
+     * the reservation stays in place until {@link SettlementService} nets it into the asset rows.
+     */
+    @Transactional
+    public OrderResponse matchOrder(Long orderId, BigDecimal fillSize, BigDecimal fillPrice) {
+        Timer.Sample sample = orderMetrics.start();
+        OrderStageRecorder stages = OrderStageRecorder.start(OrderStageRecorder.MATCH);
+        stages.orderId(orderId);
+        OrderSide side = null;
+        try {
+            stages.stage(OrderStageRecorder.ORDER_LOOKUP);
+            Order order = orderRepository.findWithLockById(orderId)
+                    .orElseThrow(() -> new NotFoundException("Order not found with id: " + orderId));
+            side = order.getOrderSide();
+            stages.customerId(order.getCustomer().getId());
+            stages.assetName(order.getAssetName());
+            
+            if (!order.isOpen()) {
+                throw new BadRequestException("Only PENDING or PARTIALLY_FILLED orders can be matched");
+            }
+            BigDecimal quantity = fillSize != null ? fillSize : order.getRemainingSize();
+            BigDecimal price = fillPrice != null ? fillPrice : order.getPrice();
+            validateFill(order, quantity, price);
+            
+            boolean deferred = settlementProperties.isDeferred();
+            if (!deferred) {
+                executeFill(order, quantity, price, stages);
+            }
+            
+            stages.stage(OrderStageRecorder.SAVE);
+            orderFillRepository.save(OrderFill.builder()
+                    .order(order)
+                    .size(quantity)
+                    .price(price)
+                    .limitPrice(order.getPrice())
+                    .settled(!deferred)
+                    .build());
+            order.setFilledSize(order.getFilledSize().add(quantity));
+            order.setStatus(order.getRemainingSize().signum() == 0 ? OrderStatus.MATCHED : OrderStatus.PARTIALLY_FILLED);
+            riskEngine.filled(order.getCustomer().getId(), order.getAssetName(), side, quantity);
+            if (order.getStatus() == OrderStatus.MATCHED) {
+                riskEngine.orderClosed(order.getCustomer().getId(), order.getAssetName(), side, BigDecimal.ZERO);
+            }
+            Order savedOrder = orderRepository.save(order);
+            customerVersionTracker.markChanged(order.getCustomer().getId());
+            eventPublisher.publishEvent(new OrderFilledEvent(order.getAssetName(), price));
+            orderMetrics.orderCompleted(sample, OrderMetrics.MATCH, side);
+            log.info("Order ID: {} filled {} at {}, status {}", orderId, quantity, price, savedOrder.getStatus());
+            
+            stages.stage(OrderStageRecorder.MAPPING);
+            OrderResponse response = orderMapper.toResponse(savedOrder);
+            stages.completeOnCommit();
+            return response;
+        } catch (RuntimeException e) {
+            orderMetrics.orderFailed(sample, OrderMetrics.MATCH, side, e);
+            stages.close();
+            throw e;
         }
-        
-        executeOrder(order);
-        
-        order.setStatus(OrderStatus.MATCHED);
-        Order savedOrder = orderRepository.save(order);
-        log.info("Order ID: {} matched successfully", orderId);
-        return orderMapper.toResponse(savedOrder);
     }
     
-    private void validateAndReserveAsset(Customer customer, String assetName, BigDecimal requiredAmount) {
+    private BigDecimal orderPrice(CreateOrderRequest request, OrderType orderType) {
+        if (orderType == OrderType.MARKET) {
+            BigDecimal lastPrice = lastTradePrices.lastPrice(request.getAssetName()).orElse(null);
+            return marketOrderProtection.limitPrice(request.getOrderSide(), request.getAssetName(), lastPrice, request.getPrice());
+        }
+        if (orderType != OrderType.LIMIT) {
+            throw new BadRequestException(orderType + " orders are placed through /api/stop-orders");
+        }
+        if (request.getPrice() == null) {
+            throw new BadRequestException("Price is required for LIMIT orders");
+        }
+        return request.getPrice();
+    }
+    
+    private void validateAndReserveAsset(Customer customer, String assetName, BigDecimal requiredAmount,
+                                         OrderStageRecorder stages) {
+        stages.stage(OrderStageRecorder.ASSET_LOCK);
         Asset asset = assetRepository.findByCustomerIdAndAssetNameWithLock(customer.getId(), assetName)
                 .orElseThrow(() -> new NotFoundException("Asset not found: " + assetName + " for customer: " + customer.getId()));
         
+        stages.stage(OrderStageRecorder.BALANCE_VALIDATION);
         if (asset.getUsableSize().compareTo(requiredAmount) < 0) {
-            throw new BadRequestException("Insufficient usable size for asset: " + assetName + 
+            throw new InsufficientUsableSizeException("Insufficient usable size for asset: " + assetName + 
                     ". Required: " + requiredAmount + ", Available: " + asset.getUsableSize());
         }
         
@@ -126,11 +316,27 @@ public class OrderService {
         assetRepository.save(asset);
     }
     
+    // positive delta reserves more, negative releases
+    private void adjustReservation(Long customerId, String assetName, BigDecimal delta) {
+        if (delta.signum() == 0) {
+            return;
+        }
+        Asset asset = assetRepository.findByCustomerIdAndAssetNameWithLock(customerId, assetName)
+                .orElseThrow(() -> new NotFoundException("Asset not found: " + assetName + " for customer: " + customerId));
+        if (asset.getUsableSize().compareTo(delta) < 0) {
+            throw new InsufficientUsableSizeException("Insufficient usable size for asset: " + assetName +
+                    ". Required: " + delta + ", Available: " + asset.getUsableSize());
+        }
+        asset.setUsableSize(asset.getUsableSize().subtract(delta));
+        assetRepository.save(asset);
+    }
+    
     private void releaseReservedAssets(Order order) {
+        BigDecimal remaining = order.getRemainingSize();
         if (order.getOrderSide() == OrderSide.BUY) {
-            releaseAsset(order.getCustomer().getId(), TRY_ASSET, order.getSize().multiply(order.getPrice()));
+            releaseAsset(order.getCustomer().getId(), TRY_ASSET, remaining.multiply(order.getPrice()));
         } else {
-            releaseAsset(order.getCustomer().getId(), order.getAssetName(), order.getSize());
+            releaseAsset(order.getCustomer().getId(), order.getAssetName(), remaining);
         }
     }
     
@@ -142,54 +348,93 @@ public class OrderService {
         assetRepository.save(asset);
     }
     
-    private void executeOrder(Order order) {
+    private static void validateFill(Order order, BigDecimal quantity, BigDecimal price) {
+        if (quantity.signum() <= 0) {
+            throw new BadRequestException("Fill size must be positive");
+        }
+        if (quantity.compareTo(order.getRemainingSize()) > 0) {
+            throw new BadRequestException("Fill size " + quantity + " exceeds remaining size " + order.getRemainingSize());
+        }
+        if (order.getOrderSide() == OrderSide.BUY && price.compareTo(order.getPrice()) > 0) {
+            throw new BadRequestException("Fill price " + price + " is above the BUY limit " + order.getPrice());
+        }
+        if (order.getOrderSide() == OrderSide.SELL && price.compareTo(order.getPrice()) < 0) {
+            throw new BadRequestException("Fill price " + price + " is below the SELL limit " + order.getPrice());
+        }
+    }
+    
+    private void executeFill(Order order, BigDecimal quantity, BigDecimal price, OrderStageRecorder stages) {
         if (order.getOrderSide() == OrderSide.BUY) {
-            executeBuyOrder(order);
+            executeBuyFill(order, quantity, price, stages);
         } else {
-            executeSellOrder(order);
+            executeSellFill(order, quantity, price, stages);
         }
     }
     
-    private void executeBuyOrder(Order order) {
-        BigDecimal totalCost = order.getSize().multiply(order.getPrice());
+    private void executeBuyFill(Order order, BigDecimal quantity, BigDecimal price, OrderStageRecorder stages) {
+        BigDecimal totalCost = quantity.multiply(price);
+        // reserved at the limit price; whatever the fill did not spend becomes usable again
+        BigDecimal priceImprovement = quantity.multiply(order.getPrice()).subtract(totalCost);
         Long customerId = order.getCustomer().getId();
         
-        Asset tryAsset = assetRepository.findByCustomerIdAndAssetNameWithLock(customerId, TRY_ASSET)
+        stages.stage(OrderStageRecorder.ASSET_LOCK);
+        FillAssets assets = lockFillAssets(customerId, order.getAssetName());
+        Asset tryAsset = assets.tryAsset()
                 .orElseThrow(() -> new NotFoundException("TRY asset not found for customer: " + customerId));
+        
+        stages.stage(OrderStageRecorder.ASSET_UPDATE);
         tryAsset.setSize(tryAsset.getSize().subtract(totalCost));
+        tryAsset.setUsableSize(tryAsset.getUsableSize().add(priceImprovement));
         assetRepository.save(tryAsset);
         
-        Asset boughtAsset = assetRepository.findByCustomerIdAndAssetNameWithLock(
-                customerId, order.getAssetName()).orElse(null);
-        
+        Asset boughtAsset = assets.tradedAsset().orElse(null);
         if (boughtAsset == null) {
             boughtAsset = Asset.builder()
                     .customer(order.getCustomer())
                     .assetName(order.getAssetName())
-                    .size(order.getSize())
-                    .usableSize(order.getSize())
+                    .size(quantity)
+                    .usableSize(quantity)
                     .build();
         } else {
-            boughtAsset.setSize(boughtAsset.getSize().add(order.getSize()));
-            boughtAsset.setUsableSize(boughtAsset.getUsableSize().add(order.getSize()));
+            boughtAsset.setSize(boughtAsset.getSize().add(quantity));
+            boughtAsset.setUsableSize(boughtAsset.getUsableSize().add(quantity));
         }
         assetRepository.save(boughtAsset);
     }
     
-    private void executeSellOrder(Order order) {
-        BigDecimal totalRevenue = order.getSize().multiply(order.getPrice());
+    private void executeSellFill(Order order, BigDecimal quantity, BigDecimal price, OrderStageRecorder stages) {
+        BigDecimal totalRevenue = quantity.multiply(price);
         Long customerId = order.getCustomer().getId();
         
-        Asset soldAsset = assetRepository.findByCustomerIdAndAssetNameWithLock(customerId, order.getAssetName())
+        stages.stage(OrderStageRecorder.ASSET_LOCK);
+        FillAssets assets = lockFillAssets(customerId, order.getAssetName());
+        Asset soldAsset = assets.tradedAsset()
                 .orElseThrow(() -> new NotFoundException("Asset not found: " + order.getAssetName() + " for customer: " + customerId));
-        soldAsset.setSize(soldAsset.getSize().subtract(order.getSize()));
-        assetRepository.save(soldAsset);
-        
-        Asset tryAsset = assetRepository.findByCustomerIdAndAssetNameWithLock(customerId, TRY_ASSET)
+        Asset tryAsset = assets.tryAsset()
                 .orElseThrow(() -> new NotFoundException("TRY asset not found for customer: " + customerId));
+        
+        stages.stage(OrderStageRecorder.ASSET_UPDATE);
+        soldAsset.setSize(soldAsset.getSize().subtract(quantity));
+        assetRepository.save(soldAsset);
         tryAsset.setSize(tryAsset.getSize().add(totalRevenue));
         tryAsset.setUsableSize(tryAsset.getUsableSize().add(totalRevenue));
         assetRepository.save(tryAsset);
     }
+    
+    /**
+     * Locks the customer's TRY row and the traded asset's row in asset-name order. BUY and SELL fills
+     * both take these two rows, and taking them in one fixed order keeps two fills of the same customer
+     * from each holding the row the other is waiting for.
+     */
+    private FillAssets lockFillAssets(Long customerId, String assetName) {
+        if (assetName.compareTo(TRY_ASSET) < 0) {
+            Optional<Asset> tradedAsset = assetRepository.findByCustomerIdAndAssetNameWithLock(customerId, assetName);
+            return new FillAssets(assetRepository.findByCustomerIdAndAssetNameWithLock(customerId, TRY_ASSET), tradedAsset);
+        }
+        Optional<Asset> tryAsset = assetRepository.findByCustomerIdAndAssetNameWithLock(customerId, TRY_ASSET);
+        return new FillAssets(tryAsset, assetRepository.findByCustomerIdAndAssetNameWithLock(customerId, assetName));
+    }
+    
+    private record FillAssets(Optional<Asset> tryAsset, Optional<Asset> tradedAsset) {
+    }
 }
-
@@ -0,0 +1,65 @@
+package com.inghubs.brokage_service.service;
+
+import com.inghubs.brokage_service.dto.response.AssetResponse;
+import com.inghubs.brokage_service.dto.response.OrderResponse;
+import com.inghubs.brokage_service.model.enums.OrderStatus;
+import com.inghubs.brokage_service.util.SingleFlight;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Coalesces identical concurrent asset and order listings into one query. The ownership check runs
+ * for every caller before it may join a flight; the query result only depends on the key, so a
+ * caller that passed the check can share the result of any other caller with the same key. Keys
+ * include the customer's data version, so a caller never joins a query that started before a change
+ * it has already observed.
+ */
+@Service
+public class ReadCoalescer {
+
+    private final AssetService assetService;
+    private final OrderService orderService;
+    private final CustomerVersionTracker customerVersionTracker;
+    private final boolean enabled;
+
+    private final SingleFlight<AssetQuery, List<AssetResponse>> assetFlights = new SingleFlight<>();
+    private final SingleFlight<OrderQuery, List<OrderResponse>> orderFlights = new SingleFlight<>();
+
+    public ReadCoalescer(AssetService assetService,
+                         OrderService orderService,
+                         CustomerVersionTracker customerVersionTracker,
+                         @Value("${read-coalescing.enabled:true}") boolean enabled) {
+        this.assetService = assetService;
+        this.orderService = orderService;
+        this.customerVersionTracker = customerVersionTracker;
+        this.enabled = enabled;
+    }
+
+    public List<AssetResponse> listAssets(Long customerId, String assetName, Long authenticatedCustomerId, boolean isAdmin) {
+        CustomerAccess.checkAssets(customerId, authenticatedCustomerId, isAdmin);
+        if (!enabled) {
+            return assetService.listAssets(customerId, assetName, authenticatedCustomerId, isAdmin);
+        }
+        return assetFlights.execute(new AssetQuery(customerId, customerVersionTracker.currentVersion(customerId), assetName),
+                () -> assetService.listAssets(customerId, assetName, authenticatedCustomerId, isAdmin));
+    }
+
+    public List<OrderResponse> listOrders(Long customerId, LocalDateTime startDate, LocalDateTime endDate,
+                                          OrderStatus status, Long authenticatedCustomerId, boolean isAdmin) {
+        CustomerAccess.checkOrders(customerId, authenticatedCustomerId, isAdmin);
+        if (!enabled) {
+            return orderService.listOrders(customerId, startDate, endDate, status, authenticatedCustomerId, isAdmin);
+        }
+        return orderFlights.execute(new OrderQuery(customerId, customerVersionTracker.currentVersion(customerId), startDate, endDate, status),
+                () -> orderService.listOrders(customerId, startDate, endDate, status, authenticatedCustomerId, isAdmin));
+    }
+
+    private record AssetQuery(Long customerId, long version, String assetName) {
+    }
+
+    private record OrderQuery(Long customerId, long version, LocalDateTime startDate, LocalDateTime endDate, OrderStatus status) {
+    }
+}
@@ -0,0 +1,411 @@
+package com.inghubs.brokage_service.service;
+
+import com.inghubs.brokage_service.config.RiskProperties;
+import com.inghubs.brokage_service.exception.RiskLimitExceededException;
+import com.inghubs.brokage_service.model.enums.OrderSide;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Pre-trade limits checked before an order reserves anything: order notional, open orders, position
+ * per asset (holding plus open BUY size) and the notional entered per day. Limits and counters live in
+ * memory as longs in hundredths, keyed by customer id, and are updated with compare-and-set, so the
+ * check takes no locks and never queries the database. Counters are loaded once when the application
+ * is ready; increments taken inside a transaction are undone if it rolls back, decrements are applied
+ * once it commits. Reactive callers, which have no thread-bound transaction, go through
+ * {@link #inReactiveTransaction} to get the same behaviour.
+ * <p>
+ * The daily volume counter carries the day it belongs to, and every reservation remembers that day,
+ * so a rollback that lands after midnight does not give back volume to the new day's counter.
+ * <p>
+ * The check is not allocation-free: request amounts arrive as BigDecimal and are converted to
+ * hundredths, and each transaction that changes a counter registers one synchronization.
+ */
+@Slf4j
+@Service
+public class RiskEngine {
+
+    static final long UNLIMITED = Long.MAX_VALUE;
+
+    // limit slots
+    private static final int MAX_ORDER_NOTIONAL = 0;
+    private static final int MAX_OPEN_ORDERS = 1;
+    private static final int MAX_POSITION = 2;
+    private static final int MAX_DAILY_VOLUME = 3;
+
+    // counter slots
+    private static final int OPEN_ORDERS = 0;
+    // the day in the high bits and that day's volume below them, so a roll-over and an add are one CAS
+    private static final int DAILY_VOLUME = 1;
+    private static final int VOLUME_BITS = 47;
+    private static final long VOLUME_MASK = (1L << VOLUME_BITS) - 1;
+
+    private static final String TRY_ASSET = "TRY";
+    private static final String OPEN_STATUSES = "('PENDING', 'PARTIALLY_FILLED')";
+
+    private final boolean enabled;
+    private final long[] defaultLimits;
+    private final Map<Long, long[]> customerLimits = new HashMap<>();
+    private final ConcurrentHashMap<Long, CustomerRisk> customers = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+
+    public RiskEngine(RiskProperties properties, JdbcTemplate jdbcTemplate) {
+        this.enabled = properties.isEnabled();
+        this.jdbcTemplate = jdbcTemplate;
+        this.defaultLimits = limits(properties.getDefaults(), new long[]{UNLIMITED, UNLIMITED, UNLIMITED, UNLIMITED});
+        properties.getCustomers().forEach((customerId, limits) -> customerLimits.put(customerId, limits(limits, defaultLimits)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        customers.clear();
+        long today = today();
+        jdbcTemplate.query("SELECT customer_id, COUNT(*) FROM orders WHERE status IN " + OPEN_STATUSES + " GROUP BY customer_id",
+                rs -> { risk(rs.getLong(1)).counters.set(OPEN_ORDERS, rs.getLong(2)); });
+        jdbcTemplate.query("SELECT customer_id, SUM(size * price) FROM orders WHERE create_date >= CURRENT_DATE GROUP BY customer_id",
+                rs -> {
+                    risk(rs.getLong(1)).counters.set(DAILY_VOLUME, packVolume(today, units(rs.getBigDecimal(2))));
+                });
+        if (limitsPositions()) {
+            jdbcTemplate.query("SELECT customer_id, asset_name, size FROM assets WHERE asset_name <> '" + TRY_ASSET + "'",
+                    rs -> { position(risk(rs.getLong(1)), rs.getString(2)).addAndGet(units(rs.getBigDecimal(3))); });
+            jdbcTemplate.query("SELECT customer_id, asset_name, SUM(size - filled_size) FROM orders " +
+                            "WHERE order_side = 'BUY' AND status IN " + OPEN_STATUSES + " GROUP BY customer_id, asset_name",
+                    rs -> { position(risk(rs.getLong(1)), rs.getString(2)).addAndGet(units(rs.getBigDecimal(3))); });
+        }
+        log.info("Risk counters loaded for {} customers", customers.size());
+    }
+
+    /**
+     * Takes one open order, the order's notional of the daily volume and, for a BUY, its size of the
+     * position; throws without changing anything when a limit would be exceeded.
+     *
+     * @return the day the volume was counted on
+     */
+    public long checkNewOrder(Long customerId, String assetName, OrderSide side, BigDecimal size, BigDecimal price) {
+        return checkNewOrder(customerId, assetName, side, size, price, today());
+    }
+
+    long checkNewOrder(Long customerId, String assetName, OrderSide side, BigDecimal size, BigDecimal price, long day) {
+        if (!enabled) {
+            return day;
+        }
+        long notional = units(size.multiply(price));
+        return reserve(customerId, assetName, notional, 1, side == OrderSide.BUY ? units(size) : 0, notional, day);
+    }
+
+    /**
+     * Checks an amended order against the notional limit and takes any increase in BUY size and in
+     * notional; a decrease in BUY size is given back once the amendment commits.
+     *
+     * @return the day the volume was counted on
+     */
+    public long checkAmend(Long customerId, String assetName, OrderSide side, BigDecimal oldRemaining, BigDecimal oldPrice,
+                           BigDecimal newSize, BigDecimal newRemaining, BigDecimal newPrice) {
+        long day = today();
+        if (!enabled) {
+            return day;
+        }
+        long notional = units(newSize.multiply(newPrice));
+        long volume = Math.max(0, units(newRemaining.multiply(newPrice)) - units(oldRemaining.multiply(oldPrice)));
+        long position = side == OrderSide.BUY ? units(newRemaining) - units(oldRemaining) : 0;
+        long volumeDay = reserve(customerId, assetName, notional, 0, Math.max(0, position), volume, day);
+        if (position < 0) {
+            afterCommit(customerId, assetName, 0, -position);
+        }
+        return volumeDay;
+    }
+
+    /**
+     * An order left the book (canceled or fully filled); an unfilled BUY size no longer counts
+     * towards the position.
+     */
+    public void orderClosed(Long customerId, String assetName, OrderSide side, BigDecimal unfilled) {
+        if (enabled) {
+            afterCommit(customerId, assetName, 1, side == OrderSide.BUY ? units(unfilled) : 0);
+        }
+    }
+
+    /**
+     * A SELL fill reduces the holding; a BUY fill turns open size into holding and changes nothing.
+     */
+    public void filled(Long customerId, String assetName, OrderSide side, BigDecimal quantity) {
+        if (enabled && side == OrderSide.SELL) {
+            afterCommit(customerId, assetName, 0, units(quantity));
+        }
+    }
+
+    /**
+     * Runs risk calls on behalf of a reactive transaction. They are made with a thread-bound
+     * synchronization scope open, and the rollback and commit releases they register are handed to
+     * the reactive transaction in the subscriber context, so they apply when it completes, including
+     * when it rolls back because the subscription was cancelled. Without a reactive transaction they
+     * apply at once, as if committed.
+     */
+    public Mono<Void> inReactiveTransaction(Runnable riskCalls) {
+        return org.springframework.transaction.reactive.TransactionSynchronizationManager.forCurrentTransaction()
+                .doOnNext(transaction -> runCollectingReleases(riskCalls, transaction))
+                .onErrorResume(NoTransactionException.class, e -> Mono.fromRunnable(() -> runCollectingReleases(riskCalls, null)))
+                .then();
+    }
+
+    private static void runCollectingReleases(Runnable riskCalls,
+                                              org.springframework.transaction.reactive.TransactionSynchronizationManager transaction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // already inside a thread-bound transaction, which takes the releases itself
+            riskCalls.run();
+            return;
+        }
+        List<TransactionSynchronization> releases;
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            riskCalls.run();
+        } finally {
+            releases = TransactionSynchronizationManager.getSynchronizations();
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        if (releases.isEmpty()) {
+            return;
+        }
+        if (transaction != null && transaction.isSynchronizationActive()) {
+            transaction.registerSynchronization(new ReactiveRelease(releases));
+        } else {
+            releases.forEach(release -> release.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        }
+    }
+
+    private long reserve(Long customerId, String assetName, long notional, int openOrders, long position, long volume, long day) {
+        long[] limits = customerLimits.getOrDefault(customerId, defaultLimits);
+        if (notional > limits[MAX_ORDER_NOTIONAL]) {
+            throw rejected(customerId, "order notional", notional, limits[MAX_ORDER_NOTIONAL]);
+        }
+        CustomerRisk risk = risk(customerId);
+        AtomicLongArray counters = risk.counters;
+        if (openOrders > 0 && !tryAdd(counters, OPEN_ORDERS, openOrders, limits[MAX_OPEN_ORDERS])) {
+            throw rejected(customerId, "open orders", (counters.get(OPEN_ORDERS) + openOrders) * 100, limits[MAX_OPEN_ORDERS] * 100);
+        }
+        long heldVolume = limits[MAX_DAILY_VOLUME] != UNLIMITED ? volume : 0;
+        long volumeDay = day;
+        if (heldVolume > 0) {
+            volumeDay = tryAddVolume(counters, day, heldVolume, limits[MAX_DAILY_VOLUME]);
+            if (volumeDay < 0) {
+                counters.addAndGet(OPEN_ORDERS, -openOrders);
+                throw rejected(customerId, "daily volume", volumeOn(counters.get(DAILY_VOLUME), day) + heldVolume,
+                        limits[MAX_DAILY_VOLUME]);
+            }
+        }
+        long heldPosition = limits[MAX_POSITION] != UNLIMITED ? position : 0;
+        if (heldPosition > 0) {
+            AtomicLong held = position(risk, assetName);
+            if (!tryAdd(held, heldPosition, limits[MAX_POSITION])) {
+                counters.addAndGet(OPEN_ORDERS, -openOrders);
+                releaseVolume(counters, volumeDay, heldVolume);
+                throw rejected(customerId, assetName + " position", held.get() + heldPosition, limits[MAX_POSITION]);
+            }
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new Release(false, customerId, assetName, openOrders, heldPosition, heldVolume, volumeDay));
+        }
+        return volumeDay;
+    }
+
+    private void release(Long customerId, String assetName, int openOrders, long position, long volume, long volumeDay) {
+        CustomerRisk risk = risk(customerId);
+        long[] limits = customerLimits.getOrDefault(customerId, defaultLimits);
+        risk.counters.addAndGet(OPEN_ORDERS, -openOrders);
+        // volume and positions are only kept for customers with the matching limit
+        if (volume > 0 && limits[MAX_DAILY_VOLUME] != UNLIMITED) {
+            releaseVolume(risk.counters, volumeDay, volume);
+        }
+        if (position > 0 && limits[MAX_POSITION] != UNLIMITED) {
+            position(risk, assetName).addAndGet(-position);
+        }
+    }
+
+    private void afterCommit(Long customerId, String assetName, int openOrders, long position) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new Release(true, customerId, assetName, openOrders, position, 0, 0));
+        } else {
+            release(customerId, assetName, openOrders, position, 0, 0);
+        }
+    }
+
+    /**
+     * Adds to the daily volume, starting from zero when the counter still holds an earlier day. A check
+     * that computed its day just before midnight adds to the newer day the counter already moved to.
+     *
+     * @return the day the volume was added to, or -1 if it would exceed the limit
+     */
+    private static long tryAddVolume(AtomicLongArray counters, long day, long delta, long limit) {
+        while (true) {
+            long state = counters.get(DAILY_VOLUME);
+            long stateDay = state >>> VOLUME_BITS;
+            long volumeDay = Math.max(stateDay, day);
+            long current = stateDay == volumeDay ? state & VOLUME_MASK : 0;
+            if (current + delta > limit) {
+                return -1;
+            }
+            if (counters.compareAndSet(DAILY_VOLUME, state, packVolume(volumeDay, current + delta))) {
+                return volumeDay;
+            }
+        }
+    }
+
+    // volume counted on a day the counter has since rolled over from is not in the counter any more
+    private static void releaseVolume(AtomicLongArray counters, long volumeDay, long delta) {
+        while (delta > 0) {
+            long state = counters.get(DAILY_VOLUME);
+            if (state >>> VOLUME_BITS != volumeDay) {
+                return;
+            }
+            if (counters.compareAndSet(DAILY_VOLUME, state, packVolume(volumeDay, (state & VOLUME_MASK) - delta))) {
+                return;
+            }
+        }
+    }
+
+    private static long volumeOn(long state, long day) {
+        return state >>> VOLUME_BITS >= day ? state & VOLUME_MASK : 0;
+    }
+
+    private static long packVolume(long day, long volume) {
+        return day << VOLUME_BITS | volume;
+    }
+
+    private static boolean tryAdd(AtomicLongArray counters, int slot, long delta, long limit) {
+        while (true) {
+            long current = counters.get(slot);
+            if (current + delta > limit) {
+                return false;
+            }
+            if (counters.compareAndSet(slot, current, current + delta)) {
+                return true;
+            }
+        }
+    }
+
+    private static boolean tryAdd(AtomicLong counter, long delta, long limit) {
+        while (true) {
+            long current = counter.get();
+            if (current + delta > limit) {
+                return false;
+            }
+            if (counter.compareAndSet(current, current + delta)) {
+                return true;
+            }
+        }
+    }
+
+    private CustomerRisk risk(Long customerId) {
+        CustomerRisk risk = customers.get(customerId);
+        return risk != null ? risk : customers.computeIfAbsent(customerId, id -> new CustomerRisk());
+    }
+
+    private static AtomicLong position(CustomerRisk risk, String assetName) {
+        AtomicLong held = risk.positions.get(assetName);
+        return held != null ? held : risk.positions.computeIfAbsent(assetName, name -> new AtomicLong());
+    }
+
+    private boolean limitsPositions() {
+        return defaultLimits[MAX_POSITION] != UNLIMITED
+                || customerLimits.values().stream().anyMatch(limits -> limits[MAX_POSITION] != UNLIMITED);
+    }
+
+    private static RiskLimitExceededException rejected(Long customerId, String limit, long value, long max) {
+        log.warn("Risk limit {} exceeded for customer: {}", limit, customerId);
+        return new RiskLimitExceededException("Risk limit exceeded: " + limit + " " + BigDecimal.valueOf(value, 2).stripTrailingZeros().toPlainString()
+                + " above " + BigDecimal.valueOf(max, 2).stripTrailingZeros().toPlainString());
+    }
+
+    private static long[] limits(RiskProperties.Limits limits, long[] fallback) {
+        return new long[]{
+                limits.getMaxOrderNotional() != null ? units(limits.getMaxOrderNotional()) : fallback[MAX_ORDER_NOTIONAL],
+                limits.getMaxOpenOrders() != null ? limits.getMaxOpenOrders() : fallback[MAX_OPEN_ORDERS],
+                limits.getMaxPosition() != null ? units(limits.getMaxPosition()) : fallback[MAX_POSITION],
+                // capped to what fits below the day in the packed volume counter
+                limits.getMaxDailyVolume() != null ? Math.min(units(limits.getMaxDailyVolume()), VOLUME_MASK) : fallback[MAX_DAILY_VOLUME]};
+    }
+
+    // amounts are tracked in hundredths; anything finer rounds up so a limit is never undercounted
+    private static long units(BigDecimal amount) {
+        return amount.movePointRight(2).setScale(0, RoundingMode.UP).longValueExact();
+    }
+
+    private static long today() {
+        long now = System.currentTimeMillis();
+        return TimeUnit.MILLISECONDS.toDays(now + TimeZone.getDefault().getOffset(now));
+    }
+
+    private static final class CustomerRisk {
+        private final AtomicLongArray counters = new AtomicLongArray(2);
+        private final ConcurrentHashMap<String, AtomicLong> positions = new ConcurrentHashMap<>(4);
+    }
+
+    /**
+     * Completes the releases collected by {@link #inReactiveTransaction}; the status values are the
+     * same in both synchronization interfaces.
+     */
+    private record ReactiveRelease(List<TransactionSynchronization> releases)
+            implements org.springframework.transaction.reactive.TransactionSynchronization {
+
+        @Override
+        public Mono<Void> afterCompletion(int status) {
+            return Mono.fromRunnable(() -> releases.forEach(release -> release.afterCompletion(status)));
+        }
+    }
+
+    /**
+     * Gives counters back when a transaction completes: on rollback for what a check took, on commit
+     * for what a cancel, fill or amendment freed.
+     */
+    private final class Release implements TransactionSynchronization {
+        private final boolean onCommit;
+        private final Long customerId;
+        private final String assetName;
+        private final int openOrders;
+        private final long position;
+        private final long volume;
+        private final long volumeDay;
+
+        private Release(boolean onCommit, Long customerId, String assetName, int openOrders, long position,
+                        long volume, long volumeDay) {
+            this.onCommit = onCommit;
+            this.customerId = customerId;
+            this.assetName = assetName;
+            this.openOrders = openOrders;
+            this.position = position;
+            this.volume = volume;
+            this.volumeDay = volumeDay;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if ((status == STATUS_COMMITTED) == onCommit) {
+                release(customerId, assetName, openOrders, position, volume, volumeDay);
+            }
+        }
+    }
+}
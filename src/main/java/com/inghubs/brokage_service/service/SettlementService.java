@@ -0,0 +1,228 @@
+package com.inghubs.brokage_service.service;
+
+import com.inghubs.brokage_service.config.SettlementProperties;
+import com.inghubs.brokage_service.model.entity.SettlementCheckpoint;
+import com.inghubs.brokage_service.model.entity.SettlementRun;
+import com.inghubs.brokage_service.model.enums.SettlementStatus;
+import com.inghubs.brokage_service.repository.SettlementCheckpointRepository;
+import com.inghubs.brokage_service.repository.SettlementRunRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Settles the fills recorded in DEFERRED mode. A run takes every unsettled fill up to the highest fill
+ * id at its start, splits the customer id range into partitions and walks each partition in chunks of
+ * customer ids, in parallel. A chunk is one transaction: it claims its fills, nets them per
+ * (customer, asset) and applies one MERGE row per pair, then advances the partition's checkpoint. A run
+ * interrupted by a crash or shutdown stays RUNNING and continues after the last committed chunk.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SettlementService {
+
+    private static final String START_RUN_BOUNDS =
+            "SELECT MAX(f.id) AS max_fill_id, MIN(o.customer_id) AS min_customer, MAX(o.customer_id) AS max_customer " +
+            "FROM order_fills f JOIN orders o ON o.id = f.order_id WHERE f.settled = FALSE";
+
+    private static final String CLAIM_FILLS =
+            "UPDATE order_fills SET settled = TRUE, settlement_run_id = ? " +
+            "WHERE settled = FALSE AND id <= ? " +
+            "AND order_id IN (SELECT id FROM orders WHERE customer_id > ? AND customer_id <= ?)";
+
+    private static final String CLAIMED_FILLS =
+            "FROM order_fills f JOIN orders o ON o.id = f.order_id " +
+            "WHERE f.settlement_run_id = ? AND o.customer_id > ? AND o.customer_id <= ?";
+
+    // each fill moves its own asset and the TRY leg; a BUY gets back what it reserved above the fill price
+    private static final String NET_INTO_ASSETS =
+            "MERGE INTO assets a USING (" +
+            "  SELECT customer_id, asset_name, SUM(size_delta) AS size_delta, SUM(usable_delta) AS usable_delta FROM (" +
+            "    SELECT o.customer_id, o.asset_name," +
+            "      CASE WHEN o.order_side = 'BUY' THEN f.size ELSE -f.size END AS size_delta," +
+            "      CASE WHEN o.order_side = 'BUY' THEN f.size ELSE 0 END AS usable_delta " +
+            "    " + CLAIMED_FILLS +
+            "    UNION ALL " +
+            "    SELECT o.customer_id, 'TRY'," +
+            "      CASE WHEN o.order_side = 'BUY' THEN -f.size * f.price ELSE f.size * f.price END," +
+            "      CASE WHEN o.order_side = 'BUY' THEN f.size * (COALESCE(f.limit_price, o.price) - f.price) ELSE f.size * f.price END " +
+            "    " + CLAIMED_FILLS +
+            "  ) legs GROUP BY customer_id, asset_name" +
+            ") s ON (a.customer_id = s.customer_id AND a.asset_name = s.asset_name) " +
+            "WHEN MATCHED THEN UPDATE SET size = a.size + s.size_delta, usable_size = a.usable_size + s.usable_delta " +
+            "WHEN NOT MATCHED THEN INSERT (customer_id, asset_name, size, usable_size) " +
+            "VALUES (s.customer_id, s.asset_name, s.size_delta, s.usable_delta)";
+
+    private static final String CHUNK_CUSTOMERS = "SELECT DISTINCT o.customer_id " + CLAIMED_FILLS;
+
+    private static final String ADVANCE_CHECKPOINT =
+            "UPDATE settlement_checkpoints SET last_customer_id = ? WHERE id = ?";
+
+    private final SettlementProperties settlementProperties;
+    private final SettlementRunRepository settlementRunRepository;
+    private final SettlementCheckpointRepository settlementCheckpointRepository;
+    private final CustomerVersionTracker customerVersionTracker;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicBoolean inProgress = new AtomicBoolean();
+
+    @Scheduled(cron = "${settlement.cron:0 0 23 * * *}")
+    public void scheduledSettlement() {
+        if (settlementProperties.isDeferred()) {
+            settle();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedRun() {
+        if (settlementRunRepository.findFirstByStatusOrderByIdAsc(SettlementStatus.RUNNING).isPresent()) {
+            log.info("Resuming interrupted settlement run");
+            settle();
+        }
+    }
+
+    /**
+     * Continues the RUNNING run if there is one, otherwise starts a new one. Empty when another run is
+     * already in progress in this instance or there is nothing to settle.
+     */
+    public Optional<SettlementRun> settle() {
+        if (!inProgress.compareAndSet(false, true)) {
+            log.info("Settlement run already in progress, skipping");
+            return Optional.empty();
+        }
+        try {
+            Optional<SettlementRun> run = settlementRunRepository.findFirstByStatusOrderByIdAsc(SettlementStatus.RUNNING)
+                    .or(this::startRun);
+            run.ifPresent(this::execute);
+            return run;
+        } finally {
+            inProgress.set(false);
+        }
+    }
+
+    public Optional<SettlementRun> lastRun() {
+        return settlementRunRepository.findFirstByOrderByIdDesc();
+    }
+
+    public long unsettledFills() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_fills WHERE settled = FALSE", Long.class);
+        return count != null ? count : 0;
+    }
+
+    public boolean isInProgress() {
+        return inProgress.get();
+    }
+
+    private Optional<SettlementRun> startRun() {
+        return Optional.ofNullable(transactionTemplate.execute(status -> {
+            Map<String, Object> bounds = jdbcTemplate.queryForMap(START_RUN_BOUNDS);
+            if (bounds.get("max_fill_id") == null) {
+                return null;
+            }
+            long minCustomer = ((Number) bounds.get("min_customer")).longValue();
+            long maxCustomer = ((Number) bounds.get("max_customer")).longValue();
+            SettlementRun run = settlementRunRepository.save(SettlementRun.builder()
+                    .maxFillId(((Number) bounds.get("max_fill_id")).longValue())
+                    .status(SettlementStatus.RUNNING)
+                    .startDate(LocalDateTime.now())
+                    .build());
+
+            long span = maxCustomer - minCustomer + 1;
+            int partitions = (int) Math.max(1, Math.min(settlementProperties.getPartitions(), span));
+            long perPartition = (span + partitions - 1) / partitions;
+            List<SettlementCheckpoint> checkpoints = new ArrayList<>(partitions);
+            for (int i = 0; i < partitions; i++) {
+                long after = minCustomer - 1 + i * perPartition;
+                checkpoints.add(SettlementCheckpoint.builder()
+                        .runId(run.getId())
+                        .partitionIndex(i)
+                        .lastCustomerId(after)
+                        .rangeEnd(Math.min(maxCustomer, after + perPartition))
+                        .build());
+            }
+            settlementCheckpointRepository.saveAll(checkpoints);
+            log.info("Settlement run {} started: fills up to id {}, customers {}..{} in {} partitions",
+                    run.getId(), run.getMaxFillId(), minCustomer, maxCustomer, partitions);
+            return run;
+        }));
+    }
+
+    private void execute(SettlementRun run) {
+        List<SettlementCheckpoint> pending = settlementCheckpointRepository.findByRunIdOrderByPartitionIndexAsc(run.getId())
+                .stream()
+                .filter(checkpoint -> checkpoint.getLastCustomerId() < checkpoint.getRangeEnd())
+                .toList();
+        long startNanos = System.nanoTime();
+        AtomicLong claimed = new AtomicLong();
+
+        if (!pending.isEmpty()) {
+            try (ExecutorService executor = Executors.newFixedThreadPool(pending.size())) {
+                List<Future<?>> partitions = new ArrayList<>(pending.size());
+                for (SettlementCheckpoint checkpoint : pending) {
+                    partitions.add(executor.submit(() -> settlePartition(run, checkpoint, claimed)));
+                }
+                for (Future<?> partition : partitions) {
+                    partition.get();
+                }
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Settlement run " + run.getId() + " failed", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Settlement run " + run.getId() + " was interrupted", e);
+            }
+        }
+
+        run.setSettledFills(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM order_fills WHERE settlement_run_id = ?", Long.class, run.getId()));
+        run.setStatus(SettlementStatus.COMPLETED);
+        run.setEndDate(LocalDateTime.now());
+        settlementRunRepository.save(run);
+        log.info("Settlement run {} completed: {} fills ({} in this pass) in {} ms", run.getId(),
+                run.getSettledFills(), claimed.get(), (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    private void settlePartition(SettlementRun run, SettlementCheckpoint checkpoint, AtomicLong claimed) {
+        int chunkSize = Math.max(1, settlementProperties.getChunkSize());
+        long after = checkpoint.getLastCustomerId();
+        while (after < checkpoint.getRangeEnd()) {
+            long from = after;
+            long to = Math.min(checkpoint.getRangeEnd(), from + chunkSize);
+            Integer fills = transactionTemplate.execute(status -> settleChunk(run, checkpoint.getId(), from, to));
+            claimed.addAndGet(fills != null ? fills : 0);
+            after = to;
+            log.debug("Settlement run {} partition {}: customers up to {} of {} settled",
+                    run.getId(), checkpoint.getPartitionIndex(), to, checkpoint.getRangeEnd());
+        }
+    }
+
+    private int settleChunk(SettlementRun run, Long checkpointId, long fromExclusive, long toInclusive) {
+        int fills = jdbcTemplate.update(CLAIM_FILLS, run.getId(), run.getMaxFillId(), fromExclusive, toInclusive);
+        if (fills > 0) {
+            jdbcTemplate.update(NET_INTO_ASSETS,
+                    run.getId(), fromExclusive, toInclusive,
+                    run.getId(), fromExclusive, toInclusive);
+            jdbcTemplate.queryForList(CHUNK_CUSTOMERS, Long.class, run.getId(), fromExclusive, toInclusive)
+                    .forEach(customerVersionTracker::markChanged);
+        }
+        jdbcTemplate.update(ADVANCE_CHECKPOINT, toInclusive, checkpointId);
+        return fills;
+    }
+}
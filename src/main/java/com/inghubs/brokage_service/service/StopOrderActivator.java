@@ -0,0 +1,58 @@
+package com.inghubs.brokage_service.service;
+
+import com.inghubs.brokage_service.exception.BadRequestException;
+import com.inghubs.brokage_service.exception.NotFoundException;
+import com.inghubs.brokage_service.model.entity.StopOrder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Activates the stop orders crossed by a fill once the fill has committed, so an activation never
+ * reacts to a price that was rolled back. A new stop is indexed only after its own transaction
+ * commits, and a fill committed in between would have missed it, so the last trade is checked again
+ * once the stop is in the index.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StopOrderActivator {
+
+    private final StopTriggerBook stopTriggerBook;
+    private final StopOrderService stopOrderService;
+    private final LastTradePrices lastTradePrices;
+
+    // the reactive match path publishes after its R2DBC transaction has committed, outside any Spring transaction
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderFilled(OrderFilledEvent event) {
+        activateCrossed(event.assetName(), event.price());
+    }
+
+    @TransactionalEventListener
+    public void onStopOrderPlaced(StopOrderPlacedEvent event) {
+        StopOrder stopOrder = event.stopOrder();
+        stopTriggerBook.add(stopOrder);
+        lastTradePrices.lastPrice(stopOrder.getAssetName())
+                .filter(lastPrice -> StopOrderService.crossed(stopOrder.getOrderSide(), stopOrder.getStopPrice(), lastPrice))
+                .ifPresent(lastPrice -> activateCrossed(stopOrder.getAssetName(), lastPrice));
+    }
+
+    private void activateCrossed(String assetName, BigDecimal price) {
+        List<Long> crossed = stopTriggerBook.popCrossed(assetName, price);
+        for (Long stopOrderId : crossed) {
+            try {
+                stopOrderService.activate(stopOrderId);
+            } catch (BadRequestException | NotFoundException e) {
+                stopOrderService.reject(stopOrderId, e.getMessage());
+            } catch (RuntimeException e) {
+                // still WAITING in the database: put it back so the next crossing trade retries it
+                log.error("Activating stop order ID: {} failed", stopOrderId, e);
+                stopOrderService.requeue(stopOrderId);
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.inghubs.brokage_service.service;
+
+import com.inghubs.brokage_service.model.entity.StopOrder;
+
+/**
+ * Published inside the transaction that saves a WAITING stop order; the stop is indexed once that
+ * transaction commits.
+ */
+public record StopOrderPlacedEvent(StopOrder stopOrder) {
+}
@@ -0,0 +1,178 @@
+package com.inghubs.brokage_service.service;
+
+import com.inghubs.brokage_service.dto.request.CreateOrderRequest;
+import com.inghubs.brokage_service.dto.response.OrderResponse;
+import com.inghubs.brokage_service.dto.response.StopOrderResponse;
+import com.inghubs.brokage_service.exception.BadRequestException;
+import com.inghubs.brokage_service.exception.ForbiddenException;
+import com.inghubs.brokage_service.exception.NotFoundException;
+import com.inghubs.brokage_service.mapper.StopOrderMapper;
+import com.inghubs.brokage_service.model.entity.Customer;
+import com.inghubs.brokage_service.model.entity.StopOrder;
+import com.inghubs.brokage_service.model.enums.OrderSide;
+import com.inghubs.brokage_service.model.enums.OrderType;
+import com.inghubs.brokage_service.model.enums.StopOrderStatus;
+import com.inghubs.brokage_service.repository.CustomerRepository;
+import com.inghubs.brokage_service.repository.StopOrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * STOP and STOP_LIMIT orders. They reserve nothing while WAITING; once a trade crosses the stop price
+ * they are submitted through {@link OrderService#createOrder} as a MARKET or LIMIT order, which is
+ * where the reservation happens and where a lack of funds rejects them.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StopOrderService {
+    
+    private static final int REJECT_REASON_LENGTH = 255;
+    
+    private final StopOrderRepository stopOrderRepository;
+    private final CustomerRepository customerRepository;
+    private final LastTradePrices lastTradePrices;
+    private final OrderService orderService;
+    private final StopTriggerBook stopTriggerBook;
+    private final StopOrderMapper stopOrderMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Transactional
+    public StopOrderResponse createStopOrder(CreateOrderRequest request, Long authenticatedCustomerId, boolean isAdmin) {
+        if (!isAdmin && authenticatedCustomerId != null && !request.getCustomerId().equals(authenticatedCustomerId)) {
+            throw new ForbiddenException("You can only create orders for yourself");
+        }
+        OrderType orderType = request.getOrderType();
+        if (orderType != OrderType.STOP && orderType != OrderType.STOP_LIMIT) {
+            throw new BadRequestException("Order type must be STOP or STOP_LIMIT");
+        }
+        if (request.getStopPrice() == null) {
+            throw new BadRequestException("Stop price is required for " + orderType + " orders");
+        }
+        if (orderType == OrderType.STOP_LIMIT && request.getPrice() == null) {
+            throw new BadRequestException("Price is required for STOP_LIMIT orders");
+        }
+        Customer customer = customerRepository.findById(request.getCustomerId())
+                .orElseThrow(() -> new NotFoundException("Customer not found with id: " + request.getCustomerId()));
+        
+        BigDecimal lastPrice = lastTradePrices.lastPrice(request.getAssetName()).orElse(null);
+        if (lastPrice != null && crossed(request.getOrderSide(), request.getStopPrice(), lastPrice)) {
+            throw new BadRequestException("Stop price " + request.getStopPrice() + " is already crossed by the last trade at " + lastPrice);
+        }
+        
+        StopOrder stopOrder = stopOrderRepository.save(StopOrder.builder()
+                .customer(customer)
+                .assetName(request.getAssetName())
+                .orderSide(request.getOrderSide())
+                .orderType(orderType)
+                .size(request.getSize())
+                .stopPrice(request.getStopPrice())
+                .limitPrice(request.getPrice())
+                .status(StopOrderStatus.WAITING)
+                .createDate(LocalDateTime.now())
+                .build());
+        // indexed after commit, where the last trade is read again in case a fill crossed the stop meanwhile
+        eventPublisher.publishEvent(new StopOrderPlacedEvent(stopOrder));
+        log.info("Stop order created with ID: {} for customer: {}, stop price {}",
+                stopOrder.getId(), customer.getId(), stopOrder.getStopPrice());
+        return stopOrderMapper.toResponse(stopOrder);
+    }
+    
+    @Transactional(readOnly = true)
+    public List<StopOrderResponse> listStopOrders(Long customerId, Long authenticatedCustomerId, boolean isAdmin) {
+        CustomerAccess.checkOrders(customerId, authenticatedCustomerId, isAdmin);
+        return stopOrderMapper.toResponseList(stopOrderRepository.findByCustomerIdOrderByCreateDateDesc(customerId));
+    }
+    
+    @Transactional
+    public void cancelStopOrder(Long stopOrderId, Long authenticatedCustomerId, boolean isAdmin) {
+        StopOrder stopOrder = stopOrderRepository.findWithLockById(stopOrderId)
+                .orElseThrow(() -> new NotFoundException("Stop order not found with id: " + stopOrderId));
+        if (!isAdmin && authenticatedCustomerId != null && !stopOrder.getCustomer().getId().equals(authenticatedCustomerId)) {
+            throw new ForbiddenException("You can only delete your own orders");
+        }
+        if (stopOrder.getStatus() != StopOrderStatus.WAITING) {
+            throw new BadRequestException("Only WAITING stop orders can be canceled");
+        }
+        stopOrder.setStatus(StopOrderStatus.CANCELED);
+        stopOrderRepository.save(stopOrder);
+        afterCommit(() -> stopTriggerBook.remove(stopOrder));
+        log.info("Stop order ID: {} canceled successfully", stopOrderId);
+    }
+    
+    /**
+     * Submits a crossed stop order. Runs in its own transaction because it is called after the
+     * matching transaction has committed; a rejected submission rolls back and is recorded by
+     * {@link #reject}.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void activate(Long stopOrderId) {
+        StopOrder stopOrder = stopOrderRepository.findWithLockById(stopOrderId).orElse(null);
+        if (stopOrder == null || stopOrder.getStatus() != StopOrderStatus.WAITING) {
+            return;
+        }
+        CreateOrderRequest request = new CreateOrderRequest();
+        request.setCustomerId(stopOrder.getCustomer().getId());
+        request.setAssetName(stopOrder.getAssetName());
+        request.setOrderSide(stopOrder.getOrderSide());
+        request.setOrderType(stopOrder.getOrderType() == OrderType.STOP ? OrderType.MARKET : OrderType.LIMIT);
+        request.setSize(stopOrder.getSize());
+        request.setPrice(stopOrder.getLimitPrice());
+        OrderResponse order = orderService.createOrder(request, null, true);
+        
+        stopOrder.setStatus(StopOrderStatus.TRIGGERED);
+        stopOrder.setOrderId(order.getId());
+        stopOrder.setTriggerDate(LocalDateTime.now());
+        stopOrderRepository.save(stopOrder);
+        log.info("Stop order ID: {} triggered, created order ID: {}", stopOrderId, order.getId());
+    }
+    
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void reject(Long stopOrderId, String reason) {
+        stopOrderRepository.findWithLockById(stopOrderId)
+                .filter(stopOrder -> stopOrder.getStatus() == StopOrderStatus.WAITING)
+                .ifPresent(stopOrder -> {
+                    stopOrder.setStatus(StopOrderStatus.REJECTED);
+                    stopOrder.setRejectReason(reason == null || reason.length() <= REJECT_REASON_LENGTH
+                            ? reason : reason.substring(0, REJECT_REASON_LENGTH));
+                    stopOrder.setTriggerDate(LocalDateTime.now());
+                    stopOrderRepository.save(stopOrder);
+                    log.info("Stop order ID: {} rejected on activation: {}", stopOrderId, reason);
+                });
+    }
+    
+    @Transactional(readOnly = true)
+    public void requeue(Long stopOrderId) {
+        stopOrderRepository.findById(stopOrderId)
+                .filter(stopOrder -> stopOrder.getStatus() == StopOrderStatus.WAITING)
+                .ifPresent(stopTriggerBook::add);
+    }
+    
+    // BUY stops trigger when the price rises to the stop, SELL stops when it falls to it
+    static boolean crossed(OrderSide side, BigDecimal stopPrice, BigDecimal price) {
+        return side == OrderSide.BUY ? price.compareTo(stopPrice) >= 0 : price.compareTo(stopPrice) <= 0;
+    }
+    
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
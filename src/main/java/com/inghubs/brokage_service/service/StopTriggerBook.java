@@ -0,0 +1,130 @@
+package com.inghubs.brokage_service.service;
+
+import com.inghubs.brokage_service.model.entity.StopOrder;
+import com.inghubs.brokage_service.model.enums.OrderSide;
+import com.inghubs.brokage_service.model.enums.StopOrderStatus;
+import com.inghubs.brokage_service.repository.StopOrderRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory index of WAITING stop orders: per asset, one map of BUY stops and one of SELL stops keyed
+ * by stop price. A trade at price p crosses every BUY stop at or below p and every SELL stop at or above
+ * p, so both are removed as a single head/tail range instead of by scanning the waiting stops. The
+ * index holds ids only; the stop_orders row stays the source of truth and is rechecked on activation.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StopTriggerBook {
+
+    private final StopOrderRepository stopOrderRepository;
+    private final ConcurrentHashMap<String, AssetTriggers> triggers = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void initialize() {
+        List<StopOrder> waiting = stopOrderRepository.findByStatus(StopOrderStatus.WAITING);
+        waiting.forEach(this::add);
+        log.info("Loaded {} waiting stop orders", waiting.size());
+    }
+
+    public void add(StopOrder stopOrder) {
+        triggers.computeIfAbsent(stopOrder.getAssetName(), assetName -> new AssetTriggers())
+                .add(stopOrder.getOrderSide(), stopOrder.getStopPrice(), stopOrder.getId());
+    }
+
+    public void remove(StopOrder stopOrder) {
+        AssetTriggers assetTriggers = triggers.get(stopOrder.getAssetName());
+        if (assetTriggers != null) {
+            assetTriggers.remove(stopOrder.getOrderSide(), stopOrder.getStopPrice(), stopOrder.getId());
+        }
+    }
+
+    /**
+     * Removes and returns the stop orders crossed by a trade of {@code assetName} at {@code price}.
+     */
+    public List<Long> popCrossed(String assetName, BigDecimal price) {
+        AssetTriggers assetTriggers = triggers.get(assetName);
+        return assetTriggers == null ? List.of() : assetTriggers.popCrossed(price);
+    }
+
+    public int size() {
+        return triggers.values().stream().mapToInt(AssetTriggers::size).sum();
+    }
+
+    private static final class AssetTriggers {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final TreeMap<BigDecimal, List<Long>> buyStops = new TreeMap<>();
+        private final TreeMap<BigDecimal, List<Long>> sellStops = new TreeMap<>();
+
+        void add(OrderSide side, BigDecimal stopPrice, Long id) {
+            lock.lock();
+            try {
+                stops(side).computeIfAbsent(stopPrice, price -> new ArrayList<>(1)).add(id);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void remove(OrderSide side, BigDecimal stopPrice, Long id) {
+            lock.lock();
+            try {
+                TreeMap<BigDecimal, List<Long>> stops = stops(side);
+                List<Long> ids = stops.get(stopPrice);
+                if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                    stops.remove(stopPrice);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        List<Long> popCrossed(BigDecimal price) {
+            lock.lock();
+            try {
+                if (buyStops.isEmpty() && sellStops.isEmpty()) {
+                    return List.of();
+                }
+                List<Long> crossed = new ArrayList<>();
+                drain(buyStops.headMap(price, true), crossed);
+                drain(sellStops.tailMap(price, true), crossed);
+                return crossed;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return buyStops.values().stream().mapToInt(List::size).sum()
+                        + sellStops.values().stream().mapToInt(List::size).sum();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private TreeMap<BigDecimal, List<Long>> stops(OrderSide side) {
+            return side == OrderSide.BUY ? buyStops : sellStops;
+        }
+
+        // clearing the view removes the whole range from the backing map
+        private static void drain(NavigableMap<BigDecimal, List<Long>> range, List<Long> crossed) {
+            if (!range.isEmpty()) {
+                range.values().forEach(crossed::addAll);
+                range.clear();
+            }
+        }
+    }
+}
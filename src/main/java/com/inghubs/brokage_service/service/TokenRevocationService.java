@@ -0,0 +1,104 @@
+package com.inghubs.brokage_service.service;
+
+import com.inghubs.brokage_service.config.JwtUtil;
+import com.inghubs.brokage_service.exception.BadRequestException;
+import com.inghubs.brokage_service.model.entity.RevokedToken;
+import com.inghubs.brokage_service.repository.RevokedTokenRepository;
+import com.inghubs.brokage_service.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Revocation list for issued JWTs. The store is the source of truth; a Bloom filter in front of it
+ * answers the common "not revoked" case without touching the database. The filter is rebuilt from
+ * the store on a fixed delay, which also bounds how long a revocation made on another instance
+ * takes to become visible here.
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final JwtUtil jwtUtil;
+    private final long expectedTokens;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+    // filter under construction; revocations are written to it as well so a rebuild never loses one
+    private volatile BloomFilter pendingFilter;
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  JwtUtil jwtUtil,
+                                  @Value("${jwt.revocation.expected-tokens:100000}") long expectedTokens,
+                                  @Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.jwtUtil = jwtUtil;
+        this.expectedTokens = expectedTokens;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedTokens, falsePositiveRate);
+    }
+
+    @PostConstruct
+    void initialize() {
+        rebuildFilter();
+    }
+
+    public void revoke(String token) {
+        String tokenId = jwtUtil.extractTokenId(token);
+        if (tokenId == null) {
+            throw new BadRequestException("Token does not carry an id and cannot be revoked");
+        }
+
+        RevokedToken revokedToken = RevokedToken.builder()
+                .tokenId(tokenId)
+                .username(jwtUtil.extractUsername(token))
+                .expiresAt(LocalDateTime.ofInstant(jwtUtil.extractExpiration(token).toInstant(), ZoneId.systemDefault()))
+                .revokedAt(LocalDateTime.now())
+                .build();
+        revokedTokenRepository.save(revokedToken);
+
+        // pending must be read before the current filter, see rebuildFilter
+        BloomFilter pending = pendingFilter;
+        if (pending != null) {
+            pending.put(tokenId);
+        }
+        filter.put(tokenId);
+        log.info("Token {} revoked for user: {}", tokenId, revokedToken.getUsername());
+    }
+
+    public boolean isRevoked(String tokenId) {
+        return mightBeRevoked(tokenId) && revokedTokenRepository.existsById(tokenId);
+    }
+    
+    public boolean mightBeRevoked(String tokenId) {
+        return tokenId != null && filter.mightContain(tokenId);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval:60000}",
+               initialDelayString = "${jwt.revocation.rebuild-interval:60000}")
+    public void rebuildFilter() {
+        LocalDateTime now = LocalDateTime.now();
+        int purged = revokedTokenRepository.deleteExpired(now);
+
+        // publish the new filter as pending before reading the store: a revocation committed before
+        // the read is loaded from the store, one committed after it is written to the pending filter
+        BloomFilter rebuilt = new BloomFilter(expectedTokens, falsePositiveRate);
+        pendingFilter = rebuilt;
+        List<String> activeTokenIds = revokedTokenRepository.findActiveTokenIds(now);
+        if (activeTokenIds.size() > expectedTokens) {
+            log.warn("Revoked token count {} exceeds the configured capacity {}, false positive rate will degrade",
+                    activeTokenIds.size(), expectedTokens);
+        }
+        activeTokenIds.forEach(rebuilt::put);
+        filter = rebuilt;
+        pendingFilter = null;
+        log.debug("Revocation filter rebuilt with {} active tokens, {} expired entries purged", activeTokenIds.size(), purged);
+    }
+}
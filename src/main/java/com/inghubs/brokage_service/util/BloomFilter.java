@@ -0,0 +1,81 @@
+package com.inghubs.brokage_service.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free Bloom filter over string keys; probes use double hashing of a single 64-bit hash.
+ */
+public class BloomFilter {
+
+    // probe indexes are 31-bit, so more than 2^31 bits would never be addressed
+    private static final int MAX_WORDS = 1 << 25;
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        double ln2 = Math.log(2);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (ln2 * ln2));
+        int words = (int) Math.min(MAX_WORDS, Math.max(1, (m + 63) >>> 6));
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * ln2));
+    }
+
+    public void put(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = index(h1 + i * h2);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current = bits.get(word);
+            while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+    }
+
+    public boolean mightContain(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = index(h1 + i * h2);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    private long index(int combinedHash) {
+        return (combinedHash & 0x7fffffffL) % bitCount;
+    }
+
+    private static long hash(String key) {
+        // FNV-1a over the UTF-16 code units followed by a murmur3 finalizer for avalanche
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,42 @@
+package com.inghubs.brokage_service.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket in GCRA form: the whole state is the theoretical arrival time of the next request,
+ * so acquiring is a single CAS on one long with no refill bookkeeping.
+ */
+public class RateLimitBucket {
+
+    private final AtomicLong theoreticalArrival;
+
+    public RateLimitBucket(long nowNanos) {
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * @param emissionIntervalNanos time one token takes to refill (1 / rate)
+     * @param burstToleranceNanos   emission interval times the bucket capacity
+     * @return 0 if the request is admitted, otherwise the nanoseconds until it would be
+     */
+    public long tryAcquire(long nowNanos, long emissionIntervalNanos, long burstToleranceNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, nowNanos) + emissionIntervalNanos;
+            long waitNanos = next - nowNanos - burstToleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * @return true if the bucket is full again and equivalent to a fresh one
+     */
+    public boolean isIdle(long nowNanos) {
+        return theoreticalArrival.get() - nowNanos <= 0;
+    }
+}
@@ -32,7 +32,7 @@ public class SecurityUtil {
         return false;
     }
     
-    private String extractToken(HttpServletRequest request) {
+    public String extractToken(HttpServletRequest request) {
         String authHeader = request.getHeader("Authorization");
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             return authHeader.substring(7);
@@ -0,0 +1,98 @@
+package com.inghubs.brokage_service.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Weighted space-saving heavy-hitter sketch over at most {@code capacity} keys. A key that is not
+ * tracked replaces the lightest one and inherits its weight as overestimation error, so any key whose
+ * true weight exceeds total / capacity is guaranteed to be present. Not thread-safe; the replacement
+ * scan is linear, which is fine for the small capacities this is used with.
+ */
+public class SpaceSavingSketch<K> {
+
+    private final int capacity;
+    private final Map<K, Entry<K>> entries;
+    private long totalWeight;
+
+    public SpaceSavingSketch(int capacity) {
+        this.capacity = capacity;
+        this.entries = new HashMap<>(capacity * 2);
+    }
+
+    public void offer(K key, long weight) {
+        totalWeight += weight;
+        Entry<K> entry = entries.get(key);
+        if (entry != null) {
+            entry.weight += weight;
+            entry.hits++;
+            return;
+        }
+        if (entries.size() < capacity) {
+            entries.put(key, new Entry<>(key, weight, 0));
+            return;
+        }
+        Entry<K> lightest = null;
+        for (Entry<K> candidate : entries.values()) {
+            if (lightest == null || candidate.weight < lightest.weight) {
+                lightest = candidate;
+            }
+        }
+        entries.remove(lightest.key);
+        entries.put(key, new Entry<>(key, lightest.weight + weight, lightest.weight));
+    }
+
+    /**
+     * @return tracked keys by descending estimated weight
+     */
+    public List<Entry<K>> top(int limit) {
+        List<Entry<K>> sorted = new ArrayList<>(entries.values().size());
+        for (Entry<K> entry : entries.values()) {
+            sorted.add(entry.copy());
+        }
+        sorted.sort(Comparator.comparingLong((Entry<K> entry) -> entry.weight).reversed());
+        return sorted.subList(0, Math.min(limit, sorted.size()));
+    }
+
+    public long getTotalWeight() {
+        return totalWeight;
+    }
+
+    public static final class Entry<K> {
+        private final K key;
+        private long weight;
+        private final long error;
+        private long hits = 1;
+
+        private Entry(K key, long weight, long error) {
+            this.key = key;
+            this.weight = weight;
+            this.error = error;
+        }
+
+        private Entry<K> copy() {
+            Entry<K> copy = new Entry<>(key, weight, error);
+            copy.hits = hits;
+            return copy;
+        }
+
+        public K getKey() {
+            return key;
+        }
+
+        public long getWeight() {
+            return weight;
+        }
+
+        public long getError() {
+            return error;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.inghubs.brokage_service.gateway;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GatewayCodecTest {
+
+    private static final int MAX_REPLY = 64;
+
+    private final FrameDecoder frameDecoder = new FrameDecoder(new AssetCodeCache());
+
+    @Test
+    void assetCodeCache_DecodesPaddedCodesAndCachesNames() {
+        AssetCodeCache cache = new AssetCodeCache();
+
+        String name = cache.resolve(assetCode("AAPL", (byte) 0));
+
+        assertEquals("AAPL", name);
+        assertEquals("AAPL", cache.resolve(assetCode("AAPL", (byte) ' ')));
+        assertEquals("BRKBCLSA", cache.resolve(assetCode("BRKBCLSA", (byte) 0)));
+        assertSame(name, cache.resolve(assetCode("AAPL", (byte) 0)));
+    }
+
+    @Test
+    void assetCodeCache_MoreCodesThanSlots_StillDecodesEveryCode() {
+        AssetCodeCache cache = new AssetCodeCache();
+
+        for (int i = 0; i < 3000; i++) {
+            String asset = "A" + i;
+            assertEquals(asset, cache.resolve(assetCode(asset, (byte) 0)));
+        }
+        assertEquals("A7", cache.resolve(assetCode("A7", (byte) 0)));
+    }
+
+    @Test
+    void newOrder_RoundTrips() {
+        ByteBuffer in = buffer(newOrderFrame(17L, 3L, GatewayProtocol.SIDE_SELL, "AAPL", 1050, 15075));
+
+        GatewayCommand command = decode(in);
+
+        assertNewOrder(command, 17L, 3L, GatewayProtocol.SIDE_SELL, "AAPL", 1050, 15075);
+        assertFalse(in.hasRemaining());
+    }
+
+    @Test
+    void newOrderDecoder_ReadsAtFrameOffset() {
+        ByteBuffer frame = newOrderFrame(-1L, Long.MAX_VALUE, GatewayProtocol.SIDE_BUY, "TSLA", 1, 2);
+        ByteBuffer buffer = ByteBuffer.allocate(64 + frame.remaining());
+        buffer.position(64);
+        buffer.put(frame);
+
+        NewOrderDecoder decoder = new NewOrderDecoder().wrap(buffer, 64 + GatewayProtocol.HEADER_SIZE);
+
+        assertEquals(-1L, decoder.clientOrderId());
+        assertEquals(Long.MAX_VALUE, decoder.customerId());
+        assertEquals(GatewayProtocol.SIDE_BUY, decoder.side());
+        assertEquals(assetCode("TSLA", (byte) 0), decoder.assetCode());
+        assertEquals(1, decoder.size());
+        assertEquals(2, decoder.price());
+    }
+
+    @Test
+    void cancelOrder_RoundTrips() {
+        ByteBuffer in = buffer(cancelFrame(18L, 42L));
+
+        assertCancel(decode(in), 18L, 42L);
+        assertEquals(42L, new CancelOrderDecoder().wrap(in, GatewayProtocol.HEADER_SIZE).orderId());
+    }
+
+    @Test
+    void logon_RoundTrips() {
+        ByteBuffer in = buffer(logonFrame("header.payload.signature"));
+
+        GatewayCommand command = decode(in);
+
+        assertEquals(GatewayCommand.Kind.LOGON, command.kind);
+        assertEquals("header.payload.signature", command.token);
+    }
+
+    @Test
+    void reusedSlot_TakesTheKindAndFieldsOfTheLatestFrame() {
+        ByteBuffer in = ByteBuffer.allocate(256);
+        in.put(newOrderFrame(1L, 3L, GatewayProtocol.SIDE_BUY, "AAPL", 100, 15000));
+        in.put(cancelFrame(2L, 22L));
+        in.flip();
+        GatewayCommand slot = new GatewayCommand(MAX_REPLY);
+
+        assertTrue(frameDecoder.next(in, slot));
+        assertNewOrder(slot, 1L, 3L, GatewayProtocol.SIDE_BUY, "AAPL", 100, 15000);
+        assertTrue(frameDecoder.next(in, slot));
+        assertCancel(slot, 2L, 22L);
+        assertFalse(frameDecoder.next(in, slot));
+        assertCancel(slot, 2L, 22L);
+    }
+
+    @Test
+    void malformedFrames_AreReportedByType() {
+        ByteBuffer wrongLength = frame(GatewayProtocol.CANCEL_ORDER, new byte[GatewayProtocol.CANCEL_ORDER_LENGTH - 1]);
+        assertMalformed(decode(buffer(wrongLength)), GatewayProtocol.CANCEL_ORDER);
+
+        ByteBuffer logon = frame(GatewayProtocol.LOGON, new byte[]{0, 9, 'x'});
+        assertMalformed(decode(buffer(logon)), GatewayProtocol.LOGON);
+
+        assertMalformed(decode(buffer(frame((byte) 99, new byte[4]))), (byte) 99);
+    }
+
+    @Test
+    void zeroLengthFrame_ConsumesTheRestOfTheBuffer() {
+        ByteBuffer in = ByteBuffer.allocate(64);
+        in.putShort((short) 0);
+        in.put(cancelFrame(1L, 2L));
+        in.flip();
+
+        assertMalformed(decode(in), (byte) 0);
+        assertFalse(in.hasRemaining());
+    }
+
+    @Test
+    void partialFrame_IsDecodedOnceTheLastByteArrives() {
+        ByteBuffer frame = newOrderFrame(5L, 3L, GatewayProtocol.SIDE_BUY, "AAPL", 100, 15000);
+        ByteBuffer in = ByteBuffer.allocate(256);
+
+        while (frame.remaining() > 1) {
+            in.put(frame.get());
+            in.flip();
+            assertNull(decode(in));
+            assertEquals(0, in.position(), "a partial frame must not be consumed");
+            in.compact();
+        }
+        in.put(frame.get());
+        in.flip();
+
+        assertNewOrder(decode(in), 5L, 3L, GatewayProtocol.SIDE_BUY, "AAPL", 100, 15000);
+        assertFalse(in.hasRemaining());
+    }
+
+    @Test
+    void partialFrame_AfterCompleteFrame_IsKeptAcrossCompact() {
+        ByteBuffer second = cancelFrame(2L, 22L);
+        ByteBuffer in = ByteBuffer.allocate(256);
+        in.put(cancelFrame(1L, 11L));
+        in.put(second.slice(0, 5));
+        in.flip();
+
+        assertCancel(decode(in), 1L, 11L);
+        assertNull(decode(in));
+        in.compact();
+        assertEquals(5, in.position());
+
+        in.put(second.slice(5, second.remaining() - 5));
+        in.flip();
+        assertCancel(decode(in), 2L, 22L);
+    }
+
+    @Test
+    void messageEncoder_ExecutionReport_RoundTrips() {
+        ByteBuffer out = ByteBuffer.allocate(64);
+
+        assertTrue(MessageEncoder.executionReport(out, 17L, 42L, GatewayProtocol.EXEC_REJECTED,
+                GatewayProtocol.REJECT_RATE_LIMITED));
+
+        out.flip();
+        assertEquals(GatewayProtocol.HEADER_SIZE + GatewayProtocol.EXECUTION_REPORT_LENGTH, out.remaining());
+        assertEquals(GatewayProtocol.EXECUTION_REPORT_LENGTH + 1, out.getShort());
+        assertEquals(GatewayProtocol.EXECUTION_REPORT, out.get());
+        assertEquals(17L, out.getLong());
+        assertEquals(42L, out.getLong());
+        assertEquals(GatewayProtocol.EXEC_REJECTED, out.get());
+        assertEquals(GatewayProtocol.REJECT_RATE_LIMITED, out.get());
+    }
+
+    @Test
+    void messageEncoder_LogonAck_RoundTrips() {
+        ByteBuffer out = ByteBuffer.allocate(64);
+
+        assertTrue(MessageEncoder.logonAck(out, GatewayProtocol.LOGON_ACCEPTED, 3L));
+
+        out.flip();
+        assertEquals(GatewayProtocol.LOGON_ACK_LENGTH + 1, out.getShort());
+        assertEquals(GatewayProtocol.LOGON_ACK, out.get());
+        assertEquals(GatewayProtocol.LOGON_ACCEPTED, out.get());
+        assertEquals(3L, out.getLong());
+        assertFalse(out.hasRemaining());
+    }
+
+    @Test
+    void messageEncoder_NoRoom_WritesNothing() {
+        ByteBuffer out = ByteBuffer.allocate(GatewayProtocol.HEADER_SIZE + GatewayProtocol.EXECUTION_REPORT_LENGTH - 1);
+
+        assertFalse(MessageEncoder.executionReport(out, 1L, 2L, GatewayProtocol.EXEC_NEW, GatewayProtocol.REJECT_NONE));
+        assertFalse(MessageEncoder.logonAck(ByteBuffer.allocate(4), GatewayProtocol.LOGON_ACCEPTED, 3L));
+        assertEquals(0, out.position());
+    }
+
+    // frame builders, written field by field from the layout in GatewayProtocol
+
+    static ByteBuffer newOrderFrame(long clientOrderId, long customerId, byte side, String asset, long size, long price) {
+        ByteBuffer payload = ByteBuffer.allocate(GatewayProtocol.NEW_ORDER_LENGTH);
+        payload.putLong(clientOrderId);
+        payload.putLong(customerId);
+        payload.put(side);
+        payload.putLong(assetCode(asset, (byte) 0));
+        payload.putLong(size);
+        payload.putLong(price);
+        return frame(GatewayProtocol.NEW_ORDER, payload.array());
+    }
+
+    static ByteBuffer cancelFrame(long clientOrderId, long orderId) {
+        ByteBuffer payload = ByteBuffer.allocate(GatewayProtocol.CANCEL_ORDER_LENGTH);
+        payload.putLong(clientOrderId);
+        payload.putLong(orderId);
+        return frame(GatewayProtocol.CANCEL_ORDER, payload.array());
+    }
+
+    static ByteBuffer logonFrame(String token) {
+        byte[] bytes = token.getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer payload = ByteBuffer.allocate(2 + bytes.length);
+        payload.putShort((short) bytes.length);
+        payload.put(bytes);
+        return frame(GatewayProtocol.LOGON, payload.array());
+    }
+
+    static ByteBuffer frame(byte type, byte[] payload) {
+        ByteBuffer frame = ByteBuffer.allocate(GatewayProtocol.HEADER_SIZE + payload.length);
+        frame.putShort((short) (payload.length + 1));
+        frame.put(type);
+        frame.put(payload);
+        return frame.flip();
+    }
+
+    private GatewayCommand decode(ByteBuffer in) {
+        GatewayCommand command = new GatewayCommand(MAX_REPLY);
+        return frameDecoder.next(in, command) ? command : null;
+    }
+
+    private static void assertNewOrder(GatewayCommand command, long clientOrderId, long customerId, byte side,
+                                       String asset, long size, long price) {
+        assertEquals(GatewayCommand.Kind.NEW_ORDER, command.kind);
+        assertEquals(clientOrderId, command.clientOrderId);
+        assertEquals(customerId, command.customerId);
+        assertEquals(side, command.side);
+        assertEquals(asset, command.assetName);
+        assertEquals(size, command.size);
+        assertEquals(price, command.price);
+    }
+
+    private static void assertCancel(GatewayCommand command, long clientOrderId, long orderId) {
+        assertEquals(GatewayCommand.Kind.CANCEL_ORDER, command.kind);
+        assertEquals(clientOrderId, command.clientOrderId);
+        assertEquals(orderId, command.orderId);
+    }
+
+    private static void assertMalformed(GatewayCommand command, byte type) {
+        assertEquals(GatewayCommand.Kind.MALFORMED, command.kind);
+        assertEquals(type, command.type);
+    }
+
+    private static long assetCode(String asset, byte padding) {
+        byte[] bytes = asset.getBytes(StandardCharsets.US_ASCII);
+        long code = 0;
+        for (int i = 0; i < GatewayProtocol.ASSET_CODE_LENGTH; i++) {
+            code = (code << 8) | ((i < bytes.length ? bytes[i] : padding) & 0xff);
+        }
+        return code;
+    }
+
+    private static ByteBuffer buffer(ByteBuffer frame) {
+        ByteBuffer in = ByteBuffer.allocate(256);
+        in.put(frame.duplicate());
+        return in.flip();
+    }
+}
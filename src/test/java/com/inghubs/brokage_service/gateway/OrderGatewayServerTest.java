@@ -0,0 +1,138 @@
+package com.inghubs.brokage_service.gateway;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@Timeout(value = 10, threadMode = Timeout.ThreadMode.SEPARATE_THREAD)
+class OrderGatewayServerTest {
+
+    private final GatewayMessageHandler messageHandler = mock(GatewayMessageHandler.class);
+    private final Queue<String> handlerThreads = new ConcurrentLinkedQueue<>();
+    private OrderGatewayServer server;
+    private int port;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        try (ServerSocket probe = new ServerSocket(0)) {
+            port = probe.getLocalPort();
+        }
+        server = new OrderGatewayServer(messageHandler, "127.0.0.1", port, 1, 4, 4096);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void commands_RunOnWorkers_AndRepliesKeepRequestOrder() throws Exception {
+        answerCancelsInReverseTime();
+
+        assertCancelsAnsweredInOrder(port, 10);
+
+        List<String> threads = List.copyOf(handlerThreads);
+        assertEquals(11, threads.size());
+        assertTrue(threads.stream().allMatch(name -> name.startsWith("order-gateway-worker-")), threads.toString());
+    }
+
+    @Test
+    void smallCommandRing_WrapsAndRepliesKeepRequestOrder() throws Exception {
+        answerCancelsInReverseTime();
+        int smallPort;
+        try (ServerSocket probe = new ServerSocket(0)) {
+            smallPort = probe.getLocalPort();
+        }
+        // room for three outstanding execution reports, so 40 cancels go round the ring many times
+        OrderGatewayServer small = new OrderGatewayServer(messageHandler, "127.0.0.1", smallPort, 1, 4,
+                3 * (GatewayProtocol.HEADER_SIZE + GatewayProtocol.EXECUTION_REPORT_LENGTH));
+        small.start();
+        try {
+            assertCancelsAnsweredInOrder(smallPort, 40);
+        } finally {
+            small.stop();
+        }
+    }
+
+    private void answerCancelsInReverseTime() throws Exception {
+        when(messageHandler.onMessage(any(), any(), any())).thenAnswer(invocation -> {
+            handlerThreads.add(Thread.currentThread().getName());
+            GatewayCommand command = invocation.getArgument(1);
+            ByteBuffer out = invocation.getArgument(2);
+            if (command.kind == GatewayCommand.Kind.LOGON) {
+                return MessageEncoder.logonAck(out, GatewayProtocol.LOGON_ACCEPTED, 3L);
+            }
+            // later requests finish first unless the session is executed serially
+            Thread.sleep(Math.max(0, 20 - command.clientOrderId));
+            return MessageEncoder.executionReport(out, command.clientOrderId, command.orderId,
+                    GatewayProtocol.EXEC_CANCELED, GatewayProtocol.REJECT_NONE);
+        });
+    }
+
+    private static void assertCancelsAnsweredInOrder(int port, int cancels) throws IOException {
+        try (SocketChannel client = SocketChannel.open(new InetSocketAddress("127.0.0.1", port))) {
+            ByteBuffer request = ByteBuffer.allocate(1024);
+            request.put(GatewayCodecTest.logonFrame("token"));
+            for (long i = 1; i <= cancels; i++) {
+                request.put(GatewayCodecTest.cancelFrame(i, 100 + i));
+            }
+            client.write(request.flip());
+
+            ByteBuffer reply = read(client, GatewayProtocol.HEADER_SIZE + GatewayProtocol.LOGON_ACK_LENGTH
+                    + cancels * (GatewayProtocol.HEADER_SIZE + GatewayProtocol.EXECUTION_REPORT_LENGTH));
+
+            assertEquals(GatewayProtocol.LOGON_ACK, reply.get(2));
+            reply.position(GatewayProtocol.HEADER_SIZE + GatewayProtocol.LOGON_ACK_LENGTH);
+            for (long i = 1; i <= cancels; i++) {
+                reply.position(reply.position() + GatewayProtocol.HEADER_SIZE);
+                assertEquals(i, reply.getLong());
+                assertEquals(100 + i, reply.getLong());
+                assertEquals(GatewayProtocol.EXEC_CANCELED, reply.get());
+                reply.get();
+            }
+        }
+    }
+
+    @Test
+    void closingReply_ClosesConnectionAfterItIsWritten() throws Exception {
+        when(messageHandler.onMessage(any(), any(), any())).thenAnswer(invocation -> {
+            MessageEncoder.logonAck(invocation.getArgument(2), GatewayProtocol.LOGON_REJECTED, 0);
+            return false;
+        });
+
+        try (SocketChannel client = SocketChannel.open(new InetSocketAddress("127.0.0.1", port))) {
+            client.write(GatewayCodecTest.logonFrame("expired"));
+
+            ByteBuffer reply = read(client, GatewayProtocol.HEADER_SIZE + GatewayProtocol.LOGON_ACK_LENGTH);
+
+            assertEquals(GatewayProtocol.LOGON_REJECTED, reply.get(GatewayProtocol.HEADER_SIZE));
+            assertEquals(-1, client.read(ByteBuffer.allocate(1)));
+        }
+    }
+
+    private static ByteBuffer read(SocketChannel client, int length) throws IOException {
+        ByteBuffer reply = ByteBuffer.allocate(length);
+        while (reply.hasRemaining()) {
+            if (client.read(reply) < 0) {
+                fail("connection closed after " + reply.position() + " of " + length + " bytes");
+            }
+        }
+        return reply.flip();
+    }
+}
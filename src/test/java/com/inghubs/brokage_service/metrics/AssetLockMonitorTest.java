@@ -0,0 +1,104 @@
+package com.inghubs.brokage_service.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.PessimisticLockingFailureException;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssetLockMonitorTest {
+
+    private AssetLockMonitor assetLockMonitor;
+
+    @BeforeEach
+    void setUp() {
+        assetLockMonitor = new AssetLockMonitor(new SimpleMeterRegistry(), 4);
+    }
+
+    @Test
+    void report_HotKeyOutweighsManyColdKeys() {
+        for (long customerId = 100; customerId < 200; customerId++) {
+            assetLockMonitor.recordAcquired(customerId, "TRY", TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        for (int i = 0; i < 50; i++) {
+            assetLockMonitor.recordAcquired(2L, "TRY", TimeUnit.MILLISECONDS.toNanos(20));
+        }
+
+        List<?> hotKeys = (List<?>) assetLockMonitor.report(1).get("hotKeys");
+        AssetLockMonitor.HotKeyView top = (AssetLockMonitor.HotKeyView) hotKeys.get(0);
+        assertEquals(2L, top.customerId());
+        assertEquals("TRY", top.assetName());
+        assertEquals(150L, assetLockMonitor.report(1).get("acquisitions"));
+    }
+
+    @Test
+    void recordAcquired_ConcurrentOffers_MergeExactlyAcrossStripes() throws Exception {
+        int threads = 8;
+        int offers = 1000;
+        // room for every key even with a single stripe, so the counts are exact
+        AssetLockMonitor monitor = new AssetLockMonitor(new SimpleMeterRegistry(), threads + 1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long coldCustomer = 100 + t;
+                writers.add(executor.submit(() -> {
+                    for (int i = 0; i < offers; i++) {
+                        monitor.recordAcquired(2L, "TRY", TimeUnit.MILLISECONDS.toNanos(1));
+                        monitor.recordAcquired(coldCustomer, "AAPL", TimeUnit.MICROSECONDS.toNanos(1));
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<?> hotKeys = (List<?>) monitor.report(3).get("hotKeys");
+        assertEquals(3, hotKeys.size());
+        AssetLockMonitor.HotKeyView top = (AssetLockMonitor.HotKeyView) hotKeys.get(0);
+        assertEquals(2L, top.customerId());
+        assertEquals((long) threads * offers, top.acquisitions());
+        assertEquals(threads * offers, top.waitMillis(), 0.001);
+    }
+
+    @Test
+    void rotateWindow_MovesHotKeysToPreviousWindow() {
+        assetLockMonitor.recordAcquired(2L, "AAPL", TimeUnit.MILLISECONDS.toNanos(5));
+
+        assetLockMonitor.rotateWindow();
+
+        Map<String, Object> report = assetLockMonitor.report(10);
+        assertTrue(((List<?>) report.get("hotKeys")).isEmpty());
+        assertEquals(1, ((List<?>) report.get("previousWindowHotKeys")).size());
+    }
+
+    @Test
+    void recordFailure_CountsTimeoutsAndDeadlocksSeparately() {
+        SQLException lockTimeout = new SQLException("Timeout trying to lock table", "HYT00", 50200);
+        SQLException deadlock = new SQLException("Deadlock detected", "40001", 40001);
+
+        assertEquals(AssetLockMonitor.LockFailure.TIMEOUT, assetLockMonitor.recordFailure(2L, "TRY", 1000,
+                new PessimisticLockingFailureException("lock", lockTimeout)));
+        assertEquals(AssetLockMonitor.LockFailure.DEADLOCK, assetLockMonitor.recordFailure(2L, "TRY", 1000,
+                new PessimisticLockingFailureException("lock", deadlock)));
+        assertEquals(AssetLockMonitor.LockFailure.OTHER, assetLockMonitor.recordFailure(2L, "TRY", 1000,
+                new IllegalStateException("boom")));
+
+        Map<String, Object> report = assetLockMonitor.report(10);
+        assertEquals(1L, report.get("timeouts"));
+        assertEquals(1L, report.get("deadlocks"));
+    }
+}
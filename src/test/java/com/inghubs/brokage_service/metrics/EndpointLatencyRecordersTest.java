@@ -0,0 +1,44 @@
+package com.inghubs.brokage_service.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EndpointLatencyRecordersTest {
+
+    @Test
+    void report_WithoutReset_AccumulatesAcrossReads() {
+        EndpointLatencyRecorders recorders = new EndpointLatencyRecorders(0);
+        recorders.record("OrderController.createOrder", TimeUnit.MILLISECONDS.toNanos(2));
+        recorders.report(false);
+        recorders.record("OrderController.createOrder", TimeUnit.MILLISECONDS.toNanos(4));
+
+        Map<?, ?> createOrder = (Map<?, ?>) recorders.report(false).get("OrderController.createOrder");
+        assertEquals(2L, createOrder.get("count"));
+        assertEquals(4.0, (double) createOrder.get("maxMillis"), 0.01);
+    }
+
+    @Test
+    void report_WithReset_StartsNewInterval() {
+        EndpointLatencyRecorders recorders = new EndpointLatencyRecorders(0);
+        recorders.record("AssetController.listAssets", TimeUnit.MILLISECONDS.toNanos(1));
+
+        Map<?, ?> first = (Map<?, ?>) recorders.report(true).get("AssetController.listAssets");
+        Map<?, ?> second = (Map<?, ?>) recorders.report(true).get("AssetController.listAssets");
+        assertEquals(1L, first.get("count"));
+        assertEquals(0L, second.get("count"));
+    }
+
+    @Test
+    void record_ExpectedInterval_BackfillsStalledRequests() {
+        EndpointLatencyRecorders recorders = new EndpointLatencyRecorders(1000);
+        recorders.record("AuthController.login", TimeUnit.MILLISECONDS.toNanos(10));
+
+        Map<?, ?> login = (Map<?, ?>) recorders.report(false).get("AuthController.login");
+        // one 10ms stall at a 1ms request interval hides nine more requests that would have waited
+        assertEquals(10L, login.get("count"));
+    }
+}
@@ -0,0 +1,29 @@
+package com.inghubs.brokage_service.metrics;
+
+import com.inghubs.brokage_service.exception.InsufficientUsableSizeException;
+import com.inghubs.brokage_service.model.enums.OrderSide;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OrderMetrics orderMetrics = new OrderMetrics(meterRegistry);
+
+    @Test
+    void reset_DropsRecordedOrders_AndMetersComeBackOnNextOperation() {
+        orderMetrics.orderCompleted(orderMetrics.start(), OrderMetrics.CREATE, OrderSide.BUY);
+        orderMetrics.orderFailed(orderMetrics.start(), OrderMetrics.CREATE, OrderSide.SELL,
+                new InsufficientUsableSizeException("no TRY"));
+
+        orderMetrics.reset();
+
+        assertTrue(meterRegistry.find("brokage.orders.latency").meters().isEmpty());
+        assertTrue(meterRegistry.find("brokage.orders.rejections").meters().isEmpty());
+
+        orderMetrics.orderCompleted(orderMetrics.start(), OrderMetrics.CREATE, OrderSide.BUY);
+        assertEquals(1, meterRegistry.get("brokage.orders.latency").tag("side", "BUY").timer().count());
+    }
+}
@@ -0,0 +1,442 @@
+package com.inghubs.brokage_service.protobuf;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import com.inghubs.brokage_service.dto.request.AmendOrderRequest;
+import com.inghubs.brokage_service.dto.request.CreateOrderRequest;
+import com.inghubs.brokage_service.dto.request.LoginRequest;
+import com.inghubs.brokage_service.dto.request.MatchOrderRequest;
+import com.inghubs.brokage_service.dto.response.ApiResponse;
+import com.inghubs.brokage_service.dto.response.AssetResponse;
+import com.inghubs.brokage_service.dto.response.LoginResponse;
+import com.inghubs.brokage_service.dto.response.OrderFillResponse;
+import com.inghubs.brokage_service.dto.response.OrderResponse;
+import com.inghubs.brokage_service.model.enums.OrderSide;
+import com.inghubs.brokage_service.model.enums.OrderStatus;
+import com.inghubs.brokage_service.model.enums.OrderType;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.inghubs.brokage_service.protobuf.ApiProtobufMessageConverter.PROTOBUF;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Round-trips every message of brokage.proto through the converter. Responses are decoded and requests
+ * encoded here with a plain wire-format walker, so the assertions hold against the schema rather than
+ * against the codec's own readers.
+ */
+class ApiProtobufMessageConverterTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 3, 15, 10, 30, 45, 123_456_000);
+
+    private final ApiProtobufMessageConverter converter = new ApiProtobufMessageConverter();
+
+    @Test
+    void canReadAndWrite_OnlyProtobufRequestsAndApiResponses() {
+        assertTrue(converter.canRead(CreateOrderRequest.class, PROTOBUF));
+        assertTrue(converter.canRead(AmendOrderRequest.class, PROTOBUF));
+        assertFalse(converter.canRead(OrderResponse.class, PROTOBUF));
+        assertFalse(converter.canRead(CreateOrderRequest.class, MediaType.APPLICATION_JSON));
+        assertTrue(converter.canWrite(ApiResponse.class, PROTOBUF));
+        assertFalse(converter.canWrite(OrderResponse.class, PROTOBUF));
+        assertFalse(converter.canWrite(apiResponseOf(String.class), ApiResponse.class, PROTOBUF));
+    }
+
+    @Test
+    void write_Order_RoundTrips() throws IOException {
+        OrderResponse order = order(42L, OrderSide.SELL, OrderType.STOP_LIMIT, OrderStatus.PARTIALLY_FILLED);
+
+        Wire response = write(ApiResponse.builder().success(true).message("Order created").data(order).build(),
+                apiResponseOf(OrderResponse.class));
+
+        assertTrue(response.bool(1));
+        assertEquals("Order created", response.string(2));
+        assertEquals(order, readOrder(response.message(3)));
+    }
+
+    @Test
+    void write_OrderList_RoundTrips() throws IOException {
+        List<OrderResponse> orders = List.of(
+                order(1L, OrderSide.BUY, OrderType.LIMIT, OrderStatus.PENDING),
+                order(2L, OrderSide.SELL, OrderType.MARKET, OrderStatus.MATCHED));
+
+        Wire response = write(ApiResponse.builder().success(true).data(orders).build(),
+                apiResponseOf(ResolvableType.forClassWithGenerics(List.class, OrderResponse.class)));
+
+        assertEquals(orders, response.message(4).messages(1).stream().map(ApiProtobufMessageConverterTest::readOrder).toList());
+    }
+
+    @Test
+    void write_AssetList_RoundTrips() throws IOException {
+        List<AssetResponse> assets = List.of(
+                AssetResponse.builder().id(7L).customerId(3L).assetName("TRY")
+                        .size(new BigDecimal("10000.50")).usableSize(new BigDecimal("8500.25")).build(),
+                AssetResponse.builder().id(8L).customerId(3L).assetName("AAPL")
+                        .size(new BigDecimal("100")).usableSize(BigDecimal.ZERO).build());
+
+        Wire response = write(ApiResponse.builder().success(true).data(assets).build(),
+                apiResponseOf(ResolvableType.forClassWithGenerics(List.class, AssetResponse.class)));
+
+        List<AssetResponse> decoded = response.message(5).messages(1).stream()
+                .map(asset -> AssetResponse.builder()
+                        .id(asset.int64(1))
+                        .customerId(asset.int64(2))
+                        .assetName(asset.string(3))
+                        .size(asset.decimal(4))
+                        .usableSize(asset.decimal(5))
+                        .build())
+                .toList();
+        assertEquals(assets, decoded);
+    }
+
+    @Test
+    void write_FillList_RoundTrips() throws IOException {
+        List<OrderFillResponse> fills = List.of(
+                OrderFillResponse.builder().id(11L).orderId(42L)
+                        .size(new BigDecimal("4")).price(new BigDecimal("140.00")).fillDate(CREATED).build(),
+                OrderFillResponse.builder().id(12L).orderId(42L)
+                        .size(new BigDecimal("6")).price(new BigDecimal("150.00")).fillDate(CREATED.plusSeconds(1)).build());
+
+        Wire response = write(ApiResponse.builder().success(true).data(fills).build(),
+                apiResponseOf(ResolvableType.forClassWithGenerics(List.class, OrderFillResponse.class)));
+
+        List<OrderFillResponse> decoded = response.message(8).messages(1).stream()
+                .map(fill -> OrderFillResponse.builder()
+                        .id(fill.int64(1))
+                        .orderId(fill.int64(2))
+                        .size(fill.decimal(3))
+                        .price(fill.decimal(4))
+                        .fillDate(fromMicros(fill.int64(5)))
+                        .build())
+                .toList();
+        assertEquals(fills, decoded);
+    }
+
+    @Test
+    void write_Login_RoundTrips() throws IOException {
+        LoginResponse login = LoginResponse.builder().token("header.payload.signature").username("customer1").role("CUSTOMER").build();
+
+        Wire response = write(ApiResponse.builder().success(true).data(login).build(), apiResponseOf(LoginResponse.class));
+
+        Wire decoded = response.message(6);
+        assertEquals(login, LoginResponse.builder()
+                .token(decoded.string(1))
+                .username(decoded.string(2))
+                .role(decoded.string(3))
+                .build());
+    }
+
+    @Test
+    void write_ValidationErrors_RoundTripsAndOmitsDefaults() throws IOException {
+        Map<String, String> errors = new LinkedHashMap<>();
+        errors.put("size", "Size must be positive");
+        errors.put("assetName", "Asset name is required");
+
+        // runtime dispatch: the handler declares ApiResponse<Object>
+        Wire response = write(ApiResponse.builder().success(false).message("Validation failed").data(errors).build(), null);
+
+        assertFalse(response.has(1), "proto3 default false must be omitted");
+        assertEquals("Validation failed", response.string(2));
+        Map<String, String> decoded = new LinkedHashMap<>();
+        for (Wire entry : response.message(7).messages(1)) {
+            decoded.put(entry.string(1), entry.string(2));
+        }
+        assertEquals(errors, decoded);
+    }
+
+    @Test
+    void read_CreateOrderRequest_RoundTrips() throws IOException {
+        CreateOrderRequest expected = new CreateOrderRequest();
+        expected.setCustomerId(5L);
+        expected.setAssetName("AAPL");
+        expected.setOrderSide(OrderSide.BUY);
+        expected.setSize(new BigDecimal("10"));
+        expected.setPrice(new BigDecimal("151.25"));
+        expected.setOrderType(OrderType.STOP_LIMIT);
+        expected.setStopPrice(new BigDecimal("150.00"));
+
+        byte[] body = encode(output -> {
+            output.writeInt64(1, 5L);
+            output.writeString(2, "AAPL");
+            output.writeEnum(3, 1);
+            writeDecimal(output, 4, new BigDecimal("10"));
+            writeDecimal(output, 5, new BigDecimal("151.25"));
+            output.writeEnum(6, 4);
+            writeDecimal(output, 7, new BigDecimal("150.00"));
+            // unknown fields from a newer client are skipped
+            output.writeString(99, "ignored");
+        });
+
+        assertEquals(expected, read(CreateOrderRequest.class, body));
+    }
+
+    @Test
+    void read_CreateOrderRequest_UnsetOrderTypeStaysLimit() throws IOException {
+        byte[] body = encode(output -> {
+            output.writeInt64(1, 5L);
+            output.writeString(2, "AAPL");
+            output.writeEnum(3, 2);
+            writeDecimal(output, 4, new BigDecimal("3"));
+        });
+
+        CreateOrderRequest request = read(CreateOrderRequest.class, body);
+
+        assertEquals(OrderSide.SELL, request.getOrderSide());
+        assertEquals(OrderType.LIMIT, request.getOrderType());
+        assertNull(request.getPrice());
+    }
+
+    @Test
+    void read_LoginRequest_RoundTrips() throws IOException {
+        LoginRequest expected = new LoginRequest();
+        expected.setUsername("customer1");
+        expected.setPassword("s3cret");
+
+        byte[] body = encode(output -> {
+            output.writeString(1, "customer1");
+            output.writeString(2, "s3cret");
+        });
+
+        assertEquals(expected, read(LoginRequest.class, body));
+    }
+
+    @Test
+    void read_MatchOrderRequest_RoundTrips() throws IOException {
+        MatchOrderRequest expected = new MatchOrderRequest();
+        expected.setOrderId(42L);
+        expected.setSize(new BigDecimal("2.5"));
+        expected.setPrice(new BigDecimal("149.99"));
+
+        byte[] body = encode(output -> {
+            output.writeInt64(1, 42L);
+            writeDecimal(output, 2, new BigDecimal("2.5"));
+            writeDecimal(output, 3, new BigDecimal("149.99"));
+        });
+
+        assertEquals(expected, read(MatchOrderRequest.class, body));
+    }
+
+    @Test
+    void read_AmendOrderRequest_RoundTrips() throws IOException {
+        AmendOrderRequest expected = new AmendOrderRequest();
+        expected.setPrice(new BigDecimal("148.10"));
+
+        byte[] body = encode(output -> writeDecimal(output, 2, new BigDecimal("148.10")));
+
+        assertEquals(expected, read(AmendOrderRequest.class, body));
+    }
+
+    @Test
+    void read_TruncatedBody_IsNotReadable() throws IOException {
+        byte[] body = encode(output -> writeDecimal(output, 1, new BigDecimal("148.10")));
+        byte[] truncated = Arrays.copyOf(body, body.length - 1);
+
+        assertThrows(HttpMessageNotReadableException.class, () -> read(AmendOrderRequest.class, truncated));
+    }
+
+    @Test
+    void enumNumbers_AreOrdinalPlusOne_BothDirections() throws IOException {
+        Map<Enum<?>, Integer> protoNumbers = Map.of(
+                OrderSide.BUY, 1, OrderSide.SELL, 2,
+                OrderType.LIMIT, 1, OrderType.MARKET, 2, OrderType.STOP, 3, OrderType.STOP_LIMIT, 4,
+                OrderStatus.PENDING, 1, OrderStatus.MATCHED, 2, OrderStatus.CANCELED, 3, OrderStatus.PARTIALLY_FILLED, 4);
+        assertEquals(OrderSide.values().length + OrderType.values().length + OrderStatus.values().length, protoNumbers.size(),
+                "new enum constant without a brokage.proto number");
+
+        for (OrderStatus status : OrderStatus.values()) {
+            OrderResponse order = OrderResponse.builder().status(status).build();
+            Wire written = write(ApiResponse.builder().data(order).build(), apiResponseOf(OrderResponse.class)).message(3);
+            assertEquals(protoNumbers.get(status), (int) written.int64(7), status.name());
+        }
+        for (OrderSide side : OrderSide.values()) {
+            OrderResponse order = OrderResponse.builder().orderSide(side).build();
+            Wire written = write(ApiResponse.builder().data(order).build(), apiResponseOf(OrderResponse.class)).message(3);
+            assertEquals(protoNumbers.get(side), (int) written.int64(4), side.name());
+            assertEquals(side, read(CreateOrderRequest.class, encode(output -> output.writeEnum(3, protoNumbers.get(side)))).getOrderSide());
+        }
+        for (OrderType type : OrderType.values()) {
+            OrderResponse order = OrderResponse.builder().orderType(type).build();
+            Wire written = write(ApiResponse.builder().data(order).build(), apiResponseOf(OrderResponse.class)).message(3);
+            assertEquals(protoNumbers.get(type), (int) written.int64(11), type.name());
+            assertEquals(type, read(CreateOrderRequest.class, encode(output -> output.writeEnum(6, protoNumbers.get(type)))).getOrderType());
+        }
+        // numbers a newer schema may add are not mapped to an existing constant
+        assertNull(read(CreateOrderRequest.class, encode(output -> output.writeEnum(3, 3))).getOrderSide());
+    }
+
+    // fixtures
+
+    private static OrderResponse order(Long id, OrderSide side, OrderType type, OrderStatus status) {
+        return OrderResponse.builder()
+                .id(id)
+                .customerId(3L)
+                .assetName("AAPL")
+                .orderSide(side)
+                .orderType(type)
+                .size(new BigDecimal("10"))
+                .price(new BigDecimal("150.75"))
+                .filledSize(new BigDecimal("4"))
+                .remainingSize(new BigDecimal("6"))
+                .status(status)
+                .createDate(CREATED)
+                .build();
+    }
+
+    private static OrderResponse readOrder(Wire order) {
+        return OrderResponse.builder()
+                .id(order.int64(1))
+                .customerId(order.int64(2))
+                .assetName(order.string(3))
+                .orderSide(order.has(4) ? OrderSide.values()[(int) order.int64(4) - 1] : null)
+                .size(order.decimal(5))
+                .price(order.decimal(6))
+                .status(order.has(7) ? OrderStatus.values()[(int) order.int64(7) - 1] : null)
+                .createDate(fromMicros(order.int64(8)))
+                .filledSize(order.decimal(9))
+                .remainingSize(order.decimal(10))
+                .orderType(order.has(11) ? OrderType.values()[(int) order.int64(11) - 1] : null)
+                .build();
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    private static Type apiResponseOf(Class<?> dataType) {
+        return ResolvableType.forClassWithGenerics(ApiResponse.class, dataType).getType();
+    }
+
+    private static Type apiResponseOf(ResolvableType dataType) {
+        return ResolvableType.forClassWithGenerics(ApiResponse.class, dataType).getType();
+    }
+
+    // wire helpers
+
+    private Wire write(ApiResponse<?> response, Type type) throws IOException {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(response, type, PROTOBUF, output);
+        assertEquals(PROTOBUF, output.getHeaders().getContentType());
+        return Wire.parse(output.getBodyAsBytes());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T read(Class<T> type, byte[] body) throws IOException {
+        MockHttpInputMessage input = new MockHttpInputMessage(body);
+        input.getHeaders().setContentType(PROTOBUF);
+        return (T) converter.read(type, null, input);
+    }
+
+    private interface WireWriter {
+        void write(CodedOutputStream output) throws IOException;
+    }
+
+    private static byte[] encode(WireWriter writer) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+        writer.write(output);
+        output.flush();
+        return bytes.toByteArray();
+    }
+
+    private static void writeDecimal(CodedOutputStream output, int field, BigDecimal value) throws IOException {
+        byte[] decimal = encode(nested -> {
+            nested.writeSInt64(1, value.unscaledValue().longValueExact());
+            nested.writeInt32(2, value.scale());
+        });
+        output.writeByteArray(field, decimal);
+    }
+
+    /**
+     * One decoded message: varint fields as Long, length-delimited fields as byte[], by field number.
+     */
+    private record Wire(Map<Integer, List<Object>> fields) {
+
+        static Wire parse(byte[] bytes) throws IOException {
+            CodedInputStream input = CodedInputStream.newInstance(bytes);
+            Map<Integer, List<Object>> fields = new HashMap<>();
+            int tag;
+            while ((tag = input.readTag()) != 0) {
+                Object value = switch (WireFormat.getTagWireType(tag)) {
+                    case WireFormat.WIRETYPE_VARINT -> input.readRawVarint64();
+                    case WireFormat.WIRETYPE_LENGTH_DELIMITED -> input.readByteArray();
+                    default -> throw new AssertionError("Unexpected wire type in tag " + tag);
+                };
+                fields.computeIfAbsent(WireFormat.getTagFieldNumber(tag), number -> new ArrayList<>()).add(value);
+            }
+            return new Wire(fields);
+        }
+
+        boolean has(int field) {
+            return fields.containsKey(field);
+        }
+
+        private Object single(int field) {
+            List<Object> values = fields.get(field);
+            assertNotNull(values, "field " + field + " missing");
+            assertEquals(1, values.size(), "field " + field + " repeated");
+            return values.get(0);
+        }
+
+        long int64(int field) {
+            return (Long) single(field);
+        }
+
+        boolean bool(int field) {
+            return int64(field) != 0;
+        }
+
+        String string(int field) {
+            return new String((byte[]) single(field), StandardCharsets.UTF_8);
+        }
+
+        Wire message(int field) {
+            try {
+                return parse((byte[]) single(field));
+            } catch (IOException e) {
+                throw new AssertionError(e);
+            }
+        }
+
+        List<Wire> messages(int field) {
+            List<Wire> messages = new ArrayList<>();
+            for (Object value : fields.getOrDefault(field, List.of())) {
+                try {
+                    messages.add(parse((byte[]) value));
+                } catch (IOException e) {
+                    throw new AssertionError(e);
+                }
+            }
+            return messages;
+        }
+
+        BigDecimal decimal(int field) {
+            if (!has(field)) {
+                return null;
+            }
+            Wire decimal = message(field);
+            long unscaled = CodedInputStream.decodeZigZag64(decimal.int64(1));
+            int scale = decimal.has(2) ? (int) decimal.int64(2) : 0;
+            return BigDecimal.valueOf(unscaled, scale);
+        }
+    }
+}
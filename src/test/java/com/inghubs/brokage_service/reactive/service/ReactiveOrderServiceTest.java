@@ -0,0 +1,208 @@
+package com.inghubs.brokage_service.reactive.service;
+
+import com.inghubs.brokage_service.config.SettlementProperties;
+import com.inghubs.brokage_service.dto.request.CreateOrderRequest;
+import com.inghubs.brokage_service.dto.response.OrderResponse;
+import com.inghubs.brokage_service.exception.BadRequestException;
+import com.inghubs.brokage_service.exception.ForbiddenException;
+import com.inghubs.brokage_service.exception.NotFoundException;
+import com.inghubs.brokage_service.model.enums.OrderSide;
+import com.inghubs.brokage_service.model.enums.OrderStatus;
+import com.inghubs.brokage_service.model.enums.UserRole;
+import com.inghubs.brokage_service.reactive.mapper.RowMapper;
+import com.inghubs.brokage_service.reactive.model.AssetRow;
+import com.inghubs.brokage_service.reactive.model.CustomerRow;
+import com.inghubs.brokage_service.reactive.model.OrderFillRow;
+import com.inghubs.brokage_service.reactive.model.OrderRow;
+import com.inghubs.brokage_service.reactive.repository.ReactiveAssetRepository;
+import com.inghubs.brokage_service.reactive.repository.ReactiveCustomerRepository;
+import com.inghubs.brokage_service.reactive.repository.ReactiveOrderFillRepository;
+import com.inghubs.brokage_service.reactive.repository.ReactiveOrderRepository;
+import com.inghubs.brokage_service.service.LastTradePrices;
+import com.inghubs.brokage_service.service.MarketOrderProtection;
+import com.inghubs.brokage_service.service.OrderFilledEvent;
+import com.inghubs.brokage_service.service.RiskEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveOrderServiceTest {
+
+    @Mock
+    private ReactiveOrderRepository orderRepository;
+
+    @Mock
+    private ReactiveOrderFillRepository orderFillRepository;
+
+    @Mock
+    private ReactiveAssetRepository assetRepository;
+
+    @Mock
+    private ReactiveCustomerRepository customerRepository;
+
+    @Mock
+    private RowMapper rowMapper;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Mock
+    private MarketOrderProtection marketOrderProtection;
+
+    @Mock
+    private SettlementProperties settlementProperties;
+
+    @Mock
+    private RiskEngine riskEngine;
+
+    @Mock
+    private LastTradePrices lastTradePrices;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ReactiveOrderService orderService;
+
+    private CustomerRow customer;
+    private AssetRow tryAsset;
+    private OrderRow order;
+
+    @BeforeEach
+    void setUp() {
+        customer = CustomerRow.builder()
+                .id(1L)
+                .username("customer1")
+                .role(UserRole.CUSTOMER)
+                .build();
+
+        tryAsset = AssetRow.builder()
+                .id(1L)
+                .customerId(1L)
+                .assetName("TRY")
+                .size(new BigDecimal("100000.00"))
+                .usableSize(new BigDecimal("100000.00"))
+                .build();
+
+        order = OrderRow.builder()
+                .id(1L)
+                .customerId(1L)
+                .assetName("AAPL")
+                .orderSide(OrderSide.BUY)
+                .size(new BigDecimal("10.00"))
+                .price(new BigDecimal("150.00"))
+                .status(OrderStatus.PENDING)
+                .createDate(LocalDateTime.now())
+                .build();
+
+        lenient().when(transactionalOperator.transactional(any(Mono.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(riskEngine.inReactiveTransaction(any()))
+                .thenAnswer(invocation -> Mono.fromRunnable(invocation.<Runnable>getArgument(0)));
+    }
+
+    private CreateOrderRequest buyRequest(String size) {
+        CreateOrderRequest request = new CreateOrderRequest();
+        request.setCustomerId(1L);
+        request.setAssetName("AAPL");
+        request.setOrderSide(OrderSide.BUY);
+        request.setSize(new BigDecimal(size));
+        request.setPrice(new BigDecimal("150.00"));
+        return request;
+    }
+
+    @Test
+    void createOrder_BuyOrder_ReservesTry() {
+        OrderResponse response = OrderResponse.builder().id(1L).build();
+        when(customerRepository.findById(1L)).thenReturn(Mono.just(customer));
+        when(assetRepository.findByCustomerIdAndAssetNameWithLock(1L, "TRY")).thenReturn(Mono.just(tryAsset));
+        when(assetRepository.save(any(AssetRow.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(orderRepository.save(any(OrderRow.class))).thenReturn(Mono.just(order));
+        when(rowMapper.toOrderResponse(order)).thenReturn(response);
+
+        StepVerifier.create(orderService.createOrder(buyRequest("10.00"), 1L, false))
+                .expectNext(response)
+                .verifyComplete();
+
+        assertEquals(new BigDecimal("98500.0000"), tryAsset.getUsableSize());
+    }
+
+    @Test
+    void createOrder_InsufficientBalance_FailsWithoutSavingOrder() {
+        when(customerRepository.findById(1L)).thenReturn(Mono.just(customer));
+        when(assetRepository.findByCustomerIdAndAssetNameWithLock(1L, "TRY")).thenReturn(Mono.just(tryAsset));
+        when(orderRepository.save(any(OrderRow.class))).thenReturn(Mono.just(order));
+
+        StepVerifier.create(orderService.createOrder(buyRequest("1000.00"), 1L, false))
+                .expectError(BadRequestException.class)
+                .verify();
+
+        verify(assetRepository, never()).save(any());
+    }
+
+    @Test
+    void createOrder_ForOtherCustomer_ThrowsForbiddenException() {
+        StepVerifier.create(orderService.createOrder(buyRequest("10.00"), 2L, false))
+                .expectError(ForbiddenException.class)
+                .verify();
+
+        verify(customerRepository, never()).findById(any(Long.class));
+    }
+
+    @Test
+    void deleteOrder_PendingOrder_ReleasesReservation() {
+        tryAsset.setUsableSize(new BigDecimal("98500.00"));
+        when(orderRepository.findByIdWithLock(1L)).thenReturn(Mono.just(order));
+        when(assetRepository.findByCustomerIdAndAssetNameWithLock(1L, "TRY")).thenReturn(Mono.just(tryAsset));
+        when(assetRepository.save(any(AssetRow.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(orderRepository.save(order)).thenReturn(Mono.just(order));
+
+        StepVerifier.create(orderService.deleteOrder(1L, 1L, false))
+                .verifyComplete();
+
+        assertEquals(OrderStatus.CANCELED, order.getStatus());
+        assertEquals(0, new BigDecimal("100000.00").compareTo(tryAsset.getUsableSize()));
+    }
+
+    @Test
+    void matchOrder_OrderNotFound_ThrowsNotFoundException() {
+        when(orderRepository.findByIdWithLock(99L)).thenReturn(Mono.empty());
+
+        StepVerifier.create(orderService.matchOrder(99L))
+                .expectError(NotFoundException.class)
+                .verify();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void matchOrder_Filled_PublishesFillPriceAfterCommit() {
+        OrderResponse response = OrderResponse.builder().id(1L).assetName("AAPL").price(new BigDecimal("150.00")).build();
+        when(orderRepository.findByIdWithLock(1L)).thenReturn(Mono.just(order));
+        when(settlementProperties.isDeferred()).thenReturn(true);
+        when(orderFillRepository.save(any(OrderFillRow.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(orderRepository.save(order)).thenReturn(Mono.just(order));
+        when(rowMapper.toOrderResponse(order)).thenReturn(response);
+
+        StepVerifier.create(orderService.matchOrder(1L, new BigDecimal("4.00"), new BigDecimal("149.00")))
+                .expectNext(response)
+                .verifyComplete();
+
+        assertEquals(OrderStatus.PARTIALLY_FILLED, order.getStatus());
+        verify(eventPublisher).publishEvent(new OrderFilledEvent("AAPL", new BigDecimal("149.00")));
+    }
+}
@@ -0,0 +1,111 @@
+package com.inghubs.brokage_service.service;
+
+import com.inghubs.brokage_service.dto.response.AssetResponse;
+import com.inghubs.brokage_service.dto.response.AssetTotalResponse;
+import com.inghubs.brokage_service.dto.response.OpenOrderNotionalResponse;
+import com.inghubs.brokage_service.exception.BadRequestException;
+import com.inghubs.brokage_service.mapper.AssetMapper;
+import com.inghubs.brokage_service.mapper.OrderMapper;
+import com.inghubs.brokage_service.model.entity.Asset;
+import com.inghubs.brokage_service.model.enums.OrderSide;
+import com.inghubs.brokage_service.model.enums.OrderStatus;
+import com.inghubs.brokage_service.repository.AssetRepository;
+import com.inghubs.brokage_service.repository.OrderRepository;
+import com.inghubs.brokage_service.repository.projection.AssetTotalsView;
+import com.inghubs.brokage_service.repository.projection.OpenOrderNotionalView;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdminReportServiceTest {
+
+    @Mock
+    private AssetRepository assetRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private AssetMapper assetMapper;
+
+    @Mock
+    private OrderMapper orderMapper;
+
+    @InjectMocks
+    private AdminReportService adminReportService;
+
+    @Test
+    void assetTotals_MapsGroupedRows() {
+        AssetTotalsView row = mock(AssetTotalsView.class);
+        when(row.getAssetName()).thenReturn("AAPL");
+        when(row.getHolders()).thenReturn(2L);
+        when(row.getTotalSize()).thenReturn(new BigDecimal("175.00"));
+        when(row.getReserved()).thenReturn(new BigDecimal("25.00"));
+        when(assetRepository.sumByAssetName()).thenReturn(List.of(row));
+
+        List<AssetTotalResponse> totals = adminReportService.assetTotals();
+
+        assertEquals(1, totals.size());
+        assertEquals("AAPL", totals.get(0).getAssetName());
+        assertEquals(2L, totals.get(0).getHolders());
+        assertEquals(0, new BigDecimal("175.00").compareTo(totals.get(0).getTotalSize()));
+        assertEquals(0, new BigDecimal("25.00").compareTo(totals.get(0).getReservedSize()));
+    }
+
+    @Test
+    void openOrderNotional_QueriesPendingAndPartiallyFilledOrders() {
+        OpenOrderNotionalView row = mock(OpenOrderNotionalView.class);
+        when(row.getAssetName()).thenReturn("AAPL");
+        when(row.getOrderSide()).thenReturn(OrderSide.BUY);
+        when(row.getOrders()).thenReturn(3L);
+        when(row.getRemainingSize()).thenReturn(new BigDecimal("12.00"));
+        when(row.getNotional()).thenReturn(new BigDecimal("1800.00"));
+        when(orderRepository.sumRemainingNotionalByAssetAndSide(any())).thenReturn(List.of(row));
+
+        List<OpenOrderNotionalResponse> notional = adminReportService.openOrderNotional();
+
+        assertEquals(OrderSide.BUY, notional.get(0).getOrderSide());
+        assertEquals(0, new BigDecimal("1800.00").compareTo(notional.get(0).getNotional()));
+        verify(orderRepository).sumRemainingNotionalByAssetAndSide(argThat(statuses -> statuses.size() == 2
+                && statuses.contains(OrderStatus.PENDING) && statuses.contains(OrderStatus.PARTIALLY_FILLED)));
+    }
+
+    @Test
+    void listAssets_WithAssetName_FetchesAllCustomersInOneQuery() {
+        List<Long> customerIds = List.of(2L, 3L);
+        List<Asset> assets = List.of(new Asset(), new Asset());
+        List<AssetResponse> responses = List.of(new AssetResponse(), new AssetResponse());
+        when(assetRepository.findByCustomerIdInAndAssetNameOrderByCustomerIdAsc(customerIds, "TRY")).thenReturn(assets);
+        when(assetMapper.toResponseList(assets)).thenReturn(responses);
+
+        assertSame(responses, adminReportService.listAssets(customerIds, "TRY"));
+        verify(assetRepository, never()).findByCustomerIdInOrderByCustomerIdAscAssetNameAsc(any());
+    }
+
+    @Test
+    void listOrders_TooManyCustomers_ThrowsBadRequestException() {
+        List<Long> customerIds = LongStream.rangeClosed(1, AdminReportService.MAX_BATCH_CUSTOMERS + 1).boxed().toList();
+
+        assertThrows(BadRequestException.class,
+                () -> adminReportService.listOrders(customerIds, null, null, OrderStatus.PENDING));
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    void listAssets_NoCustomers_ThrowsBadRequestException() {
+        assertThrows(BadRequestException.class, () -> adminReportService.listAssets(List.of(), null));
+        verifyNoInteractions(assetRepository);
+    }
+}
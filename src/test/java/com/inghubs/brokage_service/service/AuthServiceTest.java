@@ -4,6 +4,7 @@ import com.inghubs.brokage_service.config.JwtUtil;
 import com.inghubs.brokage_service.dto.request.LoginRequest;
 import com.inghubs.brokage_service.dto.response.LoginResponse;
 import com.inghubs.brokage_service.exception.UnauthorizedException;
+import com.inghubs.brokage_service.metrics.AuthMetrics;
 import com.inghubs.brokage_service.model.entity.Customer;
 import com.inghubs.brokage_service.model.enums.UserRole;
 import com.inghubs.brokage_service.repository.CustomerRepository;
@@ -33,6 +34,12 @@ class AuthServiceTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private AuthMetrics authMetrics;
+
     @InjectMocks
     private AuthService authService;
 
@@ -153,5 +160,17 @@ class AuthServiceTest {
         assertThrows(UnauthorizedException.class, () -> authService.login(nullRequest));
         verify(customerRepository).findByUsername(null);
     }
-}
 
+    @Test
+    void logout_RevokesToken() {
+        authService.logout(jwtToken);
+
+        verify(tokenRevocationService).revoke(jwtToken);
+    }
+
+    @Test
+    void logout_MissingToken_ThrowsUnauthorizedException() {
+        assertThrows(UnauthorizedException.class, () -> authService.logout(null));
+        verify(tokenRevocationService, never()).revoke(any());
+    }
+}
@@ -0,0 +1,60 @@
+package com.inghubs.brokage_service.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomerVersionTrackerTest {
+
+    private final CustomerVersionTracker customerVersionTracker = new CustomerVersionTracker();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void markChanged_OutsideTransaction_ChangesOnlyThatCustomersTag() {
+        String customer2Tag = customerVersionTracker.eTag(2L, "application/json");
+        String customer3Tag = customerVersionTracker.eTag(3L, "application/json");
+
+        customerVersionTracker.markChanged(2L);
+
+        assertNotEquals(customer2Tag, customerVersionTracker.eTag(2L, "application/json"));
+        assertEquals(customer3Tag, customerVersionTracker.eTag(3L, "application/json"));
+    }
+
+    @Test
+    void markChanged_InsideTransaction_AppliesAfterCompletion() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        customerVersionTracker.markChanged(2L);
+        assertEquals(0, customerVersionTracker.currentVersion(2L));
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertEquals(1, customerVersionTracker.currentVersion(2L));
+    }
+
+    @Test
+    void forget_DropsTheCustomersVersion() {
+        customerVersionTracker.markChanged(2L);
+        customerVersionTracker.markChanged(3L);
+
+        customerVersionTracker.forget(2L);
+
+        assertEquals(0, customerVersionTracker.currentVersion(2L));
+        assertEquals(1, customerVersionTracker.currentVersion(3L));
+    }
+
+    @Test
+    void eTag_DifferentAcceptHeaders_DifferentTags() {
+        assertNotEquals(customerVersionTracker.eTag(2L, "application/json"),
+                customerVersionTracker.eTag(2L, "application/x-protobuf"));
+    }
+}
@@ -0,0 +1,65 @@
+package com.inghubs.brokage_service.service;
+
+import com.inghubs.brokage_service.repository.OrderFillRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LastTradePricesTest {
+
+    @Mock
+    private OrderFillRepository orderFillRepository;
+
+    private LastTradePrices lastTradePrices;
+
+    @BeforeEach
+    void setUp() {
+        lastTradePrices = new LastTradePrices(orderFillRepository);
+    }
+
+    @Test
+    void lastPrice_ColdStart_QueriesOnceThenServesFromMemory() {
+        when(orderFillRepository.findLastPriceByAssetName("AAPL")).thenReturn(Optional.of(new BigDecimal("150.00")));
+
+        assertEquals(Optional.of(new BigDecimal("150.00")), lastTradePrices.lastPrice("AAPL"));
+        assertEquals(Optional.of(new BigDecimal("150.00")), lastTradePrices.lastPrice("AAPL"));
+
+        verify(orderFillRepository, times(1)).findLastPriceByAssetName("AAPL");
+    }
+
+    @Test
+    void onOrderFilled_ReplacesPrice_WithoutQuery() {
+        lastTradePrices.onOrderFilled(new OrderFilledEvent("AAPL", new BigDecimal("151.00")));
+        lastTradePrices.onOrderFilled(new OrderFilledEvent("AAPL", new BigDecimal("152.00")));
+
+        assertEquals(Optional.of(new BigDecimal("152.00")), lastTradePrices.lastPrice("AAPL"));
+        verifyNoInteractions(orderFillRepository);
+    }
+
+    @Test
+    void loaded_DoesNotOverwriteCommittedFill() {
+        lastTradePrices.onOrderFilled(new OrderFilledEvent("AAPL", new BigDecimal("152.00")));
+
+        // a cold-start read that started before the fill committed
+        lastTradePrices.loaded("AAPL", new BigDecimal("150.00"));
+
+        assertEquals(new BigDecimal("152.00"), lastTradePrices.cached("AAPL"));
+    }
+
+    @Test
+    void lastPrice_NoTradesYet_IsNotCached() {
+        when(orderFillRepository.findLastPriceByAssetName("TSLA")).thenReturn(Optional.empty());
+
+        assertTrue(lastTradePrices.lastPrice("TSLA").isEmpty());
+        assertNull(lastTradePrices.cached("TSLA"));
+    }
+}
@@ -0,0 +1,60 @@
+package com.inghubs.brokage_service.service;
+
+import com.inghubs.brokage_service.exception.BadRequestException;
+import com.inghubs.brokage_service.model.enums.OrderSide;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MarketOrderProtectionTest {
+
+    private final MarketOrderProtection protection = new MarketOrderProtection(new BigDecimal("0.05"));
+
+    @Test
+    void limitPrice_Buy_CapsAtBandAboveLastPrice() {
+        assertEquals(new BigDecimal("157.50"),
+                protection.limitPrice(OrderSide.BUY, "AAPL", new BigDecimal("150.00"), null));
+    }
+
+    @Test
+    void limitPrice_Sell_FloorsAtBandBelowLastPrice() {
+        assertEquals(new BigDecimal("142.50"),
+                protection.limitPrice(OrderSide.SELL, "AAPL", new BigDecimal("150.00"), null));
+    }
+
+    @Test
+    void limitPrice_RoundsInsideTheBand() {
+        // 33.33 * 1.05 = 34.9965, 33.33 * 0.95 = 31.6635
+        assertEquals(new BigDecimal("34.99"), protection.limitPrice(OrderSide.BUY, "X", new BigDecimal("33.33"), null));
+        assertEquals(new BigDecimal("31.67"), protection.limitPrice(OrderSide.SELL, "X", new BigDecimal("33.33"), null));
+    }
+
+    @Test
+    void limitPrice_ClientPriceTightensTheBand() {
+        assertEquals(new BigDecimal("152.00"),
+                protection.limitPrice(OrderSide.BUY, "AAPL", new BigDecimal("150.00"), new BigDecimal("152.00")));
+        assertEquals(new BigDecimal("157.50"),
+                protection.limitPrice(OrderSide.BUY, "AAPL", new BigDecimal("150.00"), new BigDecimal("200.00")));
+        assertEquals(new BigDecimal("149.00"),
+                protection.limitPrice(OrderSide.SELL, "AAPL", new BigDecimal("150.00"), new BigDecimal("149.00")));
+    }
+
+    @Test
+    void limitPrice_NoTradesYet_UsesClientPrice() {
+        assertEquals(new BigDecimal("120.00"),
+                protection.limitPrice(OrderSide.BUY, "AAPL", null, new BigDecimal("120.00")));
+    }
+
+    @Test
+    void limitPrice_NoTradesAndNoClientPrice_ThrowsBadRequestException() {
+        assertThrows(BadRequestException.class, () -> protection.limitPrice(OrderSide.BUY, "AAPL", null, null));
+    }
+
+    @Test
+    void constructor_BandOutOfRange_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> new MarketOrderProtection(new BigDecimal("1.00")));
+        assertThrows(IllegalArgumentException.class, () -> new MarketOrderProtection(new BigDecimal("-0.01")));
+    }
+}
@@ -0,0 +1,80 @@
+package com.inghubs.brokage_service.service;
+
+import com.inghubs.brokage_service.config.RateLimitProperties;
+import com.inghubs.brokage_service.exception.TooManyRequestsException;
+import com.inghubs.brokage_service.model.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private OrderRateLimiter orderRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setMaxInFlight(2);
+        RateLimitProperties.Limit customerLimit = new RateLimitProperties.Limit();
+        customerLimit.setRequestsPerSecond(10);
+        customerLimit.setBurst(3);
+        properties.getRoles().put(UserRole.CUSTOMER, customerLimit);
+        orderRateLimiter = new OrderRateLimiter(properties);
+    }
+
+    @Test
+    void checkRate_BurstExhausted_ThrowsWithRetryAfter() {
+        long now = SECOND;
+        for (int i = 0; i < 3; i++) {
+            orderRateLimiter.checkRate(2L, UserRole.CUSTOMER, now);
+        }
+
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> orderRateLimiter.checkRate(2L, UserRole.CUSTOMER, now));
+        assertEquals(1, exception.getRetryAfterSeconds());
+    }
+
+    @Test
+    void checkRate_TokenRefilled_Admits() {
+        long now = SECOND;
+        for (int i = 0; i < 3; i++) {
+            orderRateLimiter.checkRate(2L, UserRole.CUSTOMER, now);
+        }
+
+        assertDoesNotThrow(() -> orderRateLimiter.checkRate(2L, UserRole.CUSTOMER, now + SECOND / 10));
+    }
+
+    @Test
+    void checkRate_BucketsArePerCustomer() {
+        long now = SECOND;
+        for (int i = 0; i < 3; i++) {
+            orderRateLimiter.checkRate(2L, UserRole.CUSTOMER, now);
+        }
+
+        assertDoesNotThrow(() -> orderRateLimiter.checkRate(3L, UserRole.CUSTOMER, now));
+    }
+
+    @Test
+    void checkRate_RoleWithoutLimit_NeverThrows() {
+        for (int i = 0; i < 100; i++) {
+            orderRateLimiter.checkRate(1L, UserRole.ADMIN, SECOND);
+        }
+    }
+
+    @Test
+    void admit_DepthExceeded_ThrowsUntilReleased() {
+        orderRateLimiter.admit();
+        orderRateLimiter.admit();
+
+        assertThrows(TooManyRequestsException.class, () -> orderRateLimiter.admit());
+        assertEquals(2, orderRateLimiter.getInFlight());
+
+        orderRateLimiter.release();
+        assertDoesNotThrow(() -> orderRateLimiter.admit());
+    }
+}
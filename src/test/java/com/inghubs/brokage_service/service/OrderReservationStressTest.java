@@ -0,0 +1,256 @@
+package com.inghubs.brokage_service.service;
+
+import com.inghubs.brokage_service.dto.request.AmendOrderRequest;
+import com.inghubs.brokage_service.dto.request.CreateOrderRequest;
+import com.inghubs.brokage_service.dto.response.AssetResponse;
+import com.inghubs.brokage_service.dto.response.OrderFillResponse;
+import com.inghubs.brokage_service.dto.response.OrderResponse;
+import com.inghubs.brokage_service.exception.BadRequestException;
+import com.inghubs.brokage_service.exception.InsufficientUsableSizeException;
+import com.inghubs.brokage_service.model.entity.Asset;
+import com.inghubs.brokage_service.model.entity.Customer;
+import com.inghubs.brokage_service.model.enums.OrderSide;
+import com.inghubs.brokage_service.model.enums.OrderStatus;
+import com.inghubs.brokage_service.model.enums.UserRole;
+import com.inghubs.brokage_service.repository.AssetRepository;
+import com.inghubs.brokage_service.repository.CustomerRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Many threads interleave create, cancel, amend and (partial) fill calls on one customer's TRY and AAPL
+ * rows, with balances small enough that reservations regularly hit the usable-size limit. Threads pick
+ * their target among the most recently created orders, so cancels, amends and fills of the same order
+ * regularly run at the same time; all but one of a conflicting pair must then be refused. After every
+ * round the ledger is checked against the orders and fills that ended up in the database. Fills lock the
+ * TRY and AAPL rows in one fixed order, so no operation may end as a deadlock victim or lock timeout.
+ * <p>
+ * Size with -Dstress.threads, -Dstress.operations (per thread) and -Dstress.rounds.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:stress_${random.uuid};LOCK_TIMEOUT=10000",
+        "spring.jpa.show-sql=false"
+})
+class OrderReservationStressTest {
+
+    private static final String TRY_ASSET = "TRY";
+    private static final String STOCK = "AAPL";
+    private static final BigDecimal INITIAL_TRY = new BigDecimal("5000.00");
+    private static final BigDecimal INITIAL_STOCK = new BigDecimal("100.00");
+
+    private static final int THREADS = Integer.getInteger("stress.threads", 16);
+    private static final int OPERATIONS = Integer.getInteger("stress.operations", 200);
+    private static final int ROUNDS = Integer.getInteger("stress.rounds", 3);
+    // how many of the newest orders the threads pick from; small enough that they collide
+    private static final int HOT_ORDERS = 8;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private AssetService assetService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Test
+    void interleavedCreateCancelAmendMatch_PreservesLedgerInvariants() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            Long customerId = seedCustomer();
+            Tally tally = hammer(customerId);
+            assertEquals(0, tally.aborted.sum(), "operations aborted on a lock conflict, first: " + tally.firstAbort);
+            assertLedger(customerId, tally);
+        }
+    }
+
+    private Tally hammer(Long customerId) throws Exception {
+        Tally tally = new Tally();
+        List<Long> orderIds = Collections.synchronizedList(new ArrayList<>());
+        CyclicBarrier start = new CyclicBarrier(THREADS);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> workers = new ArrayList<>(THREADS);
+            for (int t = 0; t < THREADS; t++) {
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < OPERATIONS; i++) {
+                        step(customerId, orderIds, tally);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get(5, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return tally;
+    }
+
+    private void step(Long customerId, List<Long> orderIds, Tally tally) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int choice = random.nextInt(10);
+        Long orderId = choice >= 3 ? hotOrder(orderIds, random) : null;
+        try {
+            if (orderId == null) {
+                CreateOrderRequest request = new CreateOrderRequest();
+                request.setCustomerId(customerId);
+                request.setAssetName(STOCK);
+                request.setOrderSide(random.nextBoolean() ? OrderSide.BUY : OrderSide.SELL);
+                request.setSize(BigDecimal.valueOf(1 + random.nextInt(5)));
+                request.setPrice(BigDecimal.valueOf(1 + random.nextInt(100)));
+                orderIds.add(orderService.createOrder(request, customerId, false).getId());
+            } else if (choice >= 7) {
+                // whole units, so an order of size n is done after at most n fills
+                BigDecimal fillSize = random.nextBoolean() ? null : BigDecimal.ONE;
+                if (orderService.matchOrder(orderId, fillSize, null).getStatus() == OrderStatus.MATCHED) {
+                    tally.matched.increment();
+                }
+            } else if (choice >= 5) {
+                AmendOrderRequest request = new AmendOrderRequest();
+                request.setSize(BigDecimal.valueOf(1 + random.nextInt(6)));
+                request.setPrice(random.nextBoolean() ? BigDecimal.valueOf(1 + random.nextInt(100)) : null);
+                orderService.amendOrder(orderId, request, customerId, false);
+            } else {
+                orderService.deleteOrder(orderId, customerId, false);
+                tally.canceled.increment();
+            }
+        } catch (InsufficientUsableSizeException e) {
+            tally.rejected.increment();
+        } catch (BadRequestException e) {
+            // another thread closed the order first, or the request no longer fits what was filled
+            tally.refused.increment();
+        } catch (ConcurrencyFailureException e) {
+            // deadlock victim or lock timeout: the transaction rolled back
+            tally.aborted.increment();
+            if (tally.firstAbort == null) {
+                tally.firstAbort = e;
+            }
+        }
+    }
+
+    private static Long hotOrder(List<Long> orderIds, ThreadLocalRandom random) {
+        synchronized (orderIds) {
+            int size = orderIds.size();
+            return size == 0 ? null : orderIds.get(size - 1 - random.nextInt(Math.min(size, HOT_ORDERS)));
+        }
+    }
+
+    private void assertLedger(Long customerId, Tally tally) {
+        Map<String, AssetResponse> assets = assetService.listAssets(customerId, null, customerId, false).stream()
+                .collect(Collectors.toMap(AssetResponse::getAssetName, Function.identity()));
+        List<OrderResponse> orders = orderService.listOrders(customerId, null, null, null, customerId, false);
+
+        for (AssetResponse asset : assets.values()) {
+            assertTrue(asset.getUsableSize().signum() >= 0, asset.getAssetName() + " usableSize went negative: " + asset);
+            assertTrue(asset.getSize().compareTo(asset.getUsableSize()) >= 0,
+                    asset.getAssetName() + " usableSize exceeds size: " + asset);
+        }
+
+        BigDecimal reservedTry = BigDecimal.ZERO;
+        BigDecimal reservedStock = BigDecimal.ZERO;
+        BigDecimal expectedTry = INITIAL_TRY;
+        BigDecimal expectedStock = INITIAL_STOCK;
+        long matched = 0;
+        long canceled = 0;
+        for (OrderResponse order : orders) {
+            boolean buy = order.getOrderSide() == OrderSide.BUY;
+            // an amend may change the price after a fill, so the moved notional comes from the fill rows
+            BigDecimal filled = BigDecimal.ZERO;
+            BigDecimal filledNotional = BigDecimal.ZERO;
+            for (OrderFillResponse fill : orderService.listFills(order.getId(), customerId, false)) {
+                filled = filled.add(fill.getSize());
+                filledNotional = filledNotional.add(fill.getSize().multiply(fill.getPrice()));
+            }
+            assertEquals(0, filled.compareTo(order.getFilledSize()),
+                    "order " + order.getId() + " filledSize " + order.getFilledSize() + " does not match its fills " + filled);
+            assertTrue(order.getFilledSize().compareTo(order.getSize()) <= 0, "order " + order.getId() + " overfilled: " + order);
+            if (order.getStatus() == OrderStatus.MATCHED) {
+                assertEquals(0, filled.compareTo(order.getSize()), "order " + order.getId() + " matched before it was fully filled");
+            }
+            expectedTry = buy ? expectedTry.subtract(filledNotional) : expectedTry.add(filledNotional);
+            expectedStock = buy ? expectedStock.add(filled) : expectedStock.subtract(filled);
+            if (order.getStatus() == OrderStatus.PENDING || order.getStatus() == OrderStatus.PARTIALLY_FILLED) {
+                if (buy) {
+                    reservedTry = reservedTry.add(order.getRemainingSize().multiply(order.getPrice()));
+                } else {
+                    reservedStock = reservedStock.add(order.getRemainingSize());
+                }
+            } else if (order.getStatus() == OrderStatus.MATCHED) {
+                matched++;
+            } else if (order.getStatus() == OrderStatus.CANCELED) {
+                canceled++;
+            }
+        }
+
+        assertEquals(tally.matched.sum(), matched, "matched orders");
+        assertEquals(tally.canceled.sum(), canceled, "canceled orders");
+
+        AssetResponse tryAsset = assets.get(TRY_ASSET);
+        AssetResponse stock = assets.get(STOCK);
+        // conservation: every fill moved exactly size * price between TRY and the stock
+        assertEquals(0, expectedTry.compareTo(tryAsset.getSize()), "TRY size " + tryAsset.getSize() + ", expected " + expectedTry);
+        assertEquals(0, expectedStock.compareTo(stock.getSize()), "AAPL size " + stock.getSize() + ", expected " + expectedStock);
+        // reservations: whatever is not usable is held by the remaining size of an open order, and nothing else is
+        assertEquals(0, tryAsset.getSize().subtract(reservedTry).compareTo(tryAsset.getUsableSize()),
+                "TRY usableSize " + tryAsset.getUsableSize() + " does not match open BUY reservations " + reservedTry);
+        assertEquals(0, stock.getSize().subtract(reservedStock).compareTo(stock.getUsableSize()),
+                "AAPL usableSize " + stock.getUsableSize() + " does not match open SELL reservations " + reservedStock);
+    }
+
+    private Long seedCustomer() {
+        String username = "stress-" + UUID.randomUUID();
+        Customer customer = customerRepository.save(Customer.builder()
+                .username(username)
+                .password("unused")
+                .email(username + "@example.com")
+                .role(UserRole.CUSTOMER)
+                .build());
+        assetRepository.save(Asset.builder()
+                .customer(customer)
+                .assetName(TRY_ASSET)
+                .size(INITIAL_TRY)
+                .usableSize(INITIAL_TRY)
+                .build());
+        assetRepository.save(Asset.builder()
+                .customer(customer)
+                .assetName(STOCK)
+                .size(INITIAL_STOCK)
+                .usableSize(INITIAL_STOCK)
+                .build());
+        return customer.getId();
+    }
+
+    private static final class Tally {
+        private final LongAdder matched = new LongAdder();
+        private final LongAdder canceled = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder refused = new LongAdder();
+        private final LongAdder aborted = new LongAdder();
+        private volatile ConcurrencyFailureException firstAbort;
+    }
+}
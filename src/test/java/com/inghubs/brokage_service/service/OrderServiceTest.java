@@ -1,19 +1,26 @@
 package com.inghubs.brokage_service.service;
 
+import com.inghubs.brokage_service.config.SettlementProperties;
+import com.inghubs.brokage_service.dto.request.AmendOrderRequest;
 import com.inghubs.brokage_service.dto.request.CreateOrderRequest;
 import com.inghubs.brokage_service.dto.response.OrderResponse;
 import com.inghubs.brokage_service.exception.BadRequestException;
 import com.inghubs.brokage_service.exception.ForbiddenException;
+import com.inghubs.brokage_service.exception.InsufficientUsableSizeException;
 import com.inghubs.brokage_service.exception.NotFoundException;
 import com.inghubs.brokage_service.mapper.OrderMapper;
+import com.inghubs.brokage_service.metrics.OrderMetrics;
 import com.inghubs.brokage_service.model.entity.Asset;
 import com.inghubs.brokage_service.model.entity.Customer;
 import com.inghubs.brokage_service.model.entity.Order;
+import com.inghubs.brokage_service.model.entity.OrderFill;
 import com.inghubs.brokage_service.model.enums.OrderSide;
 import com.inghubs.brokage_service.model.enums.OrderStatus;
+import com.inghubs.brokage_service.model.enums.OrderType;
 import com.inghubs.brokage_service.model.enums.UserRole;
 import com.inghubs.brokage_service.repository.AssetRepository;
 import com.inghubs.brokage_service.repository.CustomerRepository;
+import com.inghubs.brokage_service.repository.OrderFillRepository;
 import com.inghubs.brokage_service.repository.OrderRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,6 +28,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -29,6 +37,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -38,6 +47,12 @@ class OrderServiceTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private OrderFillRepository orderFillRepository;
+
+    @Mock
+    private LastTradePrices lastTradePrices;
+
     @Mock
     private AssetRepository assetRepository;
 
@@ -47,6 +62,24 @@ class OrderServiceTest {
     @Mock
     private OrderMapper orderMapper;
 
+    @Mock
+    private CustomerVersionTracker customerVersionTracker;
+
+    @Mock
+    private OrderMetrics orderMetrics;
+
+    @Mock
+    private MarketOrderProtection marketOrderProtection;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private SettlementProperties settlementProperties;
+
+    @Mock
+    private RiskEngine riskEngine;
+
     @InjectMocks
     private OrderService orderService;
 
@@ -126,6 +159,45 @@ class OrderServiceTest {
         verify(assetRepository).findByCustomerIdAndAssetNameWithLock(1L, "TRY");
         verify(assetRepository).save(any(Asset.class));
         verify(orderRepository).save(any(Order.class));
+        verify(customerVersionTracker).markChanged(1L);
+    }
+
+    @Test
+    void createOrder_MarketBuyOrder_ReservesAgainstProtectionLimit() {
+        CreateOrderRequest request = new CreateOrderRequest();
+        request.setCustomerId(1L);
+        request.setAssetName("AAPL");
+        request.setOrderSide(OrderSide.BUY);
+        request.setOrderType(OrderType.MARKET);
+        request.setSize(new BigDecimal("10.00"));
+
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
+        when(lastTradePrices.lastPrice("AAPL")).thenReturn(Optional.of(new BigDecimal("150.00")));
+        when(marketOrderProtection.limitPrice(OrderSide.BUY, "AAPL", new BigDecimal("150.00"), null))
+                .thenReturn(new BigDecimal("157.50"));
+        when(assetRepository.findByCustomerIdAndAssetNameWithLock(eq(1L), eq("TRY")))
+                .thenReturn(Optional.of(tryAsset));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        orderService.createOrder(request, 1L, false);
+
+        assertEquals(0, new BigDecimal("98425.00").compareTo(tryAsset.getUsableSize()));
+        verify(orderRepository).save(argThat(saved ->
+                saved.getOrderType() == OrderType.MARKET && new BigDecimal("157.50").compareTo(saved.getPrice()) == 0));
+    }
+
+    @Test
+    void createOrder_LimitOrderWithoutPrice_ThrowsBadRequestException() {
+        CreateOrderRequest request = new CreateOrderRequest();
+        request.setCustomerId(1L);
+        request.setAssetName("AAPL");
+        request.setOrderSide(OrderSide.BUY);
+        request.setSize(new BigDecimal("10.00"));
+
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
+
+        assertThrows(BadRequestException.class, () -> orderService.createOrder(request, 1L, false));
+        verify(orderRepository, never()).save(any());
     }
 
     @Test
@@ -188,6 +260,8 @@ class OrderServiceTest {
 
         assertThrows(BadRequestException.class, () -> orderService.createOrder(request, 1L, false));
         verify(assetRepository).findByCustomerIdAndAssetNameWithLock(1L, "TRY");
+        verify(orderMetrics).orderFailed(any(), eq(OrderMetrics.CREATE), eq(OrderSide.BUY),
+                any(InsufficientUsableSizeException.class));
     }
 
     @Test
@@ -258,24 +332,25 @@ class OrderServiceTest {
     @Test
     void deleteOrder_Success() {
         Long orderId = 1L;
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findWithLockById(orderId)).thenReturn(Optional.of(order));
         when(assetRepository.findByCustomerIdAndAssetNameWithLock(eq(1L), eq("TRY")))
                 .thenReturn(Optional.of(tryAsset));
 
         orderService.deleteOrder(orderId, 1L, false);
 
-        verify(orderRepository).findById(orderId);
+        verify(orderRepository).findWithLockById(orderId);
         verify(orderRepository).save(order);
+        verify(customerVersionTracker).markChanged(1L);
         assertEquals(OrderStatus.CANCELED, order.getStatus());
     }
 
     @Test
     void deleteOrder_OrderNotFound_ThrowsNotFoundException() {
         Long orderId = 999L;
-        when(orderRepository.findById(orderId)).thenReturn(Optional.empty());
+        when(orderRepository.findWithLockById(orderId)).thenReturn(Optional.empty());
 
         assertThrows(NotFoundException.class, () -> orderService.deleteOrder(orderId, 1L, false));
-        verify(orderRepository).findById(orderId);
+        verify(orderRepository).findWithLockById(orderId);
         verify(orderRepository, never()).save(any());
     }
 
@@ -283,26 +358,26 @@ class OrderServiceTest {
     void deleteOrder_NonPendingOrder_ThrowsBadRequestException() {
         Long orderId = 1L;
         order.setStatus(OrderStatus.MATCHED);
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findWithLockById(orderId)).thenReturn(Optional.of(order));
 
         assertThrows(BadRequestException.class, () -> orderService.deleteOrder(orderId, 1L, false));
-        verify(orderRepository).findById(orderId);
+        verify(orderRepository).findWithLockById(orderId);
         verify(orderRepository, never()).save(any());
     }
 
     @Test
     void deleteOrder_NonAdminTryingToDeleteOtherCustomerOrder_ThrowsForbiddenException() {
         Long orderId = 1L;
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findWithLockById(orderId)).thenReturn(Optional.of(order));
 
         assertThrows(ForbiddenException.class, () -> orderService.deleteOrder(orderId, 2L, false));
-        verify(orderRepository).findById(orderId);
+        verify(orderRepository).findWithLockById(orderId);
     }
 
     @Test
     void matchOrder_BuyOrder_Success() {
         Long orderId = 1L;
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findWithLockById(orderId)).thenReturn(Optional.of(order));
         when(assetRepository.findByCustomerIdAndAssetNameWithLock(eq(1L), eq("TRY")))
                 .thenReturn(Optional.of(tryAsset));
         when(assetRepository.findByCustomerIdAndAssetNameWithLock(eq(1L), eq("AAPL")))
@@ -315,13 +390,14 @@ class OrderServiceTest {
         assertNotNull(result);
         assertEquals(OrderStatus.MATCHED, order.getStatus());
         verify(orderRepository).save(order);
+        verify(eventPublisher).publishEvent(new OrderFilledEvent("AAPL", new BigDecimal("150.00")));
     }
 
     @Test
     void matchOrder_SellOrder_Success() {
         Long orderId = 1L;
         order.setOrderSide(OrderSide.SELL);
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findWithLockById(orderId)).thenReturn(Optional.of(order));
         when(assetRepository.findByCustomerIdAndAssetNameWithLock(eq(1L), eq("AAPL")))
                 .thenReturn(Optional.of(aaplAsset));
         when(assetRepository.findByCustomerIdAndAssetNameWithLock(eq(1L), eq("TRY")))
@@ -338,21 +414,159 @@ class OrderServiceTest {
     @Test
     void matchOrder_OrderNotFound_ThrowsNotFoundException() {
         Long orderId = 999L;
-        when(orderRepository.findById(orderId)).thenReturn(Optional.empty());
+        when(orderRepository.findWithLockById(orderId)).thenReturn(Optional.empty());
 
         assertThrows(NotFoundException.class, () -> orderService.matchOrder(orderId));
-        verify(orderRepository).findById(orderId);
+        verify(orderRepository).findWithLockById(orderId);
     }
 
     @Test
     void matchOrder_NonPendingOrder_ThrowsBadRequestException() {
         Long orderId = 1L;
         order.setStatus(OrderStatus.MATCHED);
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findWithLockById(orderId)).thenReturn(Optional.of(order));
 
         assertThrows(BadRequestException.class, () -> orderService.matchOrder(orderId));
-        verify(orderRepository).findById(orderId);
+        verify(orderRepository).findWithLockById(orderId);
         verify(orderRepository, never()).save(any());
     }
-}
 
+    @Test
+    void matchOrder_PartialBuyFillBelowLimit_ReleasesPriceImprovement() {
+        Long orderId = 1L;
+        tryAsset.setUsableSize(new BigDecimal("98500.00"));
+        when(orderRepository.findWithLockById(orderId)).thenReturn(Optional.of(order));
+        when(assetRepository.findByCustomerIdAndAssetNameWithLock(eq(1L), eq("TRY")))
+                .thenReturn(Optional.of(tryAsset));
+        when(assetRepository.findByCustomerIdAndAssetNameWithLock(eq(1L), eq("AAPL")))
+                .thenReturn(Optional.of(aaplAsset));
+        when(orderRepository.save(any(Order.class))).thenReturn(order);
+        when(orderMapper.toResponse(order)).thenReturn(orderResponse);
+
+        orderService.matchOrder(orderId, new BigDecimal("4"), new BigDecimal("140.00"));
+
+        assertEquals(OrderStatus.PARTIALLY_FILLED, order.getStatus());
+        assertEquals(0, new BigDecimal("4").compareTo(order.getFilledSize()));
+        assertEquals(0, new BigDecimal("6").compareTo(order.getRemainingSize()));
+        assertEquals(0, new BigDecimal("99440.00").compareTo(tryAsset.getSize()));
+        // 4 * (150 - 140) comes back; the 6 * 150 still reserved stays out of usableSize
+        assertEquals(0, new BigDecimal("98540.00").compareTo(tryAsset.getUsableSize()));
+        assertEquals(0, new BigDecimal("104.00").compareTo(aaplAsset.getSize()));
+        verify(orderFillRepository).save(any(OrderFill.class));
+    }
+
+    @Test
+    void matchOrder_DeferredSettlement_RecordsUnsettledFillWithoutTouchingAssets() {
+        Long orderId = 1L;
+        when(settlementProperties.isDeferred()).thenReturn(true);
+        when(orderRepository.findWithLockById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.save(any(Order.class))).thenReturn(order);
+        when(orderMapper.toResponse(order)).thenReturn(orderResponse);
+
+        orderService.matchOrder(orderId, new BigDecimal("4"), new BigDecimal("140.00"));
+
+        assertEquals(OrderStatus.PARTIALLY_FILLED, order.getStatus());
+        assertEquals(0, new BigDecimal("4").compareTo(order.getFilledSize()));
+        verify(orderFillRepository).save(argThat(fill -> !fill.isSettled()
+                && fill.getLimitPrice().compareTo(new BigDecimal("150.00")) == 0));
+        verify(assetRepository, never()).findByCustomerIdAndAssetNameWithLock(any(), any());
+        verify(assetRepository, never()).save(any());
+    }
+
+    @Test
+    void matchOrder_FillExceedsRemainingSize_ThrowsBadRequestException() {
+        Long orderId = 1L;
+        order.setFilledSize(new BigDecimal("8.00"));
+        order.setStatus(OrderStatus.PARTIALLY_FILLED);
+        when(orderRepository.findWithLockById(orderId)).thenReturn(Optional.of(order));
+
+        assertThrows(BadRequestException.class,
+                () -> orderService.matchOrder(orderId, new BigDecimal("3"), null));
+        verify(orderFillRepository, never()).save(any());
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    void deleteOrder_PartiallyFilledOrder_ReleasesOnlyRemainingSize() {
+        Long orderId = 1L;
+        order.setFilledSize(new BigDecimal("4.00"));
+        order.setStatus(OrderStatus.PARTIALLY_FILLED);
+        tryAsset.setUsableSize(new BigDecimal("99100.00"));
+        when(orderRepository.findWithLockById(orderId)).thenReturn(Optional.of(order));
+        when(assetRepository.findByCustomerIdAndAssetNameWithLock(eq(1L), eq("TRY")))
+                .thenReturn(Optional.of(tryAsset));
+
+        orderService.deleteOrder(orderId, 1L, false);
+
+        assertEquals(OrderStatus.CANCELED, order.getStatus());
+        assertEquals(0, new BigDecimal("100000.00").compareTo(tryAsset.getUsableSize()));
+    }
+
+    @Test
+    void amendOrder_SizeDecreaseAtSamePrice_ReleasesDifferenceAndKeepsPriority() {
+        Long orderId = 1L;
+        LocalDateTime createDate = order.getCreateDate();
+        tryAsset.setUsableSize(new BigDecimal("98500.00"));
+        AmendOrderRequest request = new AmendOrderRequest();
+        request.setSize(new BigDecimal("6.00"));
+        when(orderRepository.findWithLockById(orderId)).thenReturn(Optional.of(order));
+        when(assetRepository.findByCustomerIdAndAssetNameWithLock(eq(1L), eq("TRY")))
+                .thenReturn(Optional.of(tryAsset));
+        when(orderRepository.save(any(Order.class))).thenReturn(order);
+
+        orderService.amendOrder(orderId, request, 1L, false);
+
+        assertEquals(0, new BigDecimal("99100.00").compareTo(tryAsset.getUsableSize()));
+        assertEquals(0, new BigDecimal("6.00").compareTo(order.getSize()));
+        assertEquals(createDate, order.getCreateDate());
+        verify(assetRepository, times(1)).findByCustomerIdAndAssetNameWithLock(any(), any());
+        verify(customerVersionTracker).markChanged(1L);
+    }
+
+    @Test
+    void amendOrder_PriceIncrease_ReservesDifferenceAndResetsPriority() {
+        Long orderId = 1L;
+        LocalDateTime createDate = LocalDateTime.now().minusHours(1);
+        order.setCreateDate(createDate);
+        tryAsset.setUsableSize(new BigDecimal("98500.00"));
+        AmendOrderRequest request = new AmendOrderRequest();
+        request.setPrice(new BigDecimal("160.00"));
+        when(orderRepository.findWithLockById(orderId)).thenReturn(Optional.of(order));
+        when(assetRepository.findByCustomerIdAndAssetNameWithLock(eq(1L), eq("TRY")))
+                .thenReturn(Optional.of(tryAsset));
+        when(orderRepository.save(any(Order.class))).thenReturn(order);
+
+        orderService.amendOrder(orderId, request, 1L, false);
+
+        assertEquals(0, new BigDecimal("98400.00").compareTo(tryAsset.getUsableSize()));
+        assertTrue(order.getCreateDate().isAfter(createDate));
+    }
+
+    @Test
+    void amendOrder_InsufficientUsableSize_ThrowsAndLeavesOrderUnchanged() {
+        Long orderId = 1L;
+        tryAsset.setUsableSize(new BigDecimal("50.00"));
+        AmendOrderRequest request = new AmendOrderRequest();
+        request.setSize(new BigDecimal("11.00"));
+        when(orderRepository.findWithLockById(orderId)).thenReturn(Optional.of(order));
+        when(assetRepository.findByCustomerIdAndAssetNameWithLock(eq(1L), eq("TRY")))
+                .thenReturn(Optional.of(tryAsset));
+
+        assertThrows(InsufficientUsableSizeException.class, () -> orderService.amendOrder(orderId, request, 1L, false));
+        assertEquals(0, new BigDecimal("10.00").compareTo(order.getSize()));
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    void amendOrder_SizeNotAboveFilledSize_ThrowsBadRequestException() {
+        Long orderId = 1L;
+        order.setFilledSize(new BigDecimal("4.00"));
+        order.setStatus(OrderStatus.PARTIALLY_FILLED);
+        AmendOrderRequest request = new AmendOrderRequest();
+        request.setSize(new BigDecimal("4.00"));
+        when(orderRepository.findWithLockById(orderId)).thenReturn(Optional.of(order));
+
+        assertThrows(BadRequestException.class, () -> orderService.amendOrder(orderId, request, 1L, false));
+        verify(assetRepository, never()).findByCustomerIdAndAssetNameWithLock(any(), any());
+    }
+}
@@ -0,0 +1,107 @@
+package com.inghubs.brokage_service.service;
+
+import com.inghubs.brokage_service.dto.response.AssetResponse;
+import com.inghubs.brokage_service.exception.ForbiddenException;
+import com.inghubs.brokage_service.exception.NotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReadCoalescerTest {
+
+    @Mock
+    private AssetService assetService;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private CustomerVersionTracker customerVersionTracker;
+
+    private ReadCoalescer readCoalescer;
+
+    @BeforeEach
+    void setUp() {
+        readCoalescer = new ReadCoalescer(assetService, orderService, customerVersionTracker, true);
+    }
+
+    @Test
+    void listAssets_ConcurrentIdenticalReads_QueryOnce() throws Exception {
+        List<AssetResponse> assets = List.of(AssetResponse.builder()
+                .customerId(2L).assetName("TRY").size(BigDecimal.TEN).usableSize(BigDecimal.TEN).build());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(assetService.listAssets(eq(2L), isNull(), anyLong(), anyBoolean())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return assets;
+        });
+
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<List<AssetResponse>>> results = new ArrayList<>();
+            results.add(executor.submit(() -> readCoalescer.listAssets(2L, null, 2L, false)));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            for (int i = 1; i < callers; i++) {
+                results.add(executor.submit(() -> readCoalescer.listAssets(2L, null, 1L, true)));
+            }
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<List<AssetResponse>> result : results) {
+                assertSame(assets, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(assetService, times(1)).listAssets(eq(2L), isNull(), anyLong(), anyBoolean());
+    }
+
+    @Test
+    void listAssets_OtherCustomer_ThrowsForbiddenWithoutQuery() {
+        ForbiddenException exception = assertThrows(ForbiddenException.class,
+                () -> readCoalescer.listAssets(2L, null, 3L, false));
+
+        assertEquals("You can only view your own assets", exception.getMessage());
+        verifyNoInteractions(assetService);
+    }
+
+    @Test
+    void listOrders_OtherCustomer_ThrowsForbiddenWithoutQuery() {
+        ForbiddenException exception = assertThrows(ForbiddenException.class,
+                () -> readCoalescer.listOrders(2L, null, null, null, 3L, false));
+
+        assertEquals("You can only view your own orders", exception.getMessage());
+        verifyNoInteractions(orderService);
+    }
+
+    @Test
+    void listAssets_QueryFails_ExceptionPropagatesAndKeyIsReleased() {
+        when(assetService.listAssets(99L, null, 1L, true))
+                .thenThrow(new NotFoundException("Customer not found with id: 99"));
+
+        assertThrows(NotFoundException.class, () -> readCoalescer.listAssets(99L, null, 1L, true));
+        assertThrows(NotFoundException.class, () -> readCoalescer.listAssets(99L, null, 1L, true));
+        verify(assetService, times(2)).listAssets(99L, null, 1L, true);
+    }
+}
@@ -0,0 +1,272 @@
+package com.inghubs.brokage_service.service;
+
+import com.inghubs.brokage_service.config.RiskProperties;
+import com.inghubs.brokage_service.exception.RiskLimitExceededException;
+import com.inghubs.brokage_service.model.enums.OrderSide;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.AbstractReactiveTransactionManager;
+import org.springframework.transaction.reactive.GenericReactiveTransaction;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RiskEngineTest {
+
+    private static final long DAY = 20_000;
+
+    private RiskEngine riskEngine;
+    private final TestTransactionManager transactionManager = new TestTransactionManager();
+    private final TransactionalOperator transactionalOperator = TransactionalOperator.create(transactionManager);
+
+    @BeforeEach
+    void setUp() {
+        RiskProperties properties = new RiskProperties();
+        properties.setEnabled(true);
+        properties.getDefaults().setMaxOrderNotional(new BigDecimal("10000"));
+        properties.getDefaults().setMaxOpenOrders(2);
+        properties.getDefaults().setMaxPosition(new BigDecimal("50"));
+        properties.getDefaults().setMaxDailyVolume(new BigDecimal("15000"));
+        RiskProperties.Limits vip = new RiskProperties.Limits();
+        vip.setMaxOpenOrders(10);
+        properties.getCustomers().put(9L, vip);
+        riskEngine = new RiskEngine(properties, null);
+    }
+
+    @Test
+    void checkNewOrder_NotionalAboveLimit_Throws() {
+        RiskLimitExceededException exception = assertThrows(RiskLimitExceededException.class,
+                () -> buy(2L, "101", "100", DAY));
+        assertTrue(exception.getMessage().contains("order notional"));
+    }
+
+    @Test
+    void checkNewOrder_OpenOrdersExhausted_ThrowsUntilAnOrderCloses() {
+        sell(2L, "1", "10", DAY);
+        sell(2L, "1", "10", DAY);
+
+        assertThrows(RiskLimitExceededException.class, () -> sell(2L, "1", "10", DAY));
+
+        riskEngine.orderClosed(2L, "AAPL", OrderSide.SELL, BigDecimal.ONE);
+        assertDoesNotThrow(() -> sell(2L, "1", "10", DAY));
+    }
+
+    @Test
+    void checkNewOrder_CustomerOverride_KeepsOtherDefaults() {
+        for (int i = 0; i < 5; i++) {
+            sell(9L, "1", "10", DAY);
+        }
+
+        assertThrows(RiskLimitExceededException.class, () -> buy(9L, "200", "100", DAY));
+    }
+
+    @Test
+    void checkNewOrder_PositionLimit_CountsOpenBuysUntilCanceled() {
+        buy(2L, "40", "10", DAY);
+
+        assertThrows(RiskLimitExceededException.class, () -> buy(2L, "11", "10", DAY));
+
+        riskEngine.orderClosed(2L, "AAPL", OrderSide.BUY, new BigDecimal("40"));
+        assertDoesNotThrow(() -> buy(2L, "11", "10", DAY));
+    }
+
+    @Test
+    void checkNewOrder_DailyVolume_ResetsOnNextDay() {
+        riskEngine.checkNewOrder(3L, "AAPL", OrderSide.SELL, new BigDecimal("100"), new BigDecimal("90"), DAY);
+        riskEngine.orderClosed(3L, "AAPL", OrderSide.SELL, BigDecimal.ZERO);
+
+        assertThrows(RiskLimitExceededException.class, () -> sell(3L, "100", "90", DAY));
+        assertDoesNotThrow(() -> sell(3L, "100", "90", DAY + 1));
+    }
+
+    @Test
+    void checkNewOrder_RejectedCheck_LeavesCountersUnchanged() {
+        buy(2L, "45", "100", DAY);
+
+        // over the position limit; the open order and volume it would have taken are given back
+        assertThrows(RiskLimitExceededException.class, () -> buy(2L, "10", "100", DAY));
+        assertDoesNotThrow(() -> sell(2L, "5", "10", DAY));
+    }
+
+    @Test
+    void reactiveRollback_UndoesCheck() {
+        Mono<Void> failing = riskEngine.inReactiveTransaction(() -> buy(2L, "50", "100", DAY))
+                .then(Mono.error(new IllegalStateException("insert failed")));
+
+        StepVerifier.create(failing.as(transactionalOperator::transactional)).verifyError(IllegalStateException.class);
+
+        assertDoesNotThrow(() -> buy(2L, "50", "100", DAY));
+    }
+
+    @Test
+    void reactiveRollback_AfterDayRolledOver_LeavesNewDayVolume() {
+        long[] volumeDay = new long[1];
+        Mono<Void> failing = riskEngine.inReactiveTransaction(() -> volumeDay[0] = sell(9L, "90", "100", DAY))
+                // another order lands on the next day before this transaction rolls back
+                .then(Mono.fromRunnable(() -> sell(9L, "90", "100", DAY + 1)))
+                .then(Mono.error(new IllegalStateException("insert failed")));
+
+        StepVerifier.create(failing.as(transactionalOperator::transactional)).verifyError(IllegalStateException.class);
+
+        // the release belongs to the previous day; 9000 of today's 15000 are still taken
+        assertEquals(DAY, volumeDay[0]);
+        assertThrows(RiskLimitExceededException.class, () -> sell(9L, "90", "100", DAY + 1));
+    }
+
+    @Test
+    void reactiveCancel_UndoesCheck() {
+        Disposable subscription = riskEngine.inReactiveTransaction(() -> buy(2L, "50", "100", DAY))
+                .then(Mono.never())
+                .as(transactionalOperator::transactional)
+                .subscribe();
+
+        subscription.dispose();
+
+        assertDoesNotThrow(() -> buy(2L, "50", "100", DAY));
+    }
+
+    @Test
+    void reactiveFailedCommit_UndoesCheck() {
+        transactionManager.failCommit = true;
+
+        StepVerifier.create(riskEngine.inReactiveTransaction(() -> buy(2L, "50", "100", DAY))
+                .as(transactionalOperator::transactional)).verifyError();
+
+        assertDoesNotThrow(() -> buy(2L, "50", "100", DAY));
+    }
+
+    @Test
+    void reactiveOrderClosed_AppliesOnlyAfterCommit() {
+        buy(2L, "40", "10", DAY);
+        Mono<Void> cancel = riskEngine.inReactiveTransaction(
+                        () -> riskEngine.orderClosed(2L, "AAPL", OrderSide.BUY, new BigDecimal("40")))
+                .then(Mono.fromRunnable(() -> assertThrows(RiskLimitExceededException.class, () -> buy(2L, "11", "10", DAY))));
+
+        StepVerifier.create(cancel.as(transactionalOperator::transactional)).verifyComplete();
+
+        assertDoesNotThrow(() -> buy(2L, "11", "10", DAY));
+    }
+
+    @Test
+    void reactiveOrderClosed_NotAppliedWhenCommitFails() {
+        buy(2L, "40", "10", DAY);
+        transactionManager.failCommit = true;
+
+        StepVerifier.create(riskEngine.inReactiveTransaction(
+                        () -> riskEngine.orderClosed(2L, "AAPL", OrderSide.BUY, new BigDecimal("40")))
+                .as(transactionalOperator::transactional)).verifyError();
+
+        assertThrows(RiskLimitExceededException.class, () -> buy(2L, "11", "10", DAY));
+    }
+
+    @Test
+    void checkNewOrder_StaleDayAfterRollOver_CountsOnCurrentDay() {
+        sell(9L, "90", "100", DAY + 1);
+
+        assertEquals(DAY + 1, sell(9L, "50", "100", DAY));
+        assertThrows(RiskLimitExceededException.class, () -> sell(9L, "20", "100", DAY + 1));
+    }
+
+    @Test
+    void checkNewOrder_ConcurrentRollOver_CountsEveryCheckOnce() throws Exception {
+        RiskProperties properties = new RiskProperties();
+        properties.setEnabled(true);
+        properties.getDefaults().setMaxDailyVolume(new BigDecimal("15000"));
+        RiskEngine engine = new RiskEngine(properties, null);
+        engine.checkNewOrder(4L, "AAPL", OrderSide.SELL, new BigDecimal("140"), new BigDecimal("100"), DAY);
+
+        int threads = 8;
+        LongAdder accepted = new LongAdder();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 40; i++) {
+                        try {
+                            engine.checkNewOrder(4L, "AAPL", OrderSide.SELL, BigDecimal.ONE, new BigDecimal("100"), DAY + 1);
+                            accepted.increment();
+                        } catch (RiskLimitExceededException e) {
+                            // over the new day's limit
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // the roll-over starts the day from zero exactly once, so exactly 15000 / 100 checks fit
+        assertEquals(150, accepted.sum());
+    }
+
+    @Test
+    void checkNewOrder_Disabled_NeverThrows() {
+        RiskProperties properties = new RiskProperties();
+        properties.getDefaults().setMaxOrderNotional(BigDecimal.ONE);
+        RiskEngine disabled = new RiskEngine(properties, null);
+
+        assertDoesNotThrow(() -> disabled.checkNewOrder(2L, "AAPL", OrderSide.BUY,
+                new BigDecimal("1000"), new BigDecimal("1000"), DAY));
+    }
+
+    private long buy(Long customerId, String size, String price, long day) {
+        return riskEngine.checkNewOrder(customerId, "AAPL", OrderSide.BUY, new BigDecimal(size), new BigDecimal(price), day);
+    }
+
+    private long sell(Long customerId, String size, String price, long day) {
+        return riskEngine.checkNewOrder(customerId, "AAPL", OrderSide.SELL, new BigDecimal(size), new BigDecimal(price), day);
+    }
+
+    /**
+     * A reactive transaction manager without a resource, so only synchronization and completion run.
+     */
+    private static final class TestTransactionManager extends AbstractReactiveTransactionManager {
+        private boolean failCommit;
+
+        @Override
+        protected Object doGetTransaction(TransactionSynchronizationManager synchronizationManager) {
+            return new Object();
+        }
+
+        @Override
+        protected Mono<Void> doBegin(TransactionSynchronizationManager synchronizationManager, Object transaction,
+                                     TransactionDefinition definition) {
+            return Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> doCommit(TransactionSynchronizationManager synchronizationManager,
+                                      GenericReactiveTransaction status) {
+            return failCommit ? Mono.error(new IllegalStateException("commit failed")) : Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> doRollback(TransactionSynchronizationManager synchronizationManager,
+                                        GenericReactiveTransaction status) {
+            return Mono.empty();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.inghubs.brokage_service.service;
+
+import com.inghubs.brokage_service.dto.request.CreateOrderRequest;
+import com.inghubs.brokage_service.dto.response.AssetResponse;
+import com.inghubs.brokage_service.model.entity.Asset;
+import com.inghubs.brokage_service.model.entity.Customer;
+import com.inghubs.brokage_service.model.entity.SettlementCheckpoint;
+import com.inghubs.brokage_service.model.entity.SettlementRun;
+import com.inghubs.brokage_service.model.enums.OrderSide;
+import com.inghubs.brokage_service.model.enums.SettlementStatus;
+import com.inghubs.brokage_service.model.enums.UserRole;
+import com.inghubs.brokage_service.repository.AssetRepository;
+import com.inghubs.brokage_service.repository.CustomerRepository;
+import com.inghubs.brokage_service.repository.SettlementCheckpointRepository;
+import com.inghubs.brokage_service.repository.SettlementRunRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs DEFERRED fills through the settlement batch against H2, with one customer id per chunk so that
+ * every chunk boundary and checkpoint is exercised.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:settlement_${random.uuid}",
+        "spring.jpa.show-sql=false",
+        "settlement.mode=DEFERRED",
+        "settlement.cron=-",
+        "settlement.partitions=2",
+        "settlement.chunk-size=1"
+})
+class SettlementServiceTest {
+
+    private static final BigDecimal INITIAL_TRY = new BigDecimal("10000.00");
+    private static final BigDecimal INITIAL_STOCK = new BigDecimal("100.00");
+
+    @Autowired
+    private SettlementService settlementService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private AssetService assetService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private SettlementRunRepository settlementRunRepository;
+
+    @Autowired
+    private SettlementCheckpointRepository settlementCheckpointRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void settle_NetsDeferredFillsPerCustomerAndAsset() {
+        Long buyer = seedCustomer();
+        Long seller = seedCustomer();
+        Long buyId = createOrder(buyer, OrderSide.BUY, "10", "150");
+        orderService.matchOrder(buyId, new BigDecimal("4"), new BigDecimal("140"));
+        orderService.matchOrder(buyId, new BigDecimal("6"), new BigDecimal("150"));
+        Long sellId = createOrder(seller, OrderSide.SELL, "5", "100");
+        orderService.matchOrder(sellId, null, new BigDecimal("110"));
+
+        // nothing moves until settlement; the reservations still hold the filled amounts
+        assertBalance(buyer, "TRY", "10000.00", "8500.00");
+        assertBalance(buyer, "AAPL", "100.00", "100.00");
+        assertBalance(seller, "AAPL", "100.00", "95.00");
+
+        SettlementRun run = settlementService.settle().orElseThrow();
+
+        assertEquals(SettlementStatus.COMPLETED, run.getStatus());
+        assertEquals(3L, run.getSettledFills());
+        // 4 * 140 + 6 * 150 = 1460 spent, 4 * (150 - 140) of the reservation returned
+        assertBalance(buyer, "TRY", "8540.00", "8540.00");
+        assertBalance(buyer, "AAPL", "110.00", "110.00");
+        assertBalance(seller, "AAPL", "95.00", "95.00");
+        assertBalance(seller, "TRY", "10550.00", "10550.00");
+        assertEquals(0, settlementService.unsettledFills());
+
+        // a second run finds nothing and changes nothing
+        assertTrue(settlementService.settle().isEmpty());
+        assertBalance(buyer, "TRY", "8540.00", "8540.00");
+    }
+
+    @Test
+    void settle_InterruptedRun_ResumesFromCheckpoint() {
+        Long first = seedCustomer();
+        Long second = seedCustomer();
+        orderService.matchOrder(createOrder(first, OrderSide.SELL, "2", "50"), null, null);
+        orderService.matchOrder(createOrder(second, OrderSide.SELL, "3", "50"), null, null);
+        Long maxFillId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM order_fills", Long.class);
+
+        // a run that crashed after committing every customer up to the first one
+        SettlementRun interrupted = settlementRunRepository.save(SettlementRun.builder()
+                .maxFillId(maxFillId)
+                .status(SettlementStatus.RUNNING)
+                .startDate(LocalDateTime.now())
+                .build());
+        settlementCheckpointRepository.save(SettlementCheckpoint.builder()
+                .runId(interrupted.getId())
+                .partitionIndex(0)
+                .lastCustomerId(first)
+                .rangeEnd(second)
+                .build());
+
+        SettlementRun resumed = settlementService.settle().orElseThrow();
+
+        assertEquals(interrupted.getId(), resumed.getId());
+        assertEquals(SettlementStatus.COMPLETED, resumed.getStatus());
+        assertBalance(second, "TRY", "10150.00", "10150.00");
+        // behind the checkpoint, so not settled again by the resumed run
+        assertBalance(first, "TRY", "10000.00", "10000.00");
+        assertEquals(1, settlementService.unsettledFills());
+
+        settlementService.settle().orElseThrow();
+        assertBalance(first, "TRY", "10100.00", "10100.00");
+        assertBalance(first, "AAPL", "98.00", "98.00");
+    }
+
+    private Long createOrder(Long customerId, OrderSide side, String size, String price) {
+        CreateOrderRequest request = new CreateOrderRequest();
+        request.setCustomerId(customerId);
+        request.setAssetName("AAPL");
+        request.setOrderSide(side);
+        request.setSize(new BigDecimal(size));
+        request.setPrice(new BigDecimal(price));
+        return orderService.createOrder(request, customerId, false).getId();
+    }
+
+    private void assertBalance(Long customerId, String assetName, String size, String usableSize) {
+        AssetResponse asset = assets(customerId).get(assetName);
+        assertNotNull(asset, assetName + " missing for customer " + customerId);
+        assertEquals(0, new BigDecimal(size).compareTo(asset.getSize()), assetName + " size " + asset.getSize());
+        assertEquals(0, new BigDecimal(usableSize).compareTo(asset.getUsableSize()),
+                assetName + " usableSize " + asset.getUsableSize());
+    }
+
+    private Map<String, AssetResponse> assets(Long customerId) {
+        return assetService.listAssets(customerId, null, customerId, false).stream()
+                .collect(Collectors.toMap(AssetResponse::getAssetName, Function.identity()));
+    }
+
+    private Long seedCustomer() {
+        String username = "settlement-" + UUID.randomUUID();
+        Customer customer = customerRepository.save(Customer.builder()
+                .username(username)
+                .password("unused")
+                .email(username + "@example.com")
+                .role(UserRole.CUSTOMER)
+                .build());
+        assetRepository.save(Asset.builder()
+                .customer(customer)
+                .assetName("TRY")
+                .size(INITIAL_TRY)
+                .usableSize(INITIAL_TRY)
+                .build());
+        assetRepository.save(Asset.builder()
+                .customer(customer)
+                .assetName("AAPL")
+                .size(INITIAL_STOCK)
+                .usableSize(INITIAL_STOCK)
+                .build());
+        return customer.getId();
+    }
+}
@@ -0,0 +1,92 @@
+package com.inghubs.brokage_service.service;
+
+import com.inghubs.brokage_service.exception.BadRequestException;
+import com.inghubs.brokage_service.model.entity.StopOrder;
+import com.inghubs.brokage_service.model.enums.OrderSide;
+import com.inghubs.brokage_service.model.enums.StopOrderStatus;
+import com.inghubs.brokage_service.repository.StopOrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StopOrderActivatorTest {
+
+    @Mock
+    private StopOrderRepository stopOrderRepository;
+
+    @Mock
+    private StopOrderService stopOrderService;
+
+    @Mock
+    private LastTradePrices lastTradePrices;
+
+    private StopTriggerBook stopTriggerBook;
+    private StopOrderActivator activator;
+
+    @BeforeEach
+    void setUp() {
+        stopTriggerBook = new StopTriggerBook(stopOrderRepository);
+        activator = new StopOrderActivator(stopTriggerBook, stopOrderService, lastTradePrices);
+    }
+
+    @Test
+    void onStopOrderPlaced_NotCrossed_WaitsInIndex() {
+        when(lastTradePrices.lastPrice("AAPL")).thenReturn(Optional.of(new BigDecimal("150.00")));
+
+        activator.onStopOrderPlaced(new StopOrderPlacedEvent(stop(1L, OrderSide.BUY, "155.00")));
+
+        assertEquals(1, stopTriggerBook.size());
+        verifyNoInteractions(stopOrderService);
+    }
+
+    @Test
+    void onStopOrderPlaced_CrossedBeforeIndexed_ActivatesImmediately() {
+        // a fill at 156 committed after the stop was validated but before it was indexed
+        when(lastTradePrices.lastPrice("AAPL")).thenReturn(Optional.of(new BigDecimal("156.00")));
+
+        activator.onStopOrderPlaced(new StopOrderPlacedEvent(stop(1L, OrderSide.BUY, "155.00")));
+
+        verify(stopOrderService).activate(1L);
+        assertEquals(0, stopTriggerBook.size());
+    }
+
+    @Test
+    void onStopOrderPlaced_NoTradesYet_WaitsInIndex() {
+        when(lastTradePrices.lastPrice("AAPL")).thenReturn(Optional.empty());
+
+        activator.onStopOrderPlaced(new StopOrderPlacedEvent(stop(1L, OrderSide.SELL, "140.00")));
+
+        assertEquals(1, stopTriggerBook.size());
+        verifyNoInteractions(stopOrderService);
+    }
+
+    @Test
+    void onOrderFilled_RejectedActivation_IsRecorded() {
+        stopTriggerBook.add(stop(2L, OrderSide.SELL, "140.00"));
+        doThrow(new BadRequestException("Insufficient AAPL balance")).when(stopOrderService).activate(2L);
+
+        activator.onOrderFilled(new OrderFilledEvent("AAPL", new BigDecimal("139.00")));
+
+        verify(stopOrderService).reject(2L, "Insufficient AAPL balance");
+        assertEquals(0, stopTriggerBook.size());
+    }
+
+    private static StopOrder stop(Long id, OrderSide side, String stopPrice) {
+        return StopOrder.builder()
+                .id(id)
+                .assetName("AAPL")
+                .orderSide(side)
+                .stopPrice(new BigDecimal(stopPrice))
+                .status(StopOrderStatus.WAITING)
+                .build();
+    }
+}
@@ -0,0 +1,147 @@
+package com.inghubs.brokage_service.service;
+
+import com.inghubs.brokage_service.dto.request.CreateOrderRequest;
+import com.inghubs.brokage_service.dto.response.OrderResponse;
+import com.inghubs.brokage_service.exception.BadRequestException;
+import com.inghubs.brokage_service.mapper.StopOrderMapper;
+import com.inghubs.brokage_service.model.entity.Customer;
+import com.inghubs.brokage_service.model.entity.StopOrder;
+import com.inghubs.brokage_service.model.enums.OrderSide;
+import com.inghubs.brokage_service.model.enums.OrderType;
+import com.inghubs.brokage_service.model.enums.StopOrderStatus;
+import com.inghubs.brokage_service.model.enums.UserRole;
+import com.inghubs.brokage_service.repository.CustomerRepository;
+import com.inghubs.brokage_service.repository.StopOrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StopOrderServiceTest {
+
+    @Mock
+    private StopOrderRepository stopOrderRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private LastTradePrices lastTradePrices;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private StopTriggerBook stopTriggerBook;
+
+    @Mock
+    private StopOrderMapper stopOrderMapper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private StopOrderService stopOrderService;
+
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        customer = Customer.builder()
+                .id(1L)
+                .username("customer1")
+                .email("customer1@example.com")
+                .role(UserRole.CUSTOMER)
+                .build();
+    }
+
+    @Test
+    void createStopOrder_BuyStop_IsPublishedForIndexing() {
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
+        when(lastTradePrices.lastPrice("AAPL")).thenReturn(Optional.of(new BigDecimal("150.00")));
+        when(stopOrderRepository.save(any(StopOrder.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        stopOrderService.createStopOrder(request(OrderType.STOP, OrderSide.BUY, "155.00", null), 1L, false);
+
+        verify(stopOrderRepository).save(argThat(stop -> stop.getStatus() == StopOrderStatus.WAITING));
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof StopOrderPlacedEvent placed
+                && placed.stopOrder().getStopPrice().equals(new BigDecimal("155.00"))));
+    }
+
+    @Test
+    void createStopOrder_AlreadyCrossed_ThrowsBadRequestException() {
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
+        when(lastTradePrices.lastPrice("AAPL")).thenReturn(Optional.of(new BigDecimal("150.00")));
+
+        assertThrows(BadRequestException.class, () -> stopOrderService.createStopOrder(
+                request(OrderType.STOP, OrderSide.SELL, "155.00", null), 1L, false));
+        verify(stopOrderRepository, never()).save(any());
+    }
+
+    @Test
+    void createStopOrder_StopLimitWithoutPrice_ThrowsBadRequestException() {
+        assertThrows(BadRequestException.class, () -> stopOrderService.createStopOrder(
+                request(OrderType.STOP_LIMIT, OrderSide.BUY, "155.00", null), 1L, false));
+        verify(stopOrderRepository, never()).save(any());
+    }
+
+    @Test
+    void activate_StopLimit_SubmitsLimitOrder() {
+        StopOrder stop = StopOrder.builder()
+                .id(5L)
+                .customer(customer)
+                .assetName("AAPL")
+                .orderSide(OrderSide.BUY)
+                .orderType(OrderType.STOP_LIMIT)
+                .size(new BigDecimal("10.00"))
+                .stopPrice(new BigDecimal("155.00"))
+                .limitPrice(new BigDecimal("156.00"))
+                .status(StopOrderStatus.WAITING)
+                .build();
+        when(stopOrderRepository.findWithLockById(5L)).thenReturn(Optional.of(stop));
+        when(orderService.createOrder(argThat(order -> order.getOrderType() == OrderType.LIMIT
+                && new BigDecimal("156.00").equals(order.getPrice())), isNull(), eq(true)))
+                .thenReturn(OrderResponse.builder().id(42L).build());
+
+        stopOrderService.activate(5L);
+
+        assertEquals(StopOrderStatus.TRIGGERED, stop.getStatus());
+        assertEquals(42L, stop.getOrderId());
+    }
+
+    @Test
+    void activate_AlreadyCanceled_DoesNothing() {
+        StopOrder stop = StopOrder.builder().id(5L).status(StopOrderStatus.CANCELED).build();
+        when(stopOrderRepository.findWithLockById(5L)).thenReturn(Optional.of(stop));
+
+        stopOrderService.activate(5L);
+
+        verifyNoInteractions(orderService);
+    }
+
+    private static CreateOrderRequest request(OrderType type, OrderSide side, String stopPrice, String price) {
+        CreateOrderRequest request = new CreateOrderRequest();
+        request.setCustomerId(1L);
+        request.setAssetName("AAPL");
+        request.setOrderSide(side);
+        request.setOrderType(type);
+        request.setSize(new BigDecimal("10.00"));
+        request.setStopPrice(new BigDecimal(stopPrice));
+        request.setPrice(price == null ? null : new BigDecimal(price));
+        return request;
+    }
+}
@@ -0,0 +1,92 @@
+package com.inghubs.brokage_service.service;
+
+import com.inghubs.brokage_service.model.entity.StopOrder;
+import com.inghubs.brokage_service.model.enums.OrderSide;
+import com.inghubs.brokage_service.model.enums.StopOrderStatus;
+import com.inghubs.brokage_service.repository.StopOrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StopTriggerBookTest {
+
+    @Mock
+    private StopOrderRepository stopOrderRepository;
+
+    private StopTriggerBook book;
+
+    @BeforeEach
+    void setUp() {
+        book = new StopTriggerBook(stopOrderRepository);
+    }
+
+    @Test
+    void popCrossed_RisingPrice_PopsBuyStopsAtOrBelowPrice() {
+        book.add(stop(1L, "AAPL", OrderSide.BUY, "150.00"));
+        book.add(stop(2L, "AAPL", OrderSide.BUY, "155.00"));
+        book.add(stop(3L, "AAPL", OrderSide.BUY, "160.00"));
+        book.add(stop(4L, "AAPL", OrderSide.SELL, "140.00"));
+
+        assertEquals(List.of(1L, 2L), book.popCrossed("AAPL", new BigDecimal("155")));
+        assertEquals(2, book.size());
+        assertTrue(book.popCrossed("AAPL", new BigDecimal("155")).isEmpty());
+    }
+
+    @Test
+    void popCrossed_FallingPrice_PopsSellStopsAtOrAbovePrice() {
+        book.add(stop(1L, "AAPL", OrderSide.SELL, "140.00"));
+        book.add(stop(2L, "AAPL", OrderSide.SELL, "130.00"));
+        book.add(stop(3L, "AAPL", OrderSide.SELL, "140.00"));
+
+        assertEquals(List.of(1L, 3L), book.popCrossed("AAPL", new BigDecimal("135.00")));
+        assertEquals(List.of(2L), book.popCrossed("AAPL", new BigDecimal("120.00")));
+    }
+
+    @Test
+    void popCrossed_OtherAsset_PopsNothing() {
+        book.add(stop(1L, "AAPL", OrderSide.BUY, "150.00"));
+
+        assertTrue(book.popCrossed("MSFT", new BigDecimal("200.00")).isEmpty());
+        assertEquals(1, book.size());
+    }
+
+    @Test
+    void remove_CanceledStop_IsNotPopped() {
+        StopOrder canceled = stop(1L, "AAPL", OrderSide.BUY, "150.00");
+        book.add(canceled);
+        book.add(stop(2L, "AAPL", OrderSide.BUY, "150.00"));
+
+        book.remove(canceled);
+
+        assertEquals(List.of(2L), book.popCrossed("AAPL", new BigDecimal("150.00")));
+    }
+
+    @Test
+    void initialize_LoadsWaitingStops() {
+        when(stopOrderRepository.findByStatus(StopOrderStatus.WAITING))
+                .thenReturn(List.of(stop(7L, "AAPL", OrderSide.SELL, "90.00")));
+
+        book.initialize();
+
+        assertEquals(List.of(7L), book.popCrossed("AAPL", new BigDecimal("89.99")));
+    }
+
+    private static StopOrder stop(Long id, String assetName, OrderSide side, String stopPrice) {
+        return StopOrder.builder()
+                .id(id)
+                .assetName(assetName)
+                .orderSide(side)
+                .stopPrice(new BigDecimal(stopPrice))
+                .status(StopOrderStatus.WAITING)
+                .build();
+    }
+}
@@ -0,0 +1,77 @@
+package com.inghubs.brokage_service.service;
+
+import com.inghubs.brokage_service.config.JwtUtil;
+import com.inghubs.brokage_service.exception.BadRequestException;
+import com.inghubs.brokage_service.model.entity.RevokedToken;
+import com.inghubs.brokage_service.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationService = new TokenRevocationService(revokedTokenRepository, jwtUtil, 1000, 0.001);
+    }
+
+    @Test
+    void isRevoked_UnknownToken_DoesNotQueryStore() {
+        assertFalse(tokenRevocationService.isRevoked("token-id-1"));
+        assertFalse(tokenRevocationService.isRevoked(null));
+        verify(revokedTokenRepository, never()).existsById(anyString());
+    }
+
+    @Test
+    void revoke_SavesTokenAndIsRevoked() {
+        when(jwtUtil.extractTokenId("jwt")).thenReturn("token-id-1");
+        when(jwtUtil.extractUsername("jwt")).thenReturn("customer1");
+        when(jwtUtil.extractExpiration("jwt")).thenReturn(new Date(System.currentTimeMillis() + 60000));
+        when(revokedTokenRepository.existsById("token-id-1")).thenReturn(true);
+
+        tokenRevocationService.revoke("jwt");
+
+        assertTrue(tokenRevocationService.isRevoked("token-id-1"));
+        verify(revokedTokenRepository).save(any(RevokedToken.class));
+        verify(revokedTokenRepository).existsById("token-id-1");
+    }
+
+    @Test
+    void revoke_TokenWithoutId_ThrowsBadRequestException() {
+        when(jwtUtil.extractTokenId("jwt")).thenReturn(null);
+
+        assertThrows(BadRequestException.class, () -> tokenRevocationService.revoke("jwt"));
+        verify(revokedTokenRepository, never()).save(any());
+    }
+
+    @Test
+    void rebuildFilter_LoadsActiveTokensFromStore() {
+        when(revokedTokenRepository.findActiveTokenIds(any())).thenReturn(List.of("token-id-1", "token-id-2"));
+        when(revokedTokenRepository.existsById(anyString())).thenReturn(true);
+
+        tokenRevocationService.rebuildFilter();
+
+        assertTrue(tokenRevocationService.isRevoked("token-id-1"));
+        assertTrue(tokenRevocationService.isRevoked("token-id-2"));
+        verify(revokedTokenRepository).deleteExpired(any());
+    }
+}